@@ -5,6 +5,7 @@ import garuntimeenv.envcomponents.datalog.DataManager;
 import garuntimeenv.envcomponents.datalog.DataSeries;
 import garuntimeenv.gacomponents.Config;
 import garuntimeenv.gacomponents.GAManager;
+import garuntimeenv.gacomponents.IslandModel;
 import garuntimeenv.interfaces.IProblem;
 import garuntimeenv.interfaces.Property;
 import garuntimeenv.runtimeexceptions.DataTypeNotSupportedException;
@@ -200,6 +201,10 @@ public class Starter {
      * @param currentConfig The configuration the ga should run on
      */
     private void startGAInstance(Config currentConfig) {
+        if (currentConfig.getIslands() > 1) {
+            new IslandModel(this.problem, currentConfig).startEnvironment();
+            return;
+        }
         GAManager runtimeEnvironment = new GAManager(this.problem, currentConfig);
         runtimeEnvironment.startEnvironment();
     }
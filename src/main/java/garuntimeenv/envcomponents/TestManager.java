@@ -3,13 +3,20 @@ package garuntimeenv.envcomponents;
 import garuntimeenv.envcomponents.datalog.DataManager;
 import garuntimeenv.envcomponents.propertys.*;
 import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.geneticoperators.crossover.GOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.JOX;
 import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
 import garuntimeenv.gacomponents.geneticoperators.crossover.OX;
 import garuntimeenv.gacomponents.geneticoperators.crossover.PMX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.PPX;
 import garuntimeenv.gacomponents.geneticoperators.mutations.InsertionMutation;
 import garuntimeenv.gacomponents.geneticoperators.mutations.InversionMutation;
 import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.geneticoperators.selections.LinearRankSelection;
 import garuntimeenv.gacomponents.geneticoperators.selections.RouletteWheelSelection;
+import garuntimeenv.gacomponents.geneticoperators.selections.StochasticUniversalSampling;
+import garuntimeenv.gacomponents.geneticoperators.selections.TournamentSelection;
+import garuntimeenv.gacomponents.jobshop.JobShopGifflerThompsonRep;
 import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
 import garuntimeenv.interfaces.*;
 import garuntimeenv.utils.MyLogger;
@@ -66,10 +73,10 @@ public class TestManager {
      */
     private TestManager() {
         setUpValueProperties();
-//        setToBeTestedProbRep();
+        setToBeTestedProbRep();
         setToBeTestedCrossOver();
         setToBeTestedMutations();
-//        setToBeTestedSelectionStrategy();
+        setToBeTestedSelectionStrategy();
         this.dataEvaluator = new DataEvaluator();
 
         this.hyperParameters = new HyperParameter[properties.size()];
@@ -291,6 +298,7 @@ public class TestManager {
     private void setToBeTestedProbRep() {
         List<Property> toBeTestedProbRep = new ArrayList<>();
         toBeTestedProbRep.add(new JobShopPreferenceListRep());
+        toBeTestedProbRep.add(new JobShopGifflerThompsonRep());
         ListHyperParameter selectionProperties = new ListHyperParameter(testProperties.toBeTestedRepresentation, toBeTestedProbRep);
         this.properties.put(testProperties.toBeTestedRepresentation, selectionProperties);
     }
@@ -303,6 +311,9 @@ public class TestManager {
         toBeTestedCrossOver.add(new LOX());
         toBeTestedCrossOver.add(new PMX());
         toBeTestedCrossOver.add(new OX());
+        toBeTestedCrossOver.add(new JOX());
+        toBeTestedCrossOver.add(new GOX());
+        toBeTestedCrossOver.add(new PPX());
         SetHyperParameter crossOverProperty = new SetHyperParameter(testProperties.crossOverOperators, toBeTestedCrossOver);
         this.properties.put(testProperties.crossOverOperators, crossOverProperty);
     }
@@ -326,6 +337,10 @@ public class TestManager {
     private void setToBeTestedSelectionStrategy() {
         List<Property> selectionOperatorsToBeTested = new ArrayList<>();
         selectionOperatorsToBeTested.add(new RouletteWheelSelection());
+        selectionOperatorsToBeTested.add(new TournamentSelection(2));
+        selectionOperatorsToBeTested.add(new TournamentSelection(4));
+        selectionOperatorsToBeTested.add(new LinearRankSelection());
+        selectionOperatorsToBeTested.add(new StochasticUniversalSampling());
         ListHyperParameter selectionProperties = new ListHyperParameter(testProperties.toBeTestedSelection, selectionOperatorsToBeTested);
         this.properties.put(testProperties.toBeTestedSelection, selectionProperties);
     }
@@ -215,6 +215,24 @@ public class DataManager {
         addDataPoint(dataName + "-mean", x, displayValue);
     }
 
+    /**
+     * Getter for the series in which the data is stored
+     *
+     * @return The current data series or null if none was created
+     */
+    public DataSeries getCurrentDataSeries() {
+        return currentDataSeries;
+    }
+
+    /**
+     * Record why the run of the current data series stopped
+     *
+     * @param terminationReason The termination reason
+     */
+    public void setTerminationReason(String terminationReason) {
+        this.currentDataSeries.setTerminationReason(terminationReason);
+    }
+
     /**
      * Get the data visualizer
      *
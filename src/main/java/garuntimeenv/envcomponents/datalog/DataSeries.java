@@ -22,6 +22,7 @@ public class DataSeries {
     private HashMap<String, DataSet> dataSetMap;
 
     private long runTime = -1;
+    private String terminationReason = null;    // Why the run stopped
 
     // Visual stuff
     private JPanel chart;
@@ -170,6 +171,24 @@ public class DataSeries {
         this.runTime = runTime;
     }
 
+    /**
+     * Returns the reason why the run of this series stopped
+     *
+     * @return The termination reason or null if the run didn't finish
+     */
+    public String getTerminationReason() {
+        return terminationReason;
+    }
+
+    /**
+     * Set the reason why the run of this series stopped
+     *
+     * @param terminationReason The termination reason
+     */
+    public void setTerminationReason(String terminationReason) {
+        this.terminationReason = terminationReason;
+    }
+
     /**
      * Return the tested property
      *
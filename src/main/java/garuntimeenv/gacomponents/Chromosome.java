@@ -2,12 +2,13 @@ package garuntimeenv.gacomponents;
 
 
 import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.IProblem;
+import garuntimeenv.interfaces.IProblemRepresentation;
 import garuntimeenv.interfaces.ISolution;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Class representing the chromosome of the genetic algorithm
@@ -15,9 +16,22 @@ import java.util.Objects;
 public class Chromosome {
 
     private Genome[] genome;                    // The subchromosomes as a genome array
-    private Number fitness = Double.NaN;        // The calculated fitness value
+    private double fitness = Double.NaN;        // The calculated fitness value
+    private Number boxedFitness;                // The fitness as number, boxed on the first request if not given
     private ISolution correspondingSolution;    // The corresponding solution
 
+    // Representation and problem the chromosome got evaluated with, used to decode the solution on request
+    private IProblemRepresentation representation;
+    private IProblem problem;
+
+    // State of a decoding owned by the representation, only kept while mutants of this chromosome get evaluated
+    private volatile Object decodingTrace;
+    private boolean decodingTraceRequested;     // Whether the next evaluation keeps the trace of its decoding
+
+    // The chromosome this one got mutated from and the first changed gene of each genome, until it is evaluated
+    private Chromosome mutationParent;
+    private int[] changedFrom;
+
     /**
      * Constructor that sets the genomes of the chromosomes
      *
@@ -39,12 +53,50 @@ public class Chromosome {
             genome[i] = new Genome(genomeLength);
     }
 
+    /**
+     * Create a copy with copied genomes that keeps the fitness and the evaluation context
+     * The solution and the decoding trace aren't copied, they get decoded again when requested
+     *
+     * @return The copy
+     */
+    public Chromosome copy() {
+        Genome[] copiedGenome = new Genome[genome.length];
+        for (int i = 0; i < genome.length; i++)
+            copiedGenome[i] = genome[i].copy();
+        Chromosome copy = new Chromosome(copiedGenome);
+        copy.fitness = this.fitness;
+        copy.boxedFitness = this.boxedFitness;
+        copy.representation = this.representation;
+        copy.problem = this.problem;
+        return copy;
+    }
+
     /**
      * Return the fitness of the chromosome
+     * A fitness set as primitive value is boxed as Integer or Long if it is a whole number, otherwise as Double
      *
      * @return The fitness value as Number
      */
     public Number getFitness() {
+        Number boxed = this.boxedFitness;
+        if (boxed == null) {
+            if (fitness == (int) fitness)
+                boxed = (int) fitness;
+            else if (fitness == (long) fitness)
+                boxed = (long) fitness;
+            else
+                boxed = fitness;
+            this.boxedFitness = boxed;
+        }
+        return boxed;
+    }
+
+    /**
+     * Return the fitness of the chromosome without boxing
+     *
+     * @return The fitness value or NaN if the chromosome isn't evaluated
+     */
+    public double getFitnessAsDouble() {
         return fitness;
     }
 
@@ -54,7 +106,18 @@ public class Chromosome {
      * @param fitness The new fitness value
      */
     public void setFitness(Number fitness) {
+        this.fitness = fitness.doubleValue();
+        this.boxedFitness = fitness;
+    }
+
+    /**
+     * Setter for the fitness value without boxing
+     *
+     * @param fitness The new fitness value
+     */
+    public void setFitness(double fitness) {
         this.fitness = fitness;
+        this.boxedFitness = null;
     }
 
     /**
@@ -65,10 +128,134 @@ public class Chromosome {
      * @return The fitness value
      */
     public Number calculateFitness(IFitnessFunction fitnessFunction) {
-        this.fitness = fitnessFunction.calculateFitness(correspondingSolution);
+        setFitness(fitnessFunction.calculateFitnessAsDouble(correspondingSolution));
+        return getFitness();
+    }
+
+    /**
+     * Evaluate the fitness of the chromosome without keeping the decoded solution.
+     * The solution is decoded again when it is requested by {@link #getCorrespondingSolution()}
+     *
+     * @param representation  The representation used to decode the chromosome
+     * @param problem         The problem instance used for decoding
+     * @param fitnessFunction The fitness function
+     * @return The fitness value
+     * @throws Exception If the chromosome can't be decoded
+     */
+    public double evaluate(IProblemRepresentation representation, IProblem problem,
+                           IFitnessFunction fitnessFunction) throws Exception {
+        return evaluate(representation, problem, fitnessFunction, null);
+    }
+
+    /**
+     * Evaluate the fitness of the chromosome and look it up in the {@code fitnessCache} first.
+     * The solution is decoded again when it is requested by {@link #getCorrespondingSolution()}
+     *
+     * @param representation  The representation used to decode the chromosome
+     * @param problem         The problem instance used for decoding
+     * @param fitnessFunction The fitness function
+     * @param fitnessCache    The cache of already calculated fitness values or null
+     * @return The fitness value
+     * @throws Exception If the chromosome can't be decoded
+     */
+    public double evaluate(IProblemRepresentation representation, IProblem problem,
+                           IFitnessFunction fitnessFunction, FitnessCache fitnessCache) throws Exception {
+        Number cachedFitness = null;
+        long fingerprint = 0;
+        if (fitnessCache != null) {
+            fingerprint = getFingerprint();
+            cachedFitness = fitnessCache.get(fingerprint);
+        }
+
+        if (cachedFitness != null) {
+            setFitness(cachedFitness);
+        } else {
+            setFitness(representation.calculateFitnessAsDouble(this, problem, fitnessFunction));
+            if (fitnessCache != null)
+                fitnessCache.put(fingerprint, getFitness());
+        }
+        this.correspondingSolution = null;
+        this.representation = representation;
+        this.problem = problem;
+        // The parent isn't needed anymore, don't keep the ancestors alive
+        this.mutationParent = null;
+        this.changedFrom = null;
+        this.decodingTraceRequested = false;
         return this.fitness;
     }
 
+    /**
+     * Getter for the decoding trace the mutants of this chromosome resume from
+     *
+     * @return The decoding trace of the representation or null if none is kept
+     */
+    public Object getDecodingTrace() {
+        return decodingTrace;
+    }
+
+    /**
+     * Setter for the state of the decoding, called by the representation when the trace was requested.
+     * The engine sets it to null once the mutants of the chromosome are evaluated or it leaves the population.
+     *
+     * @param decodingTrace The decoding trace, it mustn't be changed afterwards
+     */
+    public void setDecodingTrace(Object decodingTrace) {
+        this.decodingTrace = decodingTrace;
+    }
+
+    /**
+     * Request the representation to keep the trace of the next evaluation, so mutants can resume from it
+     * The decoding trace is only kept by representations supporting the delta evaluation of mutants.
+     */
+    public void requestDecodingTrace() {
+        this.decodingTraceRequested = true;
+    }
+
+    /**
+     * @return True if the trace of the next evaluation has to be kept
+     */
+    public boolean isDecodingTraceRequested() {
+        return decodingTraceRequested;
+    }
+
+    /**
+     * Remember the chromosome this one got mutated from, so the decoding can resume from the trace of the parent
+     *
+     * @param mutationParent The parent of the mutation
+     * @param changedFrom    The first changed position of each genome, the genome length if it is unchanged
+     */
+    public void setMutationOrigin(Chromosome mutationParent, int[] changedFrom) {
+        this.mutationParent = mutationParent;
+        this.changedFrom = changedFrom;
+    }
+
+    /**
+     * @return The chromosome this one got mutated from or null if it isn't an unevaluated mutant
+     */
+    public Chromosome getMutationParent() {
+        return mutationParent;
+    }
+
+    /**
+     * @return The first changed position of each genome compared to the mutation parent
+     */
+    public int[] getChangedFrom() {
+        return changedFrom;
+    }
+
+    /**
+     * Calculate the 64 bit fingerprint of the chromosome from the Zobrist fingerprints of its genomes
+     * The genomes keep their fingerprints up to date, so this only combines one value per genome
+     *
+     * @return The fingerprint of the chromosome
+     */
+    public long getFingerprint() {
+        long hash = 0;
+        for (int i = 0; i < genome.length; i++)
+            hash = hash * 0x9E3779B97F4A7C15L + genome[i].getFingerprint();
+        return Genome.mix(hash);
+    }
+
     /**
      * Getter for the genomes / subchromosomes
      *
@@ -92,10 +279,18 @@ public class Chromosome {
 
     /**
      * Getter for the corresponding solution
+     * If the chromosome was only evaluated the solution gets decoded on the first request
      *
-     * @return The corresponding solution
+     * @return The corresponding solution or null if the chromosome wasn't decoded
      */
     public ISolution getCorrespondingSolution() {
+        if (correspondingSolution == null && representation != null) {
+            try {
+                correspondingSolution = representation.createSolutionFromChromosome(this, problem);
+            } catch (Exception e) {
+                throw new IllegalStateException("The evaluated chromosome can't be decoded", e);
+            }
+        }
         return correspondingSolution;
     }
 
@@ -122,20 +317,18 @@ public class Chromosome {
 
     /**
      * Calculates the same hashcode for the same chromosome
-     * If the solution is set the solution will be used for the hash
+     * Only the genomes are used, since the solution may be decoded later on and the decoding is deterministic
      *
      * @return The hash for this chromosome
      */
     @Override
     public int hashCode() {
-        if (this.correspondingSolution == null)
-            return Arrays.hashCode(this.genome);
-        else
-            return this.correspondingSolution.hashCode();
+        long hash = getFingerprint();
+        return (int) (hash ^ (hash >>> 32));
     }
 
     /**
-     * Compares two chromosomes on equals. If the solution is set compare the solution
+     * Compares two chromosomes on equals. The decoded solution follows from the genomes and isn't compared
      * @param o
      * @return
      */
@@ -146,9 +339,8 @@ public class Chromosome {
 
         Chromosome that = (Chromosome) o;
 
-        // Probably incorrect - comparing Object[] arrays with Arrays.equals
+        if (getFingerprint() != that.getFingerprint()) return false;
         if (!Arrays.equals(genome, that.genome)) return false;
-        if (!Objects.equals(fitness, that.fitness)) return false;
-        return Objects.equals(correspondingSolution, that.correspondingSolution);
+        return Double.compare(fitness, that.fitness) == 0;
     }
 }
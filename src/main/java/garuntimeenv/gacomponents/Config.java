@@ -38,8 +38,28 @@ public class Config {
 
     private int hallOfFameSize = 300;                       // The size of the hall of fame
     private double hallOfFamePercentage = 0.2;              // The probability for a selected chromosome to come from the hall of fame
+    private int hallOfFameMinDistance = 0;                  // The minimum distance between hall of fame members, 0 disables it
+    private GenomeDistance hallOfFameDistance = GenomeDistance.HAMMING;   // The distance between hall of fame members
     private double selectionAggression = 0.;                // The selection aggresion
 
+    private int fitnessCacheSize = 10000;                   // The number of cached fitness values, 0 disables the cache
+    private FitnessCache.EvictionPolicy fitnessCacheEviction = FitnessCache.EvictionPolicy.LRU; // Eviction of the cache
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();  // Threads breeding and evaluating a generation
+    private Long seed = null;                               // Seed of the breeding, null draws one from the test manager
+
+    private boolean pipelined = false;                      // Evaluate the offsprings while the generation is bred
+    private int pipelineQueueSize = 64;                     // Bred offsprings waiting for their evaluation
+    private boolean deltaEvaluation = false;                // Mutants resume the decoding traces kept by their parents
+
+    private int islands = 1;                                // Number of islands, more than one runs the island model
+    private int migrationInterval = 10;                     // Generations between two migrations
+    private int migrationSize = 2;                          // Number of chromosomes each island sends per migration
+    private IslandModel.Topology migrationTopology = IslandModel.Topology.RING;    // Receiver of the migrants
+
+    // Criteria ending the run before the generation limit, the first criterion that triggers ends the run
+    private List<ITerminationCriterion> terminationCriteria = new ArrayList<>();
+
     // The used crossover and mutation operators
     private List<CrossoverOperators> crossoverOperators = new ArrayList<>();
     private List<IMutation> mutationOperators = new ArrayList<>();
@@ -225,5 +245,121 @@ public class Config {
         return this.selectionAggression;
     }
 
+    public int getFitnessCacheSize() {
+        return fitnessCacheSize;
+    }
+
+    public void setFitnessCacheSize(int fitnessCacheSize) {
+        this.fitnessCacheSize = fitnessCacheSize;
+    }
+
+    public FitnessCache.EvictionPolicy getFitnessCacheEviction() {
+        return fitnessCacheEviction;
+    }
+
+    public void setFitnessCacheEviction(FitnessCache.EvictionPolicy fitnessCacheEviction) {
+        this.fitnessCacheEviction = fitnessCacheEviction;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public List<ITerminationCriterion> getTerminationCriteria() {
+        return terminationCriteria;
+    }
+
+    public void setTerminationCriteria(List<ITerminationCriterion> terminationCriteria) {
+        this.terminationCriteria = terminationCriteria;
+    }
+
+    public void addTerminationCriterion(ITerminationCriterion terminationCriterion) {
+        this.terminationCriteria.add(terminationCriterion);
+    }
+
+    public int getHallOfFameMinDistance() {
+        return hallOfFameMinDistance;
+    }
+
+    public void setHallOfFameMinDistance(int hallOfFameMinDistance) {
+        this.hallOfFameMinDistance = hallOfFameMinDistance;
+    }
+
+    public GenomeDistance getHallOfFameDistance() {
+        return hallOfFameDistance;
+    }
+
+    public void setHallOfFameDistance(GenomeDistance hallOfFameDistance) {
+        this.hallOfFameDistance = hallOfFameDistance;
+    }
+
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    public int getPipelineQueueSize() {
+        return pipelineQueueSize;
+    }
+
+    public void setPipelineQueueSize(int pipelineQueueSize) {
+        this.pipelineQueueSize = pipelineQueueSize;
+    }
+
+    public boolean isDeltaEvaluation() {
+        return deltaEvaluation;
+    }
+
+    public void setDeltaEvaluation(boolean deltaEvaluation) {
+        this.deltaEvaluation = deltaEvaluation;
+    }
+
+    public int getIslands() {
+        return islands;
+    }
+
+    public void setIslands(int islands) {
+        this.islands = Math.max(1, islands);
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = migrationInterval;
+    }
+
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+
+    public void setMigrationSize(int migrationSize) {
+        this.migrationSize = migrationSize;
+    }
+
+    public IslandModel.Topology getMigrationTopology() {
+        return migrationTopology;
+    }
+
+    public void setMigrationTopology(IslandModel.Topology migrationTopology) {
+        this.migrationTopology = migrationTopology;
+    }
+
 
 }
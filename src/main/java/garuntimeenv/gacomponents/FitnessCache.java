@@ -0,0 +1,177 @@
+package garuntimeenv.gacomponents;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of calculated fitness values keyed by the 64 bit fingerprint of the chromosome.
+ * The cache is split into segments that are locked independently, so it can be used by parallel evaluations.
+ * Each segment evicts by the configured {@link EvictionPolicy} once it is full.
+ */
+public class FitnessCache {
+
+    /**
+     * The order in which the entries of a full cache get evicted
+     */
+    public enum EvictionPolicy {
+        LRU,    // Evict the least recently used entry
+        FIFO    // Evict the oldest inserted entry
+    }
+
+    private static final int maxSegments = 16;
+
+    private final Segment[] segments;
+    private final int capacity;
+    private final EvictionPolicy policy;
+
+    // Statistics to size the cache
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor creating an empty cache
+     *
+     * @param capacity The maximal number of cached fitness values
+     * @param policy   The eviction policy
+     */
+    public FitnessCache(int capacity, EvictionPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity of the fitness cache has to be positive");
+        this.capacity = capacity;
+        this.policy = policy;
+
+        // Small caches use one segment, so the eviction order is exact
+        int segmentCount = 1;
+        while (segmentCount < maxSegments && capacity / (segmentCount * 2) >= 1024)
+            segmentCount *= 2;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            this.segments[i] = new Segment(segmentCapacity, policy == EvictionPolicy.LRU);
+        }
+    }
+
+    /**
+     * Get the cached fitness of the chromosome with the {@code fingerprint}
+     *
+     * @param fingerprint The fingerprint of the chromosome
+     * @return The cached fitness or null if it isn't cached
+     */
+    public Number get(long fingerprint) {
+        Segment segment = segmentOf(fingerprint);
+        Number fitness;
+        synchronized (segment) {
+            fitness = segment.get(fingerprint);
+        }
+        if (fitness == null)
+            misses.increment();
+        else
+            hits.increment();
+        return fitness;
+    }
+
+    /**
+     * Cache the fitness of the chromosome with the {@code fingerprint}
+     *
+     * @param fingerprint The fingerprint of the chromosome
+     * @param fitness     The calculated fitness
+     */
+    public void put(long fingerprint, Number fitness) {
+        Segment segment = segmentOf(fingerprint);
+        synchronized (segment) {
+            segment.put(fingerprint, fitness);
+        }
+    }
+
+    /**
+     * Remove all cached values and reset the statistics
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the share of lookups that were answered by the cache
+     *
+     * @return The hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long currentHits = hits.sum();
+        long lookups = currentHits + misses.sum();
+        return lookups == 0 ? 0 : currentHits / (double) lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Fitness cache: size %d/%d hits %d misses %d evictions %d hit rate %.3f",
+                size(), capacity, getHits(), getMisses(), getEvictions(), getHitRate());
+    }
+
+    private Segment segmentOf(long fingerprint) {
+        return segments[(int) (fingerprint ^ (fingerprint >>> 32)) & (segments.length - 1)];
+    }
+
+    /**
+     * Linked hash map evicting the eldest entry if it exceeds its capacity
+     */
+    private class Segment extends LinkedHashMap<Long, Number> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int segmentCapacity;
+
+        Segment(int segmentCapacity, boolean accessOrder) {
+            super(16, 0.75f, accessOrder);
+            this.segmentCapacity = segmentCapacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Number> eldest) {
+            if (size() > segmentCapacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
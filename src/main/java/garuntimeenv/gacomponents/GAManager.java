@@ -4,6 +4,7 @@ import garuntimeenv.envcomponents.EnvConfig;
 import garuntimeenv.envcomponents.TestManager;
 import garuntimeenv.envcomponents.datalog.DataManager;
 import garuntimeenv.gacomponents.geneticoperators.mutations.Mutation;
+import garuntimeenv.gacomponents.termination.RunState;
 import garuntimeenv.interfaces.*;
 import garuntimeenv.runtimeexceptions.CannotRepairException;
 import garuntimeenv.utils.MyLogger;
@@ -11,6 +12,13 @@ import garuntimeenv.utils.Pair;
 import org.apache.logging.log4j.Level;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Class managing the genetic algorithm
@@ -30,10 +38,9 @@ public class GAManager {
     private int genCounter = 0;
 
     final static MyLogger logger = MyLogger.getLogger(GAManager.class);
-    final static Random rand = new Random(TestManager.getSeed());
 
-    // HashSet containing the elements of the first generated chromosome
-    private HashSet<String> elementOfChromosome = new HashSet<>();
+    // Bit set containing the genes of the first generated chromosomes
+    private BitSet elementOfChromosome = new BitSet();
 
     // The best overall generated chromosome
     private Chromosome bestChromosome;
@@ -45,6 +52,31 @@ public class GAManager {
     // The hall of fame data structure
     private HallOfFame hallOfFame;
 
+    // Cache of the fitness values of already evaluated chromosomes, null if disabled
+    private FitnessCache fitnessCache;
+
+    // The generation the last one got bred from, it keeps its decoding traces until the last one is evaluated
+    private Chromosome[] parentGeneration = new Chromosome[0];
+
+    // Source of the split random streams of the breeding slots
+    private SplittableRandom breedingRandom;
+
+    // Pool running the breeding and the evaluation, created on the first parallel generation
+    private ForkJoinPool pool;
+
+    // State of the run the termination criteria decide on
+    private RunState runState;
+
+    // Deadline of the anytime solve mode as System.nanoTime value and the listener for improvements
+    private long deadline = NO_DEADLINE;
+    private Consumer<Chromosome> improvementListener;
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int DEADLINE_CHUNK_FACTOR = 4;    // Chromosomes per thread evaluated between deadline checks
+
+    // If set the manager is an island of the island model, it breeds on the calling thread and doesn't report data
+    private boolean island = false;
+
     // The used hyper parameter as configuration object
     private Config config;
 
@@ -73,6 +105,24 @@ public class GAManager {
         INSTANCE = this;
     }
 
+    /**
+     * Constructor for an island of the {@link IslandModel}
+     * The island uses its own selection instance and doesn't register itself as the ga manager instance
+     *
+     * @param problem   The used problem
+     * @param config    The used configuration
+     * @param selection The selection instance of the island
+     * @param seed      The seed of the breeding of the island
+     */
+    GAManager(IProblem problem, Config config, Selection selection, long seed) {
+        this.problem = problem;
+        this.config = config;
+        this.island = true;
+        this.initializeManager();
+        this.selection = selection;
+        this.breedingRandom = new SplittableRandom(seed);
+    }
+
     /**
      * Initialize the manager and load the genetic operator from the configuration
      */
@@ -84,7 +134,12 @@ public class GAManager {
         this.mutationOperators = this.config.getMutationOperators();
         this.crossoverOperators = this.config.getCrossoverOperators();
 
-        this.hallOfFame = new HallOfFame(config.getFitnessFunction(), config.getHallOfFameSize());
+        this.hallOfFame = new HallOfFame(config.getFitnessFunction(), config.getHallOfFameSize(),
+                config.getHallOfFameDistance(), config.getHallOfFameMinDistance());
+        this.fitnessCache = config.getFitnessCacheSize() > 0 ?
+                new FitnessCache(config.getFitnessCacheSize(), config.getFitnessCacheEviction()) : null;
+        this.breedingRandom = new SplittableRandom(
+                config.getSeed() != null ? config.getSeed() : TestManager.getSeed());
         this.genCounter = 0;
     }
 
@@ -92,10 +147,16 @@ public class GAManager {
      * Start the genetic runtime environment
      */
     public void startEnvironment() {
+        this.runState = new RunState(this.fitnessFunction);
+        for (ITerminationCriterion criterion : this.config.getTerminationCriteria())
+            criterion.reset();
+        String terminationReason = "Generation limit of " + TestManager.currMaxGenerations + " reached";
+
         createInitialPopulation();
         for (int generationCounter = 0; generationCounter < TestManager.currMaxGenerations; generationCounter++) {
             if (EnvConfig.getInstance().isPaused() && EnvConfig.getInstance().isVisualEnabled()) {
                 generationCounter--;
+                long pauseStart = System.nanoTime();
                 try {
                     synchronized (this) {
                         this.wait();
@@ -103,9 +164,15 @@ public class GAManager {
                 } catch (InterruptedException e) {
                     e.printStackTrace();
                 }
+                this.runState.addPausedTime(System.nanoTime() - pauseStart);
             } else {
 
                 evaluateFitnessOfPopulation(getLastGeneration());
+                String reason = checkTermination();
+                if (reason != null) {
+                    terminationReason = reason;
+                    break;
+                }
                 createNextGeneration();
                 if (this.config.isCheckForCorrectness() && !checkForCorrectChromosomes(getLastGeneration())) {
                     break;
@@ -113,48 +180,143 @@ public class GAManager {
                 this.genCounter++;
             }
         }
+
+        logger.info("termination", terminationReason);
+        if (dataManager.getCurrentDataSeries() != null)
+            dataManager.setTerminationReason(terminationReason);
+        if (this.fitnessCache != null)
+            logger.info("fitnessCache", this.fitnessCache.toString());
+        if (this.pool != null) {
+            this.pool.shutdown();
+            this.pool = null;
+        }
+        dropDecodingTraces();
+        dropDecodingTraces(getLastGeneration().getChromosomes());
+        this.hallOfFame.insertCandidates();
+    }
+
+    /**
+     * Solve the problem within a hard time budget
+     * The deadline is checked between evaluation chunks and before each offspring of the evaluation pipeline,
+     * so the best chromosome found so far is returned at most one chunk after the budget ran out.
+     * Its schedule is decoded on the first call of {@link Chromosome#getCorrespondingSolution()}.
+     * The termination criteria of the configuration can end the run earlier, the generation limit is ignored.
+     *
+     * @param budgetMillis        The time budget in milli seconds
+     * @param improvementListener Called on the solving thread with every new best chromosome, may be null
+     * @return The best chromosome found or null if the budget ran out before the first evaluation
+     */
+    public Chromosome solve(long budgetMillis, Consumer<Chromosome> improvementListener) {
+        this.deadline = System.nanoTime() + budgetMillis * 1_000_000;
+        this.improvementListener = improvementListener;
+        this.runState = new RunState(this.fitnessFunction);
+        for (ITerminationCriterion criterion : this.config.getTerminationCriteria())
+            criterion.reset();
+        String terminationReason = "Deadline of " + budgetMillis + " ms reached";
+
+        try {
+            createInitialPopulation();
+            while (!isDeadlineReached()) {
+                evaluateFitnessOfPopulation(getLastGeneration());
+                if (isDeadlineReached())
+                    break;
+                String reason = checkTermination();
+                if (reason != null) {
+                    terminationReason = reason;
+                    break;
+                }
+                createNextGeneration();
+                this.genCounter++;
+            }
+        } finally {
+            this.deadline = NO_DEADLINE;
+            this.improvementListener = null;
+            if (this.pool != null) {
+                this.pool.shutdown();
+                this.pool = null;
+            }
+            dropDecodingTraces();
+            if (!this.populations.isEmpty())
+                dropDecodingTraces(getLastGeneration().getChromosomes());
+            // The offsprings evaluated in the pipeline before the deadline are still waiting for their insertion
+            this.hallOfFame.insertCandidates();
+        }
+
+        logger.info("termination", terminationReason);
+        if (dataManager.getCurrentDataSeries() != null)
+            dataManager.setTerminationReason(terminationReason);
+        return this.bestChromosome;
+    }
+
+    /**
+     * Check if the deadline of the anytime solve mode is reached
+     */
+    private boolean isDeadlineReached() {
+        return this.deadline != NO_DEADLINE && System.nanoTime() - this.deadline >= 0;
+    }
+
+    /**
+     * Update the run state with the evaluated last generation and check the termination criteria
+     *
+     * @return The reason of the first criterion that ends the run or null if the run continues
+     */
+    private String checkTermination() {
+        this.runState.update(this.genCounter, this.bestChromosome.getFitnessAsDouble(), getLastGeneration().getSize());
+        for (ITerminationCriterion criterion : this.config.getTerminationCriteria()) {
+            String reason = criterion.checkTermination(this.runState);
+            if (reason != null)
+                return reason;
+        }
+        return null;
     }
 
     /**
      * Check if the population
      */
     public boolean checkForCorrectChromosomes(Population population) {
+        BitSet genesOfGenome = new BitSet();
         for (Chromosome genome : population.getChromosomes()) {
-            for (Genome g : genome.getGenome())
-                if (!Arrays.asList(g.getString()).containsAll(elementOfChromosome))
-                    return false;
+            for (Genome g : genome.getGenome()) {
+                genesOfGenome.clear();
+                for (int gene : g.getGenes())
+                    genesOfGenome.set(gene);
+                // Each gene of the initial population has to be present in the genome
+                for (int gene = elementOfChromosome.nextSetBit(0); gene >= 0; gene = elementOfChromosome.nextSetBit(gene + 1))
+                    if (!genesOfGenome.get(gene))
+                        return false;
+            }
         }
         return true;
     }
 
     /**
      * Create the next generation depending on the last one
+     * The parents and operators of each offspring slot are drawn sequentially, each slot gets its own split random
+     * stream. The offsprings are then created in parallel, so the generation only depends on the seed and not on
+     * the number of threads.
      */
-    private void createNextGeneration() {
-        selection.addNewPopulation(getLastGeneration().getChromosomes(), config.getFitnessFunction());
-        ArrayList<Chromosome> nextGen = new ArrayList<>();
+    void createNextGeneration() {
+        // The evaluating threads inserted into the hall of fame in any order, sorting keeps the draws reproducible
+        this.hallOfFame.insertCandidates();
+        this.hallOfFame.sortMembers();
+        // The mutants of the parent generation are evaluated
+        dropDecodingTraces();
+        this.parentGeneration = getLastGeneration().getChromosomes();
+        selection.addNewPopulation(this.parentGeneration, config.getFitnessFunction());
+        List<BreedingTask> tasks = new ArrayList<>();
 
         // Create inherited chromosomes and mutate all current one
-        this.createInheritedChromosomes(nextGen);
-        this.createMutatedChromosomes(nextGen);
+        this.createInheritedChromosomes(tasks);
+        this.createMutatedChromosomes(tasks);
 
         // Fill the remaining spaces with random chromosomes
-        while (nextGen.size() < this.config.getPopulationSize()) {
-            try {
-                nextGen.add(rep.createRandomRep((IProblem) this.problem.clone()));
-            } catch (CloneNotSupportedException e) {
-                e.printStackTrace();
-            }
-        }
+        while (tasks.size() < this.config.getPopulationSize())
+            tasks.add(new BreedingTask(breedingRandom.split()));
+
+        Chromosome[] nextGen = breedGeneration(tasks);
 
         // Add newly created generation to the population list
-        this.populations.add(
-                new Population(
-                        nextGen.toArray(
-                                new Chromosome[0]
-                        )
-                )
-        );
+        this.populations.add(new Population(nextGen));
 
         // If in memory safe mode keep the population list of size 20
         if (envConfig.isMemSafeMode() && this.populations.size() > 20) {
@@ -163,12 +325,12 @@ public class GAManager {
     }
 
     /**
-     * Select by the rules of the current selection algorithm two chromosomes and apply crossover operations to
-     * create a offspring chromosome
+     * Select by the rules of the current selection algorithm two chromosomes and the crossover operator
+     * to create an offspring chromosome
      *
-     * @param chromosomes The chromosome in which the offspring's have to be filled in
+     * @param tasks The tasks in which the crossover slots have to be filled in
      */
-    private void createInheritedChromosomes(ArrayList<Chromosome> chromosomes) {
+    private void createInheritedChromosomes(List<BreedingTask> tasks) {
         // Check if there are crossover operators are defined
         if (crossoverOperators.isEmpty())
             return;
@@ -176,57 +338,162 @@ public class GAManager {
         int amount = (int) (this.config.getPopulationSize() * this.config.getCrossoverChromosomes());
 
         for (int i = 0; i < amount; i++) {
-            Pair<Chromosome, Chromosome> parents = selectParentChromosome();
-            CrossoverOperators crossOpp = crossoverOperators.get(rand.nextInt(crossoverOperators.size()));
-            Chromosome offspring = crossOpp.createOffspring(parents.getKey(), parents.getValue());
-
-            chromosomes.add(offspring);
+            BreedingTask task = new BreedingTask(breedingRandom.split());
+            Pair<Chromosome, Chromosome> parents = selectParentChromosome(task.random);
+            task.parent1 = parents.getKey();
+            task.parent2 = parents.getValue();
+            task.crossover = crossoverOperators.get(task.random.nextInt(crossoverOperators.size()));
+            tasks.add(task);
         }
     }
 
     /**
-     * Creates new chromosomes from either the previous generation
-     * with the set mutation probability to every chromosome in {@code chromosomes}
+     * Select the chromosomes of the previous generation and the mutation operator
+     * to create the mutated offspring chromosomes
      *
-     * @param chromosomes The chromosome in which the offspring's have to be filled in
+     * @param tasks The tasks in which the mutation slots have to be filled in
      */
-    private void createMutatedChromosomes(ArrayList<Chromosome> chromosomes) {
+    private void createMutatedChromosomes(List<BreedingTask> tasks) {
         if (mutationOperators.isEmpty())
             return;
 
         int amount = (int) (this.config.getPopulationSize() * this.config.getMutationChromosomes());
 
         for (int i = 0; i < amount; i++) {
-            Chromosome selectedChromosome = this.selection.getNextChromosome();
-            Mutation mutation = (Mutation) this.mutationOperators.get(rand.nextInt(this.mutationOperators.size()));
-            Chromosome offspring = mutation.applyMutation(selectedChromosome);
-            chromosomes.add(offspring);
+            BreedingTask task = new BreedingTask(breedingRandom.split());
+            task.parent1 = this.selection.getNextChromosome(task.random);
+            task.mutation = (Mutation) this.mutationOperators.get(task.random.nextInt(this.mutationOperators.size()));
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Drop the decoding traces of the parent generation
+     */
+    private void dropDecodingTraces() {
+        dropDecodingTraces(this.parentGeneration);
+        this.parentGeneration = new Chromosome[0];
+    }
+
+    /**
+     * Drop the decoding traces of the chromosomes, their mutants are evaluated
+     * With delta evaluation every evaluated chromosome keeps a trace, which is the biggest part of its memory
+     */
+    private void dropDecodingTraces(Chromosome[] chromosomes) {
+        for (Chromosome chromosome : chromosomes)
+            chromosome.setDecodingTrace(null);
+    }
+
+    /**
+     * Create the offsprings of the breeding slots, either all in parallel before the evaluation
+     * or in the pipeline that evaluates each offspring as soon as it is bred
+     *
+     * @param tasks The breeding slots
+     * @return The offsprings
+     */
+    private Chromosome[] breedGeneration(List<BreedingTask> tasks) {
+        Chromosome[] offsprings = new Chromosome[tasks.size()];
+        if (this.config.isPipelined() && !this.island) {
+            int bred = breedPipelined(tasks, offsprings);
+            // The deadline stopped the breeding, the generation only holds the bred offsprings
+            if (bred < offsprings.length)
+                return Arrays.copyOf(offsprings, bred);
+        } else {
+            forEachParallel(offsprings.length, i -> offsprings[i] = breed(tasks.get(i)));
         }
+        return offsprings;
     }
 
+    /**
+     * Breed the offsprings on the calling thread and push their indices into a bounded queue
+     * The evaluation workers of the pool take the indices and evaluate the offsprings while the breeding goes on,
+     * so the following evaluation of the population only collects the results.
+     * At the deadline the breeding stops and the workers skip the queued offsprings, so only the offsprings the
+     * workers are evaluating at that moment are finished.
+     *
+     * @param tasks      The breeding slots
+     * @param offsprings The array the offsprings are stored in
+     * @return The number of bred offsprings
+     */
+    private int breedPipelined(List<BreedingTask> tasks, Chromosome[] offsprings) {
+        int workers = this.config.getParallelism();
+        BlockingQueue<Integer> bred = new ArrayBlockingQueue<>(Math.max(1, this.config.getPipelineQueueSize()));
+        if (this.pool == null)
+            this.pool = new ForkJoinPool(workers);
+
+        List<ForkJoinTask<?>> evaluators = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            evaluators.add(this.pool.submit(() -> {
+                try {
+                    // A negative index marks the end of the generation, after the deadline the offsprings are skipped
+                    for (int index = bred.take(); index >= 0; index = bred.take())
+                        if (!isDeadlineReached())
+                            evaluateChromosome(offsprings[index]);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        int count = 0;
+        try {
+            for (; count < offsprings.length && !isDeadlineReached(); count++) {
+                offsprings[count] = breed(tasks.get(count));
+                bred.put(count);
+            }
+            for (int w = 0; w < workers; w++)
+                bred.put(-1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            evaluators.forEach(evaluator -> evaluator.cancel(true));
+            return count;
+        }
+        evaluators.forEach(ForkJoinTask::join);
+        return count;
+    }
+
+    /**
+     * Create the offspring of a breeding slot with the random stream of the slot
+     *
+     * @param task The breeding slot
+     * @return The created offspring
+     */
+    private Chromosome breed(BreedingTask task) {
+        if (task.crossover != null)
+            return task.crossover.createOffspring(task.parent1, task.parent2, task.random);
+        if (task.mutation != null)
+            return task.mutation.applyMutation(task.parent1, task.random);
+        try {
+            return rep.createRandomRep(this.problem.getDecodingInstance(), task.random);
+        } catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
     /**
      * Select two chromosomes in terms with the selected selection algorithm and return them as Pair
      *
+     * @param random The random stream of the breeding slot
      * @return The pair of chromosomes
      */
-    private Pair<Chromosome, Chromosome> selectParentChromosome() {
+    private Pair<Chromosome, Chromosome> selectParentChromosome(SplittableRandom random) {
         // Select the first parent with the probability stored in the config either
         // from the hall of fame or the prev generation
-        double selectParentFromHallOfFame1 = rand.nextDouble();
+        double selectParentFromHallOfFame1 = random.nextDouble();
         Chromosome parent1 = null;
         if (selectParentFromHallOfFame1 < this.config.getHallOfFamePercentage())
-            parent1 = this.hallOfFame.getRandomChromosome();
+            parent1 = this.hallOfFame.getRandomChromosome(random);
         else
-            parent1 = this.selection.getNextChromosome();
+            parent1 = this.selection.getNextChromosome(random);
 
         // Same with the second
         Chromosome parent2 = null;
-        double selectParentFromHallOfFame2 = rand.nextDouble();
+        double selectParentFromHallOfFame2 = random.nextDouble();
         if (selectParentFromHallOfFame2 < this.config.getHallOfFamePercentage())
-            parent2 = this.hallOfFame.getRandomChromosome();
+            parent2 = this.hallOfFame.getRandomChromosome(random);
         else
-            parent2 = this.selection.getNextChromosome();
+            parent2 = this.selection.getNextChromosome(random);
 
         return new Pair<>(parent1, parent2);
     }
@@ -234,97 +501,227 @@ public class GAManager {
     /**
      * Create the initial population with random chromosomes
      */
-    private void createInitialPopulation() {
-        Chromosome[] chromosomes = new Chromosome[this.config.getPopulationSize()];
-        for (int i = 0; i < this.config.getPopulationSize(); i++) {
-            try {
-                chromosomes[i] = rep.createRandomRep((IProblem) this.problem.clone());
-            } catch (CloneNotSupportedException e) {
-                e.printStackTrace();
-            }
-        }
+    void createInitialPopulation() {
+        List<BreedingTask> tasks = new ArrayList<>();
+        for (int i = 0; i < this.config.getPopulationSize(); i++)
+            tasks.add(new BreedingTask(breedingRandom.split()));
 
-        Population population = new Population(chromosomes);
+        Population population = new Population(breedGeneration(tasks));
         this.populations.add(population);
 
-        // Add each element of initial population into the hashset to be checked
+        // Add each element of initial population into the bit set to be checked
         for (Chromosome chromosome : population.getChromosomes())
             for (Genome genome : chromosome.getGenome())
-                this.elementOfChromosome.addAll(Arrays.asList(genome.getString()));
+                for (int gene : genome.getGenes())
+                    this.elementOfChromosome.set(gene);
     }
 
     /**
-     * Creates the solution from the chromosomes in this population
-     * and calculates the fitness of the solution
+     * Run the action for each index as parallel stream inside the pool of this manager,
+     * so it uses the configured parallelism. Islands run the action on the calling thread.
+     *
+     * @param size   The number of indices
+     * @param action The action applied to each index
+     */
+    private void forEachParallel(int size, IntConsumer action) {
+        if (this.island) {
+            for (int i = 0; i < size; i++)
+                action.accept(i);
+            return;
+        }
+        if (this.pool == null)
+            this.pool = new ForkJoinPool(this.config.getParallelism());
+        this.pool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).join();
+    }
+
+    /**
+     * Calculates the fitness of the chromosomes in this population
+     * The solutions aren't kept, they get decoded when a chromosome's solution is requested
      *
      * @param population to be calculated the fitness from
      */
     void evaluateFitnessOfPopulation(Population population) {
-        Double commulativeFitness = 0.;
-        Number currentFitness = config.getFitnessFunction().getWorstFitness();
+        double commulativeFitness = 0.;
+        double currentFitness = this.fitnessFunction.getWorstFitnessAsDouble();
         Chromosome currentBestChromosome = null;
 
-        population.getChromosomesAsList().parallelStream().forEach(chromosome -> {
-            try {
-                ISolution createdSolution = rep.createSolutionFromChromosome(chromosome, (IProblem) problem.clone());
-                chromosome.setCorrespondingSolution(createdSolution);
-                chromosome.calculateFitness(this.fitnessFunction);
-            } catch (Exception e) {
-                // If something goes wrong while decoding the chromosome try to repair it
-                // Otherwise penalize the chromosome by giving it the worst possible fitness
-                try {
-                    rep.repairChromosome(chromosome);
-                    ISolution createdSolution = rep.createSolutionFromChromosome(chromosome, (IProblem) problem.clone());
-                    chromosome.setCorrespondingSolution(createdSolution);
-                    chromosome.calculateFitness(this.fitnessFunction);
-                } catch (CannotRepairException ce) {
-                    logger.log(Level.ERROR, "GaManager", "Couldn't repair the chromosome");
-                    chromosome.setFitness(this.fitnessFunction.getWorstFitness());
-                } catch (Exception ex) {
-                    logger.log(Level.ERROR, "GaManager", "Tried to repair chromosome but did't work");
-                    chromosome.setFitness(this.fitnessFunction.getWorstFitness());
-                }
-            }
-        });
+        int evaluated = 0;
+
+        // With a deadline the population is evaluated in chunks, so the deadline is checked in between
+        Chromosome[] chromosomes = population.getChromosomes();
+        int chunkSize = this.deadline == NO_DEADLINE ?
+                chromosomes.length : this.config.getParallelism() * DEADLINE_CHUNK_FACTOR;
+        for (int from = 0; from < chromosomes.length && !isDeadlineReached(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, chromosomes.length);
+            forEachParallel(end - start, i -> evaluateChromosome(chromosomes[start + i]));
 
-        for (Chromosome chromosome : population.getChromosomes()) {
-            // If the fitness is already calculated
-            Number fitness = chromosome.getFitness();
+            for (int i = start; i < end; i++) {
+                double fitness = chromosomes[i].getFitnessAsDouble();
 
-            this.hallOfFame.addChromosome(chromosome);
-            if (this.fitnessFunction.isBetterSolution(fitness, currentFitness)) {
-                currentBestChromosome = chromosome;
-                currentFitness = fitness;
+                if (this.fitnessFunction.isBetterFitness(fitness, currentFitness)) {
+                    currentBestChromosome = chromosomes[i];
+                    currentFitness = fitness;
+                }
+
+                commulativeFitness += fitness;
+                evaluated++;
             }
 
-            commulativeFitness += fitness.doubleValue();
+            if (currentBestChromosome != null && (this.bestChromosome == null ||
+                    this.fitnessFunction.isBetterFitness(currentFitness, this.bestChromosome.getFitnessAsDouble()))) {
+                this.bestChromosome = currentBestChromosome;
+                if (this.improvementListener != null)
+                    this.improvementListener.accept(this.bestChromosome);
+            }
         }
 
-        commulativeFitness /= this.config.getPopulationSize();
+        // Insert the chromosomes collected by a hall of fame with a minimum distance in a deterministic order
+        this.hallOfFame.insertCandidates();
 
-        if (this.bestChromosome == null ||
-                this.fitnessFunction.isBetterSolution(currentFitness, this.bestChromosome.getFitness())) {
-            this.bestChromosome = currentBestChromosome;
-        }
+        // The deadline was reached before anything got evaluated
+        if (evaluated == 0)
+            return;
+        commulativeFitness /= evaluated;
 
         assert this.bestChromosome != null;
+        if (this.island || dataManager.getCurrentDataSeries() == null)
+            return;
         dataManager.addDataPoint("Best Fitness", this.genCounter, this.bestChromosome.getFitness());
         dataManager.addDataPoint("Hall Of Fame", this.genCounter, this.hallOfFame.getHallOfFameAverage());
 //        if(this.genCounter > 5)
 //            dataManager.addDataPoint("Worst Hall Of Fame", this.genCounter, this.hallOfFame.getWorstChromosome().getFitness());
-        dataManager.addDataPoint("Current Fitness", this.genCounter, currentFitness, true);
+        dataManager.addDataPoint("Current Fitness", this.genCounter,
+                currentBestChromosome != null ? currentBestChromosome.getFitness() : this.fitnessFunction.getWorstFitness(), true);
         dataManager.addDataPoint("Kumulative Fitness", this.genCounter, commulativeFitness, true);
     }
 
+    /**
+     * Calculates the fitness of the chromosome and offers it to the hall of fame right away,
+     * so the evaluating threads update the hall of fame without a serial pass afterwards.
+     * A hall of fame with a minimum distance collects the chromosomes and inserts them after the evaluation.
+     *
+     * @param chromosome The chromosome to be evaluated
+     */
+    private void evaluateChromosome(Chromosome chromosome) {
+        // Chromosomes evaluated in the pipeline or received as migrants already carry their fitness
+        if (!Double.isNaN(chromosome.getFitnessAsDouble()))
+            return;
+        // With delta evaluation the chromosome keeps the trace of its decoding for its mutants
+        if (this.config.isDeltaEvaluation())
+            chromosome.requestDecodingTrace();
+        try {
+            chromosome.evaluate(rep, problem.getDecodingInstance(), this.fitnessFunction, this.fitnessCache);
+        } catch (Exception e) {
+            // If something goes wrong while decoding the chromosome try to repair it
+            // Otherwise penalize the chromosome by giving it the worst possible fitness
+            try {
+                rep.repairChromosome(chromosome);
+                chromosome.evaluate(rep, problem.getDecodingInstance(), this.fitnessFunction);
+            } catch (CannotRepairException ce) {
+                logger.log(Level.ERROR, "GaManager", "Couldn't repair the chromosome");
+                chromosome.setFitness(this.fitnessFunction.getWorstFitness());
+            } catch (Exception ex) {
+                logger.log(Level.ERROR, "GaManager", "Tried to repair chromosome but did't work");
+                chromosome.setFitness(this.fitnessFunction.getWorstFitness());
+            }
+        }
+        this.hallOfFame.offerChromosome(chromosome);
+    }
+
+    /**
+     * Get copies of the best chromosomes of the last generation to be sent to other islands
+     * The last generation has to be evaluated
+     *
+     * @param amount The number of chromosomes
+     * @return The copies of the best chromosomes
+     */
+    Chromosome[] getEmigrants(int amount) {
+        Chromosome[] sorted = getLastGeneration().getChromosomes().clone();
+        Arrays.sort(sorted, this::compareWorstFirst);
+        amount = Math.min(amount, sorted.length);
+        Chromosome[] emigrants = new Chromosome[amount];
+        for (int i = 0; i < amount; i++)
+            emigrants[i] = sorted[sorted.length - 1 - i].copy();
+        return emigrants;
+    }
+
+    /**
+     * Replace the worst chromosomes of the evaluated last generation with the evaluated {@code migrants}
+     * The migrants are added to the hall of fame and may become the best chromosome
+     *
+     * @param migrants The chromosomes received from other islands
+     */
+    void acceptMigrants(Chromosome[] migrants) {
+        Chromosome[] chromosomes = getLastGeneration().getChromosomes();
+        Arrays.sort(chromosomes, this::compareWorstFirst);
+        for (int i = 0; i < migrants.length && i < chromosomes.length; i++) {
+            chromosomes[i].setDecodingTrace(null);
+            chromosomes[i] = migrants[i];
+            this.hallOfFame.addChromosome(migrants[i]);
+            if (this.bestChromosome == null ||
+                    this.fitnessFunction.isBetterFitness(migrants[i].getFitnessAsDouble(), this.bestChromosome.getFitnessAsDouble()))
+                this.bestChromosome = migrants[i];
+        }
+    }
+
+    /**
+     * Order the chromosomes by their primitive fitness with the worst first
+     */
+    private int compareWorstFirst(Chromosome first, Chromosome second) {
+        double firstFitness = first.getFitnessAsDouble();
+        double secondFitness = second.getFitnessAsDouble();
+        if (this.fitnessFunction.isBetterFitness(firstFitness, secondFitness))
+            return 1;
+        return this.fitnessFunction.isBetterFitness(secondFitness, firstFitness) ? -1 : 0;
+    }
+
+    /**
+     * Getter for the hall of fame
+     *
+     * @return The hall of fame of this manager
+     */
+    HallOfFame getHallOfFame() {
+        return this.hallOfFame;
+    }
+
     /**
      * Returns the last population in the population list
      *
      * @return Last Population
      */
-    private Population getLastGeneration() {
+    Population getLastGeneration() {
         return this.populations.get(this.populations.size() - 1);
     }
 
+    /**
+     * Getter for the best chromosome found so far
+     * Its solution gets decoded on the first call of {@link Chromosome#getCorrespondingSolution()}
+     *
+     * @return The best chromosome or null if nothing was evaluated yet
+     */
+    public Chromosome getBestChromosome() {
+        return this.bestChromosome;
+    }
+
+    /**
+     * Getter for the state of the last run
+     *
+     * @return The run state or null if the environment wasn't started
+     */
+    public RunState getRunState() {
+        return this.runState;
+    }
+
+    /**
+     * Getter for the fitness cache to read its hit and eviction statistics
+     *
+     * @return The fitness cache or null if it is disabled
+     */
+    public FitnessCache getFitnessCache() {
+        return this.fitnessCache;
+    }
+
     /**
      * Getter for the current configuration
      *
@@ -333,4 +730,20 @@ public class GAManager {
     public Config getCurrentConfig() {
         return this.config;
     }
+
+    /**
+     * Offspring slot of a generation, holding everything drawn sequentially for the parallel breeding
+     * A slot without crossover and mutation operator is filled with a random chromosome
+     */
+    private static class BreedingTask {
+        final SplittableRandom random;          // Random stream of the slot
+        Chromosome parent1;
+        Chromosome parent2;
+        CrossoverOperators crossover;           // Set if the offspring is created by a crossover
+        Mutation mutation;                      // Set if the offspring is created by a mutation
+
+        BreedingTask(SplittableRandom random) {
+            this.random = random;
+        }
+    }
 }
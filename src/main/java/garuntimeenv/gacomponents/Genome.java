@@ -4,66 +4,244 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Class representing a sub chromosome of the genetic algorithm
+ * The genes are stored as primitive int array. The String based methods are kept as adapter
+ * for code that still works with the String representation of the genes.
+ * Each genome carries a 64 bit Zobrist fingerprint, the xor of a key for each position and gene.
+ * Changing a gene through the setters updates the fingerprint in constant time.
+ * Genomes are shared between chromosomes, e.g. a mutant shares its unchanged genomes with its parent. Once a genome
+ * is part of a chromosome it mustn't be changed anymore, changes are made on a {@link #copy()}.
+ */
 public class Genome {
 
-    private String[] genome;
+    private int[] genes;
 
     private int currentEndPosition = 0;
 
+    private long fingerprint = 0;               // The Zobrist fingerprint of the genes
+    private volatile boolean fingerprintValid;  // False if the fingerprint has to be recalculated, volatile since
+                                                // a shared genome may calculate it lazily on several threads
+
+    /**
+     * Constructor that takes the genes as primitive array
+     *
+     * @param genes The genes of the genome
+     */
+    public Genome(int[] genes) {
+        this.genes = genes;
+    }
+
+    /**
+     * Constructor for genes whose fingerprint is already known, e.g. a copy of another genome
+     *
+     * @param genes       The genes of the genome
+     * @param fingerprint The fingerprint of the genes
+     */
+    public Genome(int[] genes, long fingerprint) {
+        this.genes = genes;
+        this.fingerprint = fingerprint;
+        this.fingerprintValid = true;
+    }
+
+    /**
+     * Adapter constructor that converts the String genes into the int representation
+     *
+     * @param genome The genes as String array
+     */
     public Genome(String[] genome) {
-        this.genome = genome;
+        this.genes = toGenes(genome);
     }
 
+    /**
+     * Constructor that initializes an empty genome
+     *
+     * @param genomeLength The number of genes
+     */
     public Genome(int genomeLength) {
-        genome = new String[genomeLength];
+        genes = new int[genomeLength];
+        // Gene 0 has the key 0 so the fingerprint of the empty genome is 0
+        fingerprintValid = true;
+    }
+
+    public void insertIntoGenome(int genomeId, int element) {
+        setGene(genomeId, element);
     }
 
     public void insertIntoGenome(int genomeId, String element) {
-        genome[genomeId] = element;
+        insertIntoGenome(genomeId, Integer.parseInt(element));
     }
 
-    public boolean addToEnd(String element) {
-        if (currentEndPosition >= genome.length)
+    public boolean addToEnd(int element) {
+        if (currentEndPosition >= genes.length)
             return false;
 
-        genome[currentEndPosition++] = element;
+        setGene(currentEndPosition++, element);
         return true;
     }
 
+    public boolean addToEnd(String element) {
+        return addToEnd(Integer.parseInt(element));
+    }
+
     public List<String> getMutableListOfGenome() {
-        return new ArrayList<>(Arrays.asList(genome));
+        return new ArrayList<>(Arrays.asList(getString()));
+    }
+
+    /**
+     * Getter for the primitive genes. The returned array is the backing array of the genome
+     * If it gets changed directly {@link #invalidateFingerprint()} has to be called afterwards
+     *
+     * @return The genes as int array
+     */
+    public int[] getGenes() {
+        return genes;
     }
 
+    /**
+     * Adapter returning the genes as String array
+     * The returned array is a copy, changes to it are not written back into the genome
+     *
+     * @return The genes as String array
+     */
     public String[] getString() {
+        String[] genome = new String[genes.length];
+        for (int i = 0; i < genes.length; i++)
+            genome[i] = String.valueOf(genes[i]);
         return genome;
     }
 
+    public int getGene(int position) {
+        return this.genes[position];
+    }
+
     public String getElement(int element) {
-        return this.genome[element];
+        return String.valueOf(this.genes[element]);
     }
 
-    public void setElement(int pos, String element) {
-        if (pos < this.genome.length) {
-            this.genome[pos] = element;
+    public void setGene(int pos, int element) {
+        if (pos < this.genes.length) {
+            if (fingerprintValid)
+                fingerprint ^= zobristKey(pos, this.genes[pos]) ^ zobristKey(pos, element);
+            this.genes[pos] = element;
         }
     }
 
+    /**
+     * Exchange the genes at the two positions
+     *
+     * @param first  The first position
+     * @param second The second position
+     */
+    public void swapGenes(int first, int second) {
+        int firstGene = this.genes[first];
+        setGene(first, this.genes[second]);
+        setGene(second, firstGene);
+    }
+
+    public void setElement(int pos, String element) {
+        setGene(pos, Integer.parseInt(element));
+    }
+
+    public void setGenes(int[] genes) {
+        this.genes = genes;
+        this.fingerprintValid = false;
+    }
+
     public void setGenome(String[] genome) {
-        this.genome = genome;
+        this.genes = toGenes(genome);
+        this.fingerprintValid = false;
     }
 
     public int getGenomeSize() {
-        return this.genome.length;
+        return this.genes.length;
+    }
+
+    /**
+     * Getter for the Zobrist fingerprint, it is only calculated from all genes if it isn't maintained
+     *
+     * @return The fingerprint of the genome
+     */
+    public long getFingerprint() {
+        if (!fingerprintValid) {
+            long hash = 0;
+            for (int i = 0; i < genes.length; i++)
+                hash ^= zobristKey(i, genes[i]);
+            fingerprint = hash;
+            fingerprintValid = true;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Mark the fingerprint as outdated after the backing array was changed directly
+     */
+    public void invalidateFingerprint() {
+        this.fingerprintValid = false;
+    }
+
+    /**
+     * Create a copy of the genome with its own genes array that keeps the fingerprint
+     *
+     * @return The copy
+     */
+    public Genome copy() {
+        return fingerprintValid ? new Genome(genes.clone(), fingerprint) : new Genome(genes.clone());
+    }
+
+    /**
+     * The Zobrist key of a gene at a position. The keys are calculated instead of looked up in a table
+     * so they work for any genome length. Gene 0 has the key 0.
+     *
+     * @param position The position in the genome
+     * @param gene     The gene
+     * @return The key of the gene at the position
+     */
+    static long zobristKey(int position, int gene) {
+        if (gene == 0)
+            return 0;
+        return mix(((long) position << 32 | (gene & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Finalizer of the 64 bit hashes, spreads every input bit over the whole hash
+     *
+     * @param hash The hash to be mixed
+     * @return The mixed hash
+     */
+    static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Convert String genes into the int representation
+     *
+     * @param genome The genes as String array
+     * @return The genes as int array
+     */
+    public static int[] toGenes(String[] genome) {
+        int[] genes = new int[genome.length];
+        for (int i = 0; i < genome.length; i++)
+            genes[i] = Integer.parseInt(genome[i]);
+        return genes;
     }
 
     @Override
     public String toString() {
-        return "[" + String.join(",", genome) + "]";
+        StringBuilder retString = new StringBuilder("[");
+        for (int i = 0; i < genes.length; i++) {
+            if (i > 0) retString.append(',');
+            retString.append(genes[i]);
+        }
+        return retString.append(']').toString();
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(this.genome);
+        long hash = getFingerprint();
+        return (int) (hash ^ (hash >>> 32));
     }
 
     @Override
@@ -73,7 +251,7 @@ public class Genome {
 
         Genome genome1 = (Genome) o;
 
-        // Probably incorrect - comparing Object[] arrays with Arrays.equals
-        return Arrays.equals(genome, genome1.genome);
+        if (getFingerprint() != genome1.getFingerprint()) return false;
+        return Arrays.equals(genes, genome1.genes);
     }
 }
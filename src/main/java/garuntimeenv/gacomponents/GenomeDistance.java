@@ -0,0 +1,234 @@
+package garuntimeenv.gacomponents;
+
+/**
+ * Distance measures between the genotypes of two chromosomes with the same genome layout
+ * The genes are bit packed into lanes of longs by a {@link Layout}, each sub genome starting at a new long.
+ * The distance is summed over the sub genomes. The kernels stop after the sub genome reaching the bound,
+ * callers only asking whether two chromosomes are closer than the bound don't pay for the full distance.
+ */
+public enum GenomeDistance {
+
+    /**
+     * Number of positions with different genes
+     * The packed words are compared with a xor, the lanes that aren't zero are counted with a bit count.
+     */
+    HAMMING {
+        @Override
+        int distance(Layout layout, long[] first, long[] second, int bound, int[] scratch) {
+            long low = layout.lowBits;
+            long high = ~low;
+            int distance = 0;
+            for (int g = 0; g < layout.lengths.length && distance < bound; g++) {
+                for (int w = layout.offsets[g]; w < layout.offsets[g + 1]; w++) {
+                    long difference = first[w] ^ second[w];
+                    // The highest bit of a lane is set if any bit of the lane is set
+                    distance += Long.bitCount((((difference & low) + low) | difference) & high);
+                }
+            }
+            return distance;
+        }
+    },
+
+    /**
+     * Number of gene pairs in different order, the sub genomes have to be permutations of the same genes
+     */
+    KENDALL_TAU {
+        @Override
+        int scratchSize(Layout layout) {
+            int longest = 0;
+            for (int length : layout.lengths)
+                longest = Math.max(longest, length);
+            return layout.lengths.length * layout.stride + longest;
+        }
+
+        @Override
+        void prepare(Layout layout, long[] first, int[] scratch) {
+            // Position of each gene in the sub genomes of the first chromosome
+            for (int g = 0; g < layout.lengths.length; g++)
+                for (int i = 0; i < layout.lengths[g]; i++)
+                    scratch[g * layout.stride + layout.gene(first, g, i)] = i;
+        }
+
+        @Override
+        int distance(Layout layout, long[] first, long[] second, int bound, int[] scratch) {
+            int genes = layout.lengths.length * layout.stride;
+            int distance = 0;
+            for (int g = 0; g < layout.lengths.length && distance < bound; g++) {
+                int length = layout.lengths[g];
+                int offset = g * layout.stride;
+                // The positions in the first sub genome in the order of the second one
+                int i = 0;
+                for (int w = layout.offsets[g]; w < layout.offsets[g + 1]; w++) {
+                    long word = second[w];
+                    for (int lane = 0; lane < layout.lanesPerWord && i < length; lane++, i++) {
+                        scratch[genes + i] = scratch[offset + (int) (word & layout.laneMask)];
+                        word >>>= layout.laneBits;
+                    }
+                }
+                distance += length <= 64 ? inversions(scratch, genes, length) : quadraticInversions(scratch, genes, length);
+            }
+            return distance;
+        }
+    };
+
+    /**
+     * Calculate the distance of two chromosomes up to the bound
+     *
+     * @param first  The first chromosome
+     * @param second The second chromosome
+     * @param bound  The distance at which the calculation may stop
+     * @return The distance, a value of at least {@code bound} means the distance is at least the bound
+     */
+    public int distance(Chromosome first, Chromosome second, int bound) {
+        Layout layout = new Layout(first.getGenome());
+        long[] packedFirst = layout.pack(first.getGenome());
+        int[] scratch = new int[scratchSize(layout)];
+        prepare(layout, packedFirst, scratch);
+        return distance(layout, packedFirst, layout.pack(second.getGenome()), bound, scratch);
+    }
+
+    /**
+     * Get the size of the scratch array of the distance calculation
+     */
+    int scratchSize(Layout layout) {
+        return 0;
+    }
+
+    /**
+     * Prepare the first genome once before calculating its distance to several other genomes
+     *
+     * @param layout  The layout of the packed genomes
+     * @param first   The packed first genome
+     * @param scratch Array of {@link #scratchSize(Layout)} entries holding the prepared genome
+     */
+    void prepare(Layout layout, long[] first, int[] scratch) {
+    }
+
+    /**
+     * Calculate the distance of the packed genomes up to the bound
+     *
+     * @param scratch The scratch array prepared with the first genome
+     */
+    abstract int distance(Layout layout, long[] first, long[] second, int bound, int[] scratch);
+
+    /**
+     * Count the inversions of up to 64 distinct positions below 64 by marking the seen positions in a bit set
+     */
+    private static int inversions(int[] positions, int from, int length) {
+        long seen = 0;
+        int inversions = 0;
+        for (int i = from; i < from + length; i++) {
+            // Seen positions larger than the current one
+            inversions += Long.bitCount(seen & (-2L << positions[i]));
+            seen |= 1L << positions[i];
+        }
+        return inversions;
+    }
+
+    private static int quadraticInversions(int[] positions, int from, int length) {
+        int inversions = 0;
+        for (int i = from; i < from + length; i++)
+            for (int j = i + 1; j < from + length; j++)
+                inversions += positions[j] < positions[i] ? 1 : 0;
+        return inversions;
+    }
+
+    /**
+     * Layout of packed genomes, the lanes are 8, 16 or 32 bits wide depending on the largest gene
+     */
+    static final class Layout {
+        final int[] lengths;            // Number of genes of each sub genome
+        final int[] offsets;            // First word of each sub genome, the last entry is the number of words
+        final int laneBits;             // Bits per gene
+        final int lanesPerWord;         // Genes per word
+        final long laneMask;            // All bits of the lowest lane
+        final long lowBits;             // All bits of each lane except the highest
+        final int stride;               // The largest gene plus one
+
+        /**
+         * Create the layout of chromosomes shaped like the genome
+         *
+         * @param genome A genome with the sub genome lengths and genes of the packed genomes
+         */
+        Layout(Genome[] genome) {
+            this(genome, 0);
+        }
+
+        /**
+         * Create the layout of chromosomes shaped like the genome with genes below at least {@code minStride}
+         *
+         * @param genome    A genome with the sub genome lengths and genes of the packed genomes
+         * @param minStride The smallest stride of the layout
+         */
+        Layout(Genome[] genome, int minStride) {
+            int largest = minStride - 1;
+            for (Genome subGenome : genome)
+                for (int gene : subGenome.getGenes())
+                    largest = Math.max(largest, gene);
+            this.stride = largest + 1;
+            this.laneBits = largest < 1 << 8 ? 8 : largest < 1 << 16 ? 16 : 32;
+            this.lanesPerWord = 64 / this.laneBits;
+            this.laneMask = (1L << this.laneBits) - 1;
+
+            long lane = (1L << (this.laneBits - 1)) - 1;
+            long lowBits = 0;
+            for (int shift = 0; shift < 64; shift += this.laneBits)
+                lowBits |= lane << shift;
+            this.lowBits = lowBits;
+
+            this.lengths = new int[genome.length];
+            this.offsets = new int[genome.length + 1];
+            for (int g = 0; g < genome.length; g++) {
+                this.lengths[g] = genome[g].getGenomeSize();
+                this.offsets[g + 1] = this.offsets[g] + (this.lengths[g] + this.lanesPerWord - 1) / this.lanesPerWord;
+            }
+        }
+
+        /**
+         * Pack the genes of the genome, which has to match the layout
+         *
+         * @param genome The genome to be packed
+         * @return The packed genes
+         */
+        long[] pack(Genome[] genome) {
+            long[] packed = new long[this.offsets[this.offsets.length - 1]];
+            for (int g = 0; g < genome.length; g++) {
+                int[] genes = genome[g].getGenes();
+                for (int i = 0; i < genes.length; i++)
+                    packed[this.offsets[g] + i / this.lanesPerWord] |= (long) genes[i] << (i % this.lanesPerWord * this.laneBits);
+            }
+            return packed;
+        }
+
+        /**
+         * Check if the genome has the sub genome lengths of the layout
+         */
+        boolean hasShape(Genome[] genome) {
+            if (genome.length != this.lengths.length)
+                return false;
+            for (int g = 0; g < genome.length; g++)
+                if (genome[g].getGenomeSize() != this.lengths[g])
+                    return false;
+            return true;
+        }
+
+        /**
+         * Check if the genes of the genome fit into the lanes of the layout
+         */
+        boolean fits(Genome[] genome) {
+            for (Genome subGenome : genome)
+                for (int gene : subGenome.getGenes())
+                    if (gene >= this.stride)
+                        return false;
+            return true;
+        }
+
+        /**
+         * Get a gene of a packed genome
+         */
+        int gene(long[] packed, int subGenome, int index) {
+            long word = packed[this.offsets[subGenome] + index / this.lanesPerWord];
+            return (int) ((word >>> (index % this.lanesPerWord * this.laneBits)) & this.laneMask);
+        }
+    }
+}
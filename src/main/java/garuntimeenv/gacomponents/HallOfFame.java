@@ -1,36 +1,98 @@
 package garuntimeenv.gacomponents;
 
 import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.interfaces.IFitnessFunction;
 import garuntimeenv.utils.MyLogger;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Class representing the hall of fame data structure
+ * The members are kept in an indexed binary heap with the worst member at the root. The heap is ordered by a
+ * primitive key, the fitness negated for maximised fitness functions, so larger keys are always worse.
+ * The heap array is dense, so a random member is drawn in O(1), inserting and evicting take O(log n).
+ * The heap index of each member is kept in an open addressing table by fingerprint with linear probing,
+ * held in primitive arrays so the lookups don't box the fingerprints.
+ * <p>
+ * The hall of fame is thread safe. Insertions lock the hall of fame, but a full hall of fame rejects chromosomes
+ * worse than its worst member against a volatile threshold without locking. Random draws don't lock, a draw
+ * racing with an insertion returns a member from before or after the insertion.
+ * Members with the same fitness are ordered by their fingerprint, so without a minimum distance the members don't
+ * depend on the order of the insertions.
+ * <p>
+ * With a minimum distance the hall of fame keeps its members apart. A chromosome closer than the minimum distance
+ * to a member is only added if it is better than all members close to it, which are removed then.
+ * The distance to every member is checked on insertions passing the fast reject. The genes of the members are kept
+ * bit packed next to the heap for these checks, and the distance kernels stop at the minimum distance.
+ * Which chromosomes are accepted then depends on the order of the insertions, so chromosomes offered by concurrent
+ * threads are collected and inserted ordered by their fitness and fingerprint.
  */
 public class HallOfFame {
 
+    private static final int EMPTY = -1;
+
     final static MyLogger logger = MyLogger.getLogger(HallOfFame.class);
 
     private static Random rand = new Random(TestManager.getSeed());
 
-    private PriorityQueue<Chromosome> hallOfFame;       // Priority queue to hold the chromosomes ordered
-    private ArrayList<Chromosome> quickAccess;          // HashSet for O(1) request time
-    private HashSet<Chromosome> checkForExisting;       // HashSet for O(1) existence check
+    private final Chromosome[] members;                 // The members in heap order, the worst at index 0
+    private final double[] keys;                        // The keys of the members in heap order
+    private final long[] fingerprints;                  // The fingerprints of the members in heap order
+    private final long[] slotFingerprints;              // The fingerprints of the position table slots
+    private final int[] slotPositions;                  // Heap index of the member in each slot, EMPTY if unused
+    private final int slotShift;                        // Shift of the hash to the bits of the slot index
+    private final boolean minimise;                     // Whether smaller fitness values are better
+    private final GenomeDistance distance;              // The distance measure between members
+    private final int minDistance;                      // The minimum distance between members, 0 allows any
+    private final long[][] packedGenes;                 // The bit packed genes of the members in heap order
+    private GenomeDistance.Layout layout;               // The layout of the packed genes, set by the first member
+    private int[] scratch;                              // Scratch array of the distance calculation
+    private volatile int size = 0;                      // The number of members
+    private volatile double worstKey = Double.NaN;      // Key of the worst member, published for the fast reject
     private double cumulativeSum = 0;                   // Sum of all chromosomes in the hall of fame
-    private final int hallOfFameSize;                   // The size of the data structures used in the hall of fame
+    private boolean trackPositions = true;              // Disabled while sorting, the positions are rebuilt after
+    private boolean sorted = true;                      // Whether the members didn't change since the last sort
+    private final List<Chromosome> candidates = new ArrayList<>();  // Offered chromosomes waiting for their insertion
 
     /**
      * Constructor initializing all used data structure representing the hall of fame
      *
-     * @param comparator The comparator in most cases the fitness function to keep the prio queue ordered
-     * @param hallOfFameSize The size of the hall of fame
+     * @param fitnessFunction The fitness function defining whether the fitness is minimised or maximised
+     * @param hallOfFameSize  The size of the hall of fame
      */
-    public HallOfFame(Comparator<? super Chromosome> comparator, int hallOfFameSize) {
-        this.hallOfFame = new PriorityQueue<>(comparator);
-        this.hallOfFameSize = hallOfFameSize;
-        this.quickAccess = new ArrayList<>();
-        this.checkForExisting = new HashSet<>();
+    public HallOfFame(IFitnessFunction fitnessFunction, int hallOfFameSize) {
+        this(fitnessFunction, hallOfFameSize, GenomeDistance.HAMMING, 0);
+    }
+
+    /**
+     * Constructor for a hall of fame keeping its members at a minimum distance
+     *
+     * @param fitnessFunction The fitness function defining whether the fitness is minimised or maximised
+     * @param hallOfFameSize  The size of the hall of fame
+     * @param distance        The distance measure between the members
+     * @param minDistance     The minimum distance between two members, 0 only rejects duplicates
+     */
+    public HallOfFame(IFitnessFunction fitnessFunction, int hallOfFameSize, GenomeDistance distance, int minDistance) {
+        this.distance = distance;
+        this.minDistance = minDistance;
+        int capacity = Math.max(1, hallOfFameSize);
+        this.members = new Chromosome[capacity];
+        this.keys = new double[capacity];
+        this.fingerprints = new long[capacity];
+        this.packedGenes = new long[capacity][];
+        // The table is kept at most half full, so the probe sequences stay short
+        int slotBits = 1;
+        while ((1 << slotBits) < capacity * 2)
+            slotBits++;
+        this.slotFingerprints = new long[1 << slotBits];
+        this.slotPositions = new int[1 << slotBits];
+        Arrays.fill(this.slotPositions, EMPTY);
+        this.slotShift = 64 - slotBits;
+        this.minimise = fitnessFunction.isBetterFitness(0, 1);
     }
 
     /**
@@ -38,8 +100,8 @@ public class HallOfFame {
      *
      * @return The average value of each chromosome in the hall of fame
      */
-    public double getHallOfFameAverage() {
-        return this.cumulativeSum / this.hallOfFame.size();
+    public synchronized double getHallOfFameAverage() {
+        return this.cumulativeSum / this.size;
     }
 
     /**
@@ -48,8 +110,29 @@ public class HallOfFame {
      * @return The random chromosome
      */
     public Chromosome getRandomChromosome() {
-        if (this.quickAccess.size() > 0) {
-            return this.quickAccess.get(rand.nextInt(this.quickAccess.size() - 1));
+        int size;
+        while ((size = this.size) > 0) {
+            Chromosome chromosome = this.members[rand.nextInt(size)];
+            // The slot got emptied by a concurrent eviction
+            if (chromosome != null)
+                return chromosome;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a random chromosome from the hall of fame drawn from the given random stream
+     *
+     * @param random The random stream of the calling task
+     * @return The random chromosome
+     */
+    public Chromosome getRandomChromosome(SplittableRandom random) {
+        int size;
+        while ((size = this.size) > 0) {
+            Chromosome chromosome = this.members[random.nextInt(size)];
+            // The slot got emptied by a concurrent eviction
+            if (chromosome != null)
+                return chromosome;
         }
         return null;
     }
@@ -59,49 +142,349 @@ public class HallOfFame {
      *
      * @return The worst chromosome
      */
-    public Chromosome getWorstChromosome() {
-        return this.hallOfFame.peek();
+    public synchronized Chromosome getWorstChromosome() {
+        return this.size > 0 ? this.members[0] : null;
+    }
+
+    /**
+     * Getter for the number of members
+     *
+     * @return The number of chromosomes in the hall of fame
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Check if a chromosome with the fingerprint is a member
+     *
+     * @param fingerprint The fingerprint of the chromosome
+     * @return True if the chromosome is in the hall of fame
+     */
+    public synchronized boolean contains(long fingerprint) {
+        return positionOf(fingerprint) != EMPTY;
     }
 
     /**
      * Adds the {@code chromosome} if it is better then the worse chromosome in the hall of fame
      *
      * @param chromosome The new chromosome to the hall of fame data structures
+     * @return True if the chromosome got added
      */
-    public void addChromosome(Chromosome chromosome) {
-        // If chromosome or solution of chromosome is already in the hall of fame dont add it.
-        if (this.checkForExisting.contains(chromosome)) {
-            logger.info("hallOfFame", "Hall of fame hit");
+    public boolean addChromosome(Chromosome chromosome) {
+        double fitness = chromosome.getFitnessAsDouble();
+        double key = this.minimise ? fitness : -fitness;
+
+        // A full hall of fame rejects chromosomes worse than the worst one without locking and hashing
+        if (this.size == this.members.length && key > this.worstKey)
+            return false;
+
+        long fingerprint = chromosome.getFingerprint();
+        synchronized (this) {
+            return insert(chromosome, fitness, key, fingerprint);
+        }
+    }
+
+    /**
+     * Offer an evaluated chromosome from a concurrent thread
+     * Without a minimum distance it is added right away. With a minimum distance it is collected until
+     * {@link #insertCandidates()} inserts the collected chromosomes in a deterministic order.
+     *
+     * @param chromosome The evaluated chromosome
+     */
+    public void offerChromosome(Chromosome chromosome) {
+        if (this.minDistance == 0) {
+            addChromosome(chromosome);
             return;
         }
+        synchronized (this.candidates) {
+            this.candidates.add(chromosome);
+        }
+    }
+
+    /**
+     * Insert the offered chromosomes from the best to the worst, equal ones ordered by their fingerprint
+     * Has to be called while nothing is offered.
+     */
+    public synchronized void insertCandidates() {
+        synchronized (this.candidates) {
+            if (this.candidates.isEmpty())
+                return;
+            this.candidates.sort((first, second) -> {
+                double firstKey = this.minimise ? first.getFitnessAsDouble() : -first.getFitnessAsDouble();
+                double secondKey = this.minimise ? second.getFitnessAsDouble() : -second.getFitnessAsDouble();
+                if (firstKey != secondKey)
+                    return firstKey < secondKey ? -1 : 1;
+                return Long.compare(first.getFingerprint(), second.getFingerprint());
+            });
+            for (Chromosome chromosome : this.candidates)
+                addChromosome(chromosome);
+            this.candidates.clear();
+        }
+    }
 
-        // Check if the hall of fame is full
-        if (this.hallOfFame.size() <= hallOfFameSize) {
-            this.hallOfFame.add(chromosome);
-            this.quickAccess.add(chromosome);
-            this.checkForExisting.add(chromosome);
-            this.cumulativeSum += chromosome.getFitness().doubleValue();
+    private boolean insert(Chromosome chromosome, double fitness, double key, long fingerprint) {
+        if (this.size == this.members.length && !isWorse(this.keys[0], this.fingerprints[0], key, fingerprint))
+            return false;
+
+        // If the chromosome is already in the hall of fame dont add it.
+        if (positionOf(fingerprint) != EMPTY)
+            return false;
+
+        long[] packed = null;
+        if (this.minDistance > 0) {
+            packed = pack(chromosome.getGenome());
+            if (!clearNeighbours(packed, key, fingerprint))
+                return false;
+        }
+
+        if (this.size == this.members.length)
+            removeAt(0);
+
+        int index = this.size++;
+        this.members[index] = chromosome;
+        this.keys[index] = key;
+        this.fingerprints[index] = fingerprint;
+        this.packedGenes[index] = packed;
+        this.cumulativeSum += fitness;
+        this.sorted = false;
+        siftUp(index);
+        this.worstKey = this.keys[0];
+        return true;
+    }
+
+    /**
+     * Remove the members closer than the minimum distance to the chromosome if it is better than all of them
+     *
+     * @return False if a close member is at least as good as the chromosome
+     */
+    private boolean clearNeighbours(long[] packed, double key, long fingerprint) {
+        this.distance.prepare(this.layout, packed, this.scratch);
+
+        List<Long> neighbours = null;
+        for (int i = 0; i < this.size; i++) {
+            if (this.distance.distance(this.layout, packed, this.packedGenes[i], this.minDistance, this.scratch) >=
+                    this.minDistance)
+                continue;
+            if (!isWorse(this.keys[i], this.fingerprints[i], key, fingerprint))
+                return false;
+            if (neighbours == null)
+                neighbours = new ArrayList<>();
+            neighbours.add(this.fingerprints[i]);
+        }
+        if (neighbours != null)
+            for (long neighbour : neighbours)
+                removeAt(positionOf(neighbour));
+        return true;
+    }
+
+    /**
+     * Pack the genes of a chromosome, the first chromosome defines the sub genome lengths all members have to match
+     */
+    private long[] pack(Genome[] genome) {
+        if (this.layout == null) {
+            this.layout = new GenomeDistance.Layout(genome);
+            this.scratch = new int[this.distance.scratchSize(this.layout)];
+        } else if (!this.layout.hasShape(genome)) {
+            throw new IllegalArgumentException("The genome doesn't match the genome layout of the hall of fame");
+        } else if (!this.layout.fits(genome)) {
+            // A gene larger than all genes so far may need wider lanes, so the members are packed again
+            this.layout = new GenomeDistance.Layout(genome, this.layout.stride);
+            this.scratch = new int[this.distance.scratchSize(this.layout)];
+            for (int i = 0; i < this.size; i++)
+                this.packedGenes[i] = this.layout.pack(this.members[i].getGenome());
+        }
+        return this.layout.pack(genome);
+    }
+
+    /**
+     * Removes the member with the fingerprint
+     *
+     * @param fingerprint The fingerprint of the chromosome to be removed
+     * @return True if the chromosome was a member
+     */
+    public synchronized boolean removeChromosome(long fingerprint) {
+        int index = positionOf(fingerprint);
+        if (index == EMPTY)
+            return false;
+        removeAt(index);
+        this.sorted = false;
+        this.worstKey = this.size > 0 ? this.keys[0] : Double.NaN;
+        return true;
+    }
+
+    /**
+     * Sort the members from the worst to the best, which is a valid heap order
+     * Concurrent insertions leave the members in an order depending on the timing of the threads, after sorting
+     * the random draws only depend on the random stream again. Has to be called while nothing is inserted.
+     */
+    public synchronized void sortMembers() {
+        if (this.sorted)
             return;
+        // Heap sort leaves the best member first, so the members are reversed afterwards
+        this.trackPositions = false;
+        for (int end = this.size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
         }
+        for (int i = 0, j = this.size - 1; i < j; i++, j--)
+            swap(i, j);
+        this.trackPositions = true;
+        for (int i = 0; i < this.size; i++)
+            setPosition(this.fingerprints[i], i);
+        this.sorted = true;
+    }
+
+    /**
+     * Remove the member at the heap index by moving the last member into its place
+     */
+    private void removeAt(int index) {
+        Chromosome removed = this.members[index];
+        this.cumulativeSum -= removed.getFitnessAsDouble();
+        removePosition(this.fingerprints[index]);
+
+        int last = --this.size;
+        if (index != last) {
+            move(last, index);
+            int parent = (index - 1) >>> 1;
+            if (index > 0 && isWorse(this.keys[index], this.fingerprints[index], this.keys[parent], this.fingerprints[parent]))
+                siftUp(index);
+            else
+                siftDown(index, last);
+        }
+        this.members[last] = null;
+        this.packedGenes[last] = null;
+    }
+
+    /**
+     * Move the member at the index up while it is worse than its parent
+     * The parents are moved down into the hole, so each moved member updates its position once
+     */
+    private void siftUp(int index) {
+        Chromosome member = this.members[index];
+        double key = this.keys[index];
+        long fingerprint = this.fingerprints[index];
+        long[] packed = this.packedGenes[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(key, fingerprint, this.keys[parent], this.fingerprints[parent]))
+                break;
+            move(parent, index);
+            index = parent;
+        }
+        place(index, member, key, fingerprint, packed);
+    }
+
+    /**
+     * Move the member at the index down while one of its children in front of {@code end} is worse
+     */
+    private void siftDown(int index, int end) {
+        Chromosome member = this.members[index];
+        double key = this.keys[index];
+        long fingerprint = this.fingerprints[index];
+        long[] packed = this.packedGenes[index];
+        int half = end >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < end && isWorse(this.keys[right], this.fingerprints[right], this.keys[child], this.fingerprints[child]))
+                child = right;
+            if (!isWorse(this.keys[child], this.fingerprints[child], key, fingerprint))
+                break;
+            move(child, index);
+            index = child;
+        }
+        place(index, member, key, fingerprint, packed);
+    }
 
-        // If the hall of fame isn't full check if the proposed chromosome is better then the worst chromosome
-        if (this.hallOfFame.peek() != null &&
-                chromosome.getFitness().doubleValue() < this.hallOfFame.peek().getFitness().doubleValue()) {
+    /**
+     * Total order of the members, larger keys are worse and equal keys are ordered by the fingerprint
+     */
+    private static boolean isWorse(double key, long fingerprint, double otherKey, long otherFingerprint) {
+        return key > otherKey || (key == otherKey && fingerprint > otherFingerprint);
+    }
+
+    private void swap(int first, int second) {
+        Chromosome member = this.members[first];
+        double key = this.keys[first];
+        long fingerprint = this.fingerprints[first];
+        long[] packed = this.packedGenes[first];
+        move(second, first);
+        place(second, member, key, fingerprint, packed);
+    }
+
+    private void place(int index, Chromosome member, double key, long fingerprint, long[] packed) {
+        this.members[index] = member;
+        this.keys[index] = key;
+        this.fingerprints[index] = fingerprint;
+        this.packedGenes[index] = packed;
+        if (this.trackPositions)
+            setPosition(fingerprint, index);
+    }
 
-            // Remove old worst chromosome
-            Chromosome toBeRemoved = this.hallOfFame.poll();    // Get the worst
-            this.cumulativeSum -= toBeRemoved.getFitness().doubleValue();    // Alter the cumulativeSum
-            this.quickAccess.remove(toBeRemoved);
-            this.checkForExisting.remove(toBeRemoved);
+    /**
+     * Move the member at {@code from} to {@code to} and update its position
+     */
+    private void move(int from, int to) {
+        this.members[to] = this.members[from];
+        this.keys[to] = this.keys[from];
+        this.fingerprints[to] = this.fingerprints[from];
+        this.packedGenes[to] = this.packedGenes[from];
+        if (this.trackPositions)
+            setPosition(this.fingerprints[to], to);
+    }
 
-            // Add new chromosome
-            this.hallOfFame.add(chromosome);
-            this.quickAccess.add(chromosome);
-            this.checkForExisting.add(chromosome);
-            this.cumulativeSum += chromosome.getFitness().doubleValue();
+    /**
+     * The first slot of the probe sequence of the fingerprint
+     */
+    private int homeSlot(long fingerprint) {
+        return (int) ((fingerprint * 0x9E3779B97F4A7C15L) >>> this.slotShift);
+    }
 
-//            logger.debug("hallOfFame", "Hall of Fame added : " +
-//                    "Size: " + this.hallOfFame.size() + " Sum: " + this.cumulativeSum);
+    /**
+     * The slot holding the fingerprint or the empty slot ending its probe sequence
+     */
+    private int findSlot(long fingerprint) {
+        int mask = this.slotPositions.length - 1;
+        int slot = homeSlot(fingerprint);
+        while (this.slotPositions[slot] != EMPTY && this.slotFingerprints[slot] != fingerprint)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Get the heap index of the member with the fingerprint
+     *
+     * @return The heap index or {@link #EMPTY} if it isn't a member
+     */
+    private int positionOf(long fingerprint) {
+        return this.slotPositions[findSlot(fingerprint)];
+    }
+
+    private void setPosition(long fingerprint, int index) {
+        int slot = findSlot(fingerprint);
+        this.slotFingerprints[slot] = fingerprint;
+        this.slotPositions[slot] = index;
+    }
+
+    /**
+     * Remove the fingerprint from the position table
+     * The following entries of the probe sequence are shifted back into the hole, so no tombstones are needed.
+     */
+    private void removePosition(long fingerprint) {
+        int mask = this.slotPositions.length - 1;
+        int hole = findSlot(fingerprint);
+        if (this.slotPositions[hole] == EMPTY)
+            return;
+        for (int slot = (hole + 1) & mask; this.slotPositions[slot] != EMPTY; slot = (slot + 1) & mask) {
+            // An entry can fill the hole if the hole lies between its home slot and its slot
+            int home = homeSlot(this.slotFingerprints[slot]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                this.slotFingerprints[hole] = this.slotFingerprints[slot];
+                this.slotPositions[hole] = this.slotPositions[slot];
+                hole = slot;
+            }
         }
+        this.slotPositions[hole] = EMPTY;
     }
 }
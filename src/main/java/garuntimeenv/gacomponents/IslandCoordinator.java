@@ -0,0 +1,240 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.utils.MyLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Coordinator of the island model over {@link IslandWorker} processes connected by TCP
+ * It assigns each connecting worker its island and configuration, forwards the migrants of an island to the
+ * receiver of the topology and aggregates the best fitness of each generation over all islands.
+ * The best fitness is added to the data manager after all islands are done.
+ */
+public class IslandCoordinator implements Closeable {
+
+    final static MyLogger logger = MyLogger.getLogger(IslandCoordinator.class);
+
+    // The data manager instance
+    private static DataManager dataManager = DataManager.getInstance();
+
+    private final ServerSocket serverSocket;
+    private final Config config;
+    private final IFitnessFunction fitnessFunction;
+
+    private WorkerConnection[] workers;
+    private double[] bestFitness;               // Best fitness over all islands of each generation
+    private Chromosome bestChromosome;          // Best chromosome of all islands, set when the islands are done
+    private SplittableRandom random;            // Draws the receivers of the random topology
+
+    /**
+     * Constructor that opens the server socket for the workers
+     *
+     * @param config The used configuration, {@link Config#getIslands()} defines the number of workers
+     * @param port   The port to listen on, 0 chooses a free port
+     */
+    public IslandCoordinator(Config config, int port) throws IOException {
+        this.config = config;
+        this.fitnessFunction = config.getFitnessFunction();
+        this.serverSocket = new ServerSocket(port);
+    }
+
+    /**
+     * Getter for the port the coordinator listens on
+     *
+     * @return The local port
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Wait for all workers, run the islands until each is done and report the best fitness to the data manager
+     *
+     * @param generations The number of generations each island evolves
+     */
+    public void run(int generations) throws IOException {
+        int islandAmount = this.config.getIslands();
+        long seed = this.config.getSeed() != null ? this.config.getSeed() : TestManager.getSeed();
+        this.random = new SplittableRandom(seed);
+        this.bestFitness = new double[generations];
+        Arrays.fill(this.bestFitness, Double.NaN);
+
+        this.workers = new WorkerConnection[islandAmount];
+        for (int i = 0; i < islandAmount; i++) {
+            this.workers[i] = new WorkerConnection(this.serverSocket.accept());
+            if (this.workers[i].in.readInt() != MigrationProtocol.MAGIC)
+                throw new StreamCorruptedException("Connected client isn't an island worker");
+            logger.info("islandCoordinator", "Island " + i + " connected");
+        }
+        for (int i = 0; i < islandAmount; i++)
+            this.workers[i].sendAssignment(this.config, i, islandAmount, generations, seed + i);
+
+        ExecutorService executor = Executors.newFixedThreadPool(islandAmount);
+        try {
+            List<Future<Chromosome>> runningIslands = new ArrayList<>();
+            for (int i = 0; i < islandAmount; i++) {
+                int index = i;
+                runningIslands.add(executor.submit(() -> receive(index)));
+            }
+            for (Future<Chromosome> runningIsland : runningIslands) {
+                Chromosome islandBest = runningIsland.get();
+                if (this.bestChromosome == null ||
+                        this.fitnessFunction.isBetterFitness(islandBest.getFitnessAsDouble(), this.bestChromosome.getFitnessAsDouble()))
+                    this.bestChromosome = islandBest;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IOException("Lost the connection to an island", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            for (WorkerConnection worker : this.workers)
+                if (worker != null)
+                    worker.close();
+        }
+
+        for (int generation = 0; generation < generations; generation++)
+            dataManager.addDataPoint("Best Fitness", generation, this.bestFitness[generation]);
+        logger.info("islandCoordinator", "Best fitness of " + islandAmount + " islands: " +
+                this.bestChromosome.getFitness());
+    }
+
+    /**
+     * Handle the messages of a worker until it is done
+     *
+     * @param index The island of the worker
+     * @return The best chromosome of the island
+     */
+    private Chromosome receive(int index) throws IOException {
+        DataInputStream in = this.workers[index].in;
+        while (true) {
+            byte type = in.readByte();
+            switch (type) {
+                case MigrationProtocol.MIGRANTS:
+                    Chromosome[] migrants = MigrationProtocol.readChromosomes(in);
+                    this.workers[receiver(index)].sendMigrants(migrants);
+                    break;
+                case MigrationProtocol.FITNESS:
+                    int generation = MigrationProtocol.readVarInt(in);
+                    double fitness = MigrationProtocol.readFitness(in).doubleValue();
+                    synchronized (this.bestFitness) {
+                        if (Double.isNaN(this.bestFitness[generation]) ||
+                                this.fitnessFunction.isBetterFitness(fitness, this.bestFitness[generation]))
+                            this.bestFitness[generation] = fitness;
+                    }
+                    break;
+                case MigrationProtocol.DONE:
+                    this.workers[index].done = true;
+                    return MigrationProtocol.readChromosome(in);
+                default:
+                    throw new StreamCorruptedException("Unknown message type " + type);
+            }
+        }
+    }
+
+    /**
+     * Get the island receiving the migrants of the island
+     */
+    private int receiver(int index) {
+        int islandAmount = this.workers.length;
+        if (islandAmount == 1)
+            return index;
+        if (this.config.getMigrationTopology() == IslandModel.Topology.RING)
+            return (index + 1) % islandAmount;
+        synchronized (this.random) {
+            return (index + 1 + this.random.nextInt(islandAmount - 1)) % islandAmount;
+        }
+    }
+
+    /**
+     * Getter for the best chromosome found on any island, its solution isn't decodable
+     *
+     * @return The best chromosome or null if the islands didn't run yet
+     */
+    public Chromosome getBestChromosome() {
+        return this.bestChromosome;
+    }
+
+    /**
+     * Getter for the best fitness over all islands of each generation
+     *
+     * @return The best fitness of each generation
+     */
+    public double[] getBestFitness() {
+        return this.bestFitness;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+    }
+
+    /**
+     * Connection to a worker, messages to the worker are sent while holding the lock of the connection
+     */
+    private static class WorkerConnection {
+        final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+        volatile boolean done = false;          // Set when the worker doesn't take migrants anymore
+
+        WorkerConnection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        synchronized void sendAssignment(Config config, int index, int islandAmount, int generations, long seed) throws IOException {
+            out.writeByte(MigrationProtocol.ASSIGN);
+            MigrationProtocol.writeVarInt(out, index);
+            MigrationProtocol.writeVarInt(out, islandAmount);
+            MigrationProtocol.writeVarInt(out, generations);
+            MigrationProtocol.writeVarInt(out, config.getPopulationSize());
+            MigrationProtocol.writeVarInt(out, config.getMigrationInterval());
+            MigrationProtocol.writeVarInt(out, config.getMigrationSize());
+            out.writeDouble(config.getCrossoverChromosomes());
+            out.writeDouble(config.getMutationChromosomes());
+            out.writeDouble(config.getSubGenomeMutationProbability());
+            out.writeDouble(config.getHallOfFamePercentage());
+            out.writeLong(seed);
+            out.flush();
+        }
+
+        synchronized void sendMigrants(Chromosome[] migrants) throws IOException {
+            if (done)
+                return;
+            out.writeByte(MigrationProtocol.MIGRANTS);
+            MigrationProtocol.writeChromosomes(out, migrants);
+            out.flush();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.info("islandCoordinator", "Couldn't close the worker connection: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.IProblem;
+import garuntimeenv.utils.MyLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Class running independent populations of the genetic algorithm as islands on separate worker threads
+ * Each island has its own selection and hall of fame. Every {@link Config#getMigrationInterval()} generations
+ * an island sends copies of its best chromosomes into the mailbox of an island given by the topology and
+ * replaces its worst chromosomes with the chromosomes waiting in its own mailbox.
+ * The mailboxes are lock free queues, so the islands never wait for each other.
+ */
+public class IslandModel {
+
+    /**
+     * The island receiving the migrants of an island
+     */
+    public enum Topology {
+        RING,       // The next island in the ring
+        RANDOM      // A random other island drawn at each migration
+    }
+
+    final static MyLogger logger = MyLogger.getLogger(IslandModel.class);
+
+    // The data manager instance
+    private static DataManager dataManager = DataManager.getInstance();
+
+    private final IProblem problem;
+    private final Config config;
+    private final IFitnessFunction fitnessFunction;
+
+    private GAManager[] islands;                                    // The ga manager of each island
+    private List<ConcurrentLinkedQueue<Chromosome[]>> mailboxes;    // The received migrants of each island
+    private double[][] bestFitness;                                 // Best fitness of each island and generation
+
+    // The best overall generated chromosome
+    private Chromosome bestChromosome;
+
+    /**
+     * Constructor of the island model
+     *
+     * @param problem The used problem
+     * @param config  The used configuration, {@link Config#getIslands()} defines the number of islands
+     */
+    public IslandModel(IProblem problem, Config config) {
+        this.problem = problem;
+        this.config = config;
+        this.fitnessFunction = config.getFitnessFunction();
+    }
+
+    /**
+     * Run the islands until each of them has evolved the maximum number of generations
+     * and report the best fitness over all islands of each generation to the data manager
+     */
+    public void startEnvironment() {
+        int generations = TestManager.currMaxGenerations;
+        int islandAmount = this.config.getIslands();
+        SplittableRandom seeds = new SplittableRandom(
+                config.getSeed() != null ? config.getSeed() : TestManager.getSeed());
+
+        this.islands = new GAManager[islandAmount];
+        this.mailboxes = new ArrayList<>();
+        this.bestFitness = new double[islandAmount][generations];
+        for (int i = 0; i < islandAmount; i++) {
+            this.islands[i] = new GAManager(problem, config,
+                    config.getPrevChromosomeSelection().newInstance(), seeds.nextLong());
+            this.mailboxes.add(new ConcurrentLinkedQueue<>());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(islandAmount);
+        try {
+            List<Future<?>> runningIslands = new ArrayList<>();
+            for (int i = 0; i < islandAmount; i++) {
+                int index = i;
+                SplittableRandom random = seeds.split();
+                runningIslands.add(executor.submit(() -> runIsland(index, generations, random)));
+            }
+            for (Future<?> runningIsland : runningIslands)
+                runningIsland.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("An island failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (GAManager island : this.islands)
+            if (this.bestChromosome == null ||
+                    this.fitnessFunction.isBetterFitness(island.getBestChromosome().getFitnessAsDouble(),
+                            this.bestChromosome.getFitnessAsDouble()))
+                this.bestChromosome = island.getBestChromosome();
+
+        reportBestFitness(generations);
+    }
+
+    /**
+     * Evolve the island on the calling thread
+     *
+     * @param index       The index of the island
+     * @param generations The number of generations
+     * @param random      The random stream drawing the receivers of the random topology
+     */
+    private void runIsland(int index, int generations, SplittableRandom random) {
+        GAManager island = this.islands[index];
+        island.createInitialPopulation();
+        for (int generation = 0; generation < generations; generation++) {
+            island.evaluateFitnessOfPopulation(island.getLastGeneration());
+            if (this.config.getMigrationInterval() > 0 && (generation + 1) % this.config.getMigrationInterval() == 0)
+                migrate(index, random);
+            this.bestFitness[index][generation] = island.getBestChromosome().getFitnessAsDouble();
+            island.createNextGeneration();
+        }
+    }
+
+    /**
+     * Send the best chromosomes of the island to the receiver of the topology
+     * and take in the chromosomes waiting in the mailbox of the island
+     *
+     * @param index  The index of the island
+     * @param random The random stream of the island
+     */
+    private void migrate(int index, SplittableRandom random) {
+        GAManager island = this.islands[index];
+        int islandAmount = this.islands.length;
+        if (islandAmount > 1) {
+            int receiver = this.config.getMigrationTopology() == Topology.RING ?
+                    (index + 1) % islandAmount :
+                    (index + 1 + random.nextInt(islandAmount - 1)) % islandAmount;
+            this.mailboxes.get(receiver).offer(island.getEmigrants(this.config.getMigrationSize()));
+        }
+
+        Chromosome[] migrants;
+        while ((migrants = this.mailboxes.get(index).poll()) != null)
+            island.acceptMigrants(migrants);
+    }
+
+    /**
+     * Add the best fitness over all islands of each generation to the current data series
+     *
+     * @param generations The number of generations
+     */
+    private void reportBestFitness(int generations) {
+        for (int generation = 0; generation < generations; generation++) {
+            double best = this.bestFitness[0][generation];
+            for (int i = 1; i < this.islands.length; i++)
+                if (this.fitnessFunction.isBetterFitness(this.bestFitness[i][generation], best))
+                    best = this.bestFitness[i][generation];
+            dataManager.addDataPoint("Best Fitness", generation, best);
+        }
+        logger.info("islandModel", "Best fitness of " + this.islands.length + " islands: " +
+                (this.bestChromosome == null ? "none" : this.bestChromosome.getFitness()));
+    }
+
+    /**
+     * Getter for the best chromosome found on any island
+     *
+     * @return The best chromosome or null if the islands didn't run yet
+     */
+    public Chromosome getBestChromosome() {
+        return this.bestChromosome;
+    }
+
+    /**
+     * Getter for the best fitness of an island after each generation
+     *
+     * @param island The index of the island
+     * @return The best fitness after each generation
+     */
+    public double[] getBestFitness(int island) {
+        return this.bestFitness[island];
+    }
+}
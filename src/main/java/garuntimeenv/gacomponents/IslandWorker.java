@@ -0,0 +1,141 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.interfaces.IProblem;
+import garuntimeenv.utils.MyLogger;
+import garuntimeenv.utils.ProblemLoader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Worker process running one island of the island model of an {@link IslandCoordinator}
+ * The worker gets its island, the generation count and the configuration values from the coordinator.
+ * The genetic operators are the defaults of {@link Config}.
+ * <p>
+ * Usage: IslandWorker host port [problem instance]
+ */
+public class IslandWorker {
+
+    final static MyLogger logger = MyLogger.getLogger(IslandWorker.class);
+
+    private final IProblem problem;
+
+    // Migrants received from the coordinator, filled by the receiving thread
+    private final ConcurrentLinkedQueue<Chromosome[]> mailbox = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor for the worker
+     *
+     * @param problem The problem the island runs on, has to be the same for all workers of a coordinator
+     */
+    public IslandWorker(IProblem problem) {
+        this.problem = problem;
+    }
+
+    /**
+     * Connect to the coordinator and run the assigned island until it is done
+     *
+     * @param host The host of the coordinator
+     * @param port The port of the coordinator
+     */
+    public void run(String host, int port) throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(MigrationProtocol.MAGIC);
+            out.flush();
+
+            if (in.readByte() != MigrationProtocol.ASSIGN)
+                throw new StreamCorruptedException("Expected the island assignment");
+            int index = MigrationProtocol.readVarInt(in);
+            int islandAmount = MigrationProtocol.readVarInt(in);
+            int generations = MigrationProtocol.readVarInt(in);
+            Config config = new Config();
+            config.setPopulationSize(MigrationProtocol.readVarInt(in));
+            config.setMigrationInterval(MigrationProtocol.readVarInt(in));
+            config.setMigrationSize(MigrationProtocol.readVarInt(in));
+            config.setCrossoverChromosomes(in.readDouble());
+            config.setMutationChromosomes(in.readDouble());
+            config.setSubGenomeMutationProbability(in.readDouble());
+            config.setHallOfFamePercentage(in.readDouble());
+            long seed = in.readLong();
+            logger.info("islandWorker", "Running island " + index + " of " + islandAmount);
+
+            Thread receiver = new Thread(() -> receive(in), "island-" + index + "-receiver");
+            receiver.setDaemon(true);
+            receiver.start();
+
+            GAManager island = new GAManager(problem, config, config.getPrevChromosomeSelection().newInstance(), seed);
+            island.createInitialPopulation();
+            for (int generation = 0; generation < generations; generation++) {
+                island.evaluateFitnessOfPopulation(island.getLastGeneration());
+                if (config.getMigrationInterval() > 0 && (generation + 1) % config.getMigrationInterval() == 0) {
+                    out.writeByte(MigrationProtocol.MIGRANTS);
+                    MigrationProtocol.writeChromosomes(out, island.getEmigrants(config.getMigrationSize()));
+                    Chromosome[] migrants;
+                    while ((migrants = this.mailbox.poll()) != null)
+                        island.acceptMigrants(migrants);
+                }
+                out.writeByte(MigrationProtocol.FITNESS);
+                MigrationProtocol.writeVarInt(out, generation);
+                MigrationProtocol.writeFitness(out, island.getBestChromosome().getFitness());
+                out.flush();
+                island.createNextGeneration();
+            }
+
+            out.writeByte(MigrationProtocol.DONE);
+            MigrationProtocol.writeChromosome(out, island.getBestChromosome());
+            out.flush();
+
+            // The coordinator closes the connection when all islands are done
+            receiver.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Put the migrants sent by the coordinator into the mailbox until the connection is closed
+     */
+    private void receive(DataInputStream in) {
+        try {
+            while (true) {
+                byte type = in.readByte();
+                if (type != MigrationProtocol.MIGRANTS)
+                    throw new StreamCorruptedException("Unknown message type " + type);
+                this.mailbox.offer(MigrationProtocol.readChromosomes(in));
+            }
+        } catch (EOFException | SocketException e) {
+            // Connection closed by the coordinator
+        } catch (IOException e) {
+            logger.info("islandWorker", "Receiving migrants failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start a worker process
+     *
+     * @param args Host and port of the coordinator and optionally the index of the job shop instance
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: IslandWorker host port [problem instance]");
+            System.exit(1);
+        }
+        EnvConfig.getInstance().setVisualEnabled(false);
+        EnvConfig.getInstance().setWriteData(false);
+        int instance = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        IProblem problem = ProblemLoader.getInstance().loadProblem(ProblemLoader.problems.Job_Shop_Scheduling, instance);
+        new IslandWorker(problem).run(args[0], Integer.parseInt(args[1]));
+    }
+}
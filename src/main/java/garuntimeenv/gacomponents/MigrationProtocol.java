@@ -0,0 +1,131 @@
+package garuntimeenv.gacomponents;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Binary wire format between the {@link IslandCoordinator} and its {@link IslandWorker} processes
+ * Each message starts with its type byte. Counts, lengths and genes are written as unsigned variable length
+ * integers, so a job shop gene takes one byte for up to 128 jobs. The fitness is written with a type tag to
+ * keep its number type.
+ * <p>
+ * Chromosome: genome amount, per genome its length and genes, then the fitness
+ */
+final class MigrationProtocol {
+
+    static final int MAGIC = 0x47414931;        // "GAI1", sent by the worker when it connects
+
+    // Message types
+    static final byte ASSIGN = 1;               // Coordinator to worker: island index and configuration
+    static final byte MIGRANTS = 2;             // Both directions: chromosomes migrating to another island
+    static final byte FITNESS = 3;              // Worker to coordinator: generation and best fitness of the island
+    static final byte DONE = 4;                 // Worker to coordinator: the best chromosome of the finished island
+
+    // Type tags of the fitness
+    private static final byte INTEGER = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+
+    private MigrationProtocol() {
+    }
+
+    /**
+     * Write the chromosomes with their genes and fitness
+     *
+     * @param out         The stream to be written to
+     * @param chromosomes The chromosomes
+     */
+    static void writeChromosomes(DataOutputStream out, Chromosome[] chromosomes) throws IOException {
+        writeVarInt(out, chromosomes.length);
+        for (Chromosome chromosome : chromosomes)
+            writeChromosome(out, chromosome);
+    }
+
+    /**
+     * Read the chromosomes written by {@link #writeChromosomes(DataOutputStream, Chromosome[])}
+     *
+     * @param in The stream to be read from
+     * @return The chromosomes with their fitness
+     */
+    static Chromosome[] readChromosomes(DataInputStream in) throws IOException {
+        Chromosome[] chromosomes = new Chromosome[readVarInt(in)];
+        for (int i = 0; i < chromosomes.length; i++)
+            chromosomes[i] = readChromosome(in);
+        return chromosomes;
+    }
+
+    static void writeChromosome(DataOutputStream out, Chromosome chromosome) throws IOException {
+        Genome[] genome = chromosome.getGenome();
+        writeVarInt(out, genome.length);
+        for (Genome subGenome : genome) {
+            writeVarInt(out, subGenome.getGenomeSize());
+            for (int gene : subGenome.getGenes())
+                writeVarInt(out, gene);
+        }
+        writeFitness(out, chromosome.getFitness());
+    }
+
+    static Chromosome readChromosome(DataInputStream in) throws IOException {
+        Genome[] genome = new Genome[readVarInt(in)];
+        for (int i = 0; i < genome.length; i++) {
+            int[] genes = new int[readVarInt(in)];
+            for (int j = 0; j < genes.length; j++)
+                genes[j] = readVarInt(in);
+            genome[i] = new Genome(genes);
+        }
+        Chromosome chromosome = new Chromosome(genome);
+        chromosome.setFitness(readFitness(in));
+        return chromosome;
+    }
+
+    static void writeFitness(DataOutputStream out, Number fitness) throws IOException {
+        if (fitness instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt(fitness.intValue());
+        } else if (fitness instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong(fitness.longValue());
+        } else {
+            out.writeByte(DOUBLE);
+            out.writeDouble(fitness.doubleValue());
+        }
+    }
+
+    static Number readFitness(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            default:
+                throw new StreamCorruptedException("Unknown fitness type " + type);
+        }
+    }
+
+    /**
+     * Write a non negative integer in groups of seven bits, the highest bit marks a following group
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int group = in.readUnsignedByte();
+            value |= (group & 0x7F) << shift;
+            if ((group & 0x80) == 0)
+                return value;
+        }
+        throw new StreamCorruptedException("Variable length integer is too long");
+    }
+}
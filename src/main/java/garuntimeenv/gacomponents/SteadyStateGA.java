@@ -0,0 +1,306 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.geneticoperators.mutations.Mutation;
+import garuntimeenv.interfaces.CrossoverOperators;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.IMutation;
+import garuntimeenv.interfaces.IProblem;
+import garuntimeenv.interfaces.IProblemRepresentation;
+import garuntimeenv.utils.MyLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * Steady state genetic algorithm without generation barriers
+ * Each worker thread repeatedly selects parents by binary tournaments on the shared population, breeds one
+ * offspring, evaluates it and replaces the worst member if the offspring is better and not already a member.
+ * The population slots are an atomic array and the members are ranked in a concurrent skip list, so the
+ * workers never wait for each other and slow decodings only hold up their own worker.
+ * With delta evaluation the members keep their decoding traces for their mutants, a trace is dropped when its
+ * chromosome leaves the population or is rejected and at the end of the run.
+ */
+public class SteadyStateGA {
+
+    final static MyLogger logger = MyLogger.getLogger(SteadyStateGA.class);
+
+    // The data manager instance
+    private static DataManager dataManager = DataManager.getInstance();
+
+    private final IProblem problem;
+    private final Config config;
+    private final IProblemRepresentation rep;
+    private final IFitnessFunction fitnessFunction;
+    private final List<CrossoverOperators> crossoverOperators;
+    private final List<IMutation> mutationOperators;
+
+    private AtomicReferenceArray<Chromosome> population;        // The members by slot
+    private ConcurrentSkipListSet<Member> ranking;              // The members ordered worst first
+    private ConcurrentHashMap<Long, Integer> fingerprints;      // Number of members by fingerprint to reject duplicates
+    private final AtomicReference<Chromosome> bestChromosome = new AtomicReference<>();
+    private final AtomicLong evaluations = new AtomicLong();    // Evaluated chromosomes including the initial ones
+    private final AtomicLong reservations = new AtomicLong();   // Evaluations the workers reserved of the budget
+    private final AtomicLong sequence = new AtomicLong();       // Orders members with the same fitness
+
+    // Best fitness after every population size evaluations, reported after the run
+    private final ConcurrentLinkedQueue<Number[]> progress = new ConcurrentLinkedQueue<>();
+
+    private FitnessCache fitnessCache;
+    private long runTime = 0;                                   // Nano seconds of the last run
+
+    /**
+     * Constructor for the steady state genetic algorithm
+     *
+     * @param problem The used problem
+     * @param config  The used configuration, the parallelism defines the number of workers
+     */
+    public SteadyStateGA(IProblem problem, Config config) {
+        this.problem = problem;
+        this.config = config;
+        this.rep = config.getRepresentation();
+        this.fitnessFunction = config.getFitnessFunction();
+        this.crossoverOperators = config.getCrossoverOperators();
+        this.mutationOperators = config.getMutationOperators();
+        this.fitnessCache = config.getFitnessCacheSize() > 0 ?
+                new FitnessCache(config.getFitnessCacheSize(), config.getFitnessCacheEviction()) : null;
+    }
+
+    /**
+     * Run the workers until {@code evaluationBudget} chromosomes are evaluated
+     *
+     * @param evaluationBudget The number of evaluations including the initial population
+     * @return The best chromosome found
+     */
+    public Chromosome run(long evaluationBudget) {
+        int populationSize = this.config.getPopulationSize();
+        int workers = this.config.getParallelism();
+        SplittableRandom random = new SplittableRandom(
+                this.config.getSeed() != null ? this.config.getSeed() : TestManager.getSeed());
+
+        this.population = new AtomicReferenceArray<>(populationSize);
+        this.ranking = new ConcurrentSkipListSet<>((first, second) -> {
+            int order = this.fitnessFunction.compare(first.chromosome, second.chromosome);
+            return order != 0 ? order : Long.compare(first.sequence, second.sequence);
+        });
+        this.fingerprints = new ConcurrentHashMap<>();
+        this.bestChromosome.set(null);
+        this.evaluations.set(0);
+        this.progress.clear();
+
+        SplittableRandom[] initialRandoms = new SplittableRandom[populationSize];
+        for (int i = 0; i < populationSize; i++)
+            initialRandoms[i] = random.split();
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            pool.submit(() -> IntStream.range(0, populationSize).parallel().forEach(slot -> {
+                Chromosome chromosome = createRandomChromosome(initialRandoms[slot]);
+                evaluate(chromosome);
+                this.population.set(slot, chromosome);
+                this.ranking.add(new Member(chromosome, slot, this.sequence.incrementAndGet()));
+                // Random chromosomes can be equal, each twin is counted so replacing one keeps the others unique
+                this.fingerprints.merge(chromosome.getFingerprint(), 1, Integer::sum);
+                updateBest(chromosome);
+            })).join();
+
+            this.reservations.set(this.evaluations.get());
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                SplittableRandom workerRandom = random.split();
+                tasks.add(pool.submit(() -> work(workerRandom, evaluationBudget)));
+            }
+            for (ForkJoinTask<?> task : tasks)
+                task.join();
+        } finally {
+            pool.shutdown();
+        }
+        this.runTime = System.nanoTime() - start;
+        for (int slot = 0; slot < populationSize; slot++)
+            this.population.get(slot).setDecodingTrace(null);
+
+        if (dataManager.getCurrentDataSeries() != null)
+            for (Number[] point : this.progress)
+                dataManager.addDataPoint("Best Fitness", point[0], point[1]);
+        logger.info("steadyState", this.evaluations.get() + " evaluations in " + this.runTime / 1_000_000 +
+                " ms, best fitness " + this.bestChromosome.get().getFitness());
+        return this.bestChromosome.get();
+    }
+
+    /**
+     * Breed, evaluate and insert offsprings until the budget is used up
+     * Each evaluation is reserved before the breeding, so the workers together never exceed the budget.
+     *
+     * @param random          The random stream of the worker
+     * @param evaluationBudget The number of evaluations of the run
+     */
+    private void work(SplittableRandom random, long evaluationBudget) {
+        double crossoverShare = this.config.getCrossoverChromosomes() /
+                (this.config.getCrossoverChromosomes() + this.config.getMutationChromosomes());
+        while (this.reservations.getAndIncrement() < evaluationBudget) {
+            Chromosome offspring;
+            if (this.mutationOperators.isEmpty() ||
+                    (!this.crossoverOperators.isEmpty() && random.nextDouble() < crossoverShare)) {
+                CrossoverOperators crossover = this.crossoverOperators.get(random.nextInt(this.crossoverOperators.size()));
+                offspring = crossover.createOffspring(tournament(random), tournament(random), random);
+            } else {
+                Mutation mutation = (Mutation) this.mutationOperators.get(random.nextInt(this.mutationOperators.size()));
+                offspring = mutation.applyMutation(tournament(random), random);
+            }
+            evaluate(offspring);
+            replaceWorst(offspring);
+        }
+    }
+
+    /**
+     * Select the better of two random members
+     */
+    private Chromosome tournament(SplittableRandom random) {
+        Chromosome first = this.population.get(random.nextInt(this.population.length()));
+        Chromosome second = this.population.get(random.nextInt(this.population.length()));
+        return this.fitnessFunction.isBetterFitness(second.getFitnessAsDouble(), first.getFitnessAsDouble()) ? second : first;
+    }
+
+    /**
+     * Replace the worst member with the offspring if the offspring is better and not a member yet
+     *
+     * @param offspring The evaluated offspring
+     * @return True if the offspring got inserted
+     */
+    boolean replaceWorst(Chromosome offspring) {
+        long fingerprint = offspring.getFingerprint();
+        if (this.fingerprints.putIfAbsent(fingerprint, 1) != null) {
+            offspring.setDecodingTrace(null);
+            return false;
+        }
+        while (true) {
+            Member worst;
+            try {
+                worst = this.ranking.first();
+            } catch (NoSuchElementException e) {
+                // Every member is being replaced right now
+                Thread.onSpinWait();
+                continue;
+            }
+            if (!this.fitnessFunction.isBetterFitness(offspring.getFitnessAsDouble(), worst.chromosome.getFitnessAsDouble())) {
+                removeFingerprint(fingerprint);
+                offspring.setDecodingTrace(null);
+                return false;
+            }
+            // Only the worker that removes the worst member owns its slot
+            if (this.ranking.remove(worst)) {
+                this.population.set(worst.slot, offspring);
+                this.ranking.add(new Member(offspring, worst.slot, this.sequence.incrementAndGet()));
+                removeFingerprint(worst.chromosome.getFingerprint());
+                worst.chromosome.setDecodingTrace(null);
+                updateBest(offspring);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Count down the members with the fingerprint and forget it with its last member
+     */
+    private void removeFingerprint(long fingerprint) {
+        this.fingerprints.computeIfPresent(fingerprint, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private Chromosome createRandomChromosome(SplittableRandom random) {
+        try {
+            return this.rep.createRandomRep(this.problem.getDecodingInstance(), random);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("The problem can't be cloned for decoding", e);
+        }
+    }
+
+    /**
+     * Evaluate the chromosome and record the progress, chromosomes that can't be decoded get the worst fitness
+     */
+    private void evaluate(Chromosome chromosome) {
+        if (this.config.isDeltaEvaluation())
+            chromosome.requestDecodingTrace();
+        try {
+            chromosome.evaluate(this.rep, this.problem.getDecodingInstance(), this.fitnessFunction, this.fitnessCache);
+        } catch (Exception e) {
+            chromosome.setFitness(this.fitnessFunction.getWorstFitness());
+        }
+        long evaluated = this.evaluations.incrementAndGet();
+        if (evaluated % this.config.getPopulationSize() == 0 && this.bestChromosome.get() != null)
+            this.progress.add(new Number[]{evaluated / this.config.getPopulationSize(),
+                    this.bestChromosome.get().getFitness()});
+    }
+
+    private void updateBest(Chromosome chromosome) {
+        this.bestChromosome.accumulateAndGet(chromosome, (best, candidate) ->
+                best == null || this.fitnessFunction.isBetterFitness(candidate.getFitnessAsDouble(), best.getFitnessAsDouble()) ?
+                        candidate : best);
+    }
+
+    /**
+     * Getter for the best chromosome of the last run
+     *
+     * @return The best chromosome or null if it didn't run yet
+     */
+    public Chromosome getBestChromosome() {
+        return this.bestChromosome.get();
+    }
+
+    /**
+     * Getter for the number of evaluations of the last run
+     *
+     * @return The number of evaluated chromosomes
+     */
+    public long getEvaluations() {
+        return this.evaluations.get();
+    }
+
+    /**
+     * Getter for the throughput of the last run
+     *
+     * @return The evaluations per second
+     */
+    public double getEvaluationsPerSecond() {
+        return this.runTime == 0 ? 0 : this.evaluations.get() * 1e9 / this.runTime;
+    }
+
+    /**
+     * Getter for the current members of the population
+     *
+     * @return The members by slot
+     */
+    public Chromosome[] getPopulation() {
+        Chromosome[] members = new Chromosome[this.population.length()];
+        for (int i = 0; i < members.length; i++)
+            members[i] = this.population.get(i);
+        return members;
+    }
+
+    /**
+     * Member of the population with its slot, the sequence number keeps members with the same fitness apart
+     */
+    private static class Member {
+        final Chromosome chromosome;
+        final int slot;
+        final long sequence;
+
+        Member(Chromosome chromosome, int slot, long sequence) {
+            this.chromosome = chromosome;
+            this.slot = slot;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import java.util.Arrays;
+
+/**
+ * Scratch arrays of the crossover kernels, reused per thread
+ * The genes are used as indices into the arrays, so they have to be non negative ids like the job ids of the
+ * preference lists. Marking genes takes constant time and is reset for the next sub genome by starting a new epoch.
+ */
+final class CrossoverScratch {
+
+    // Scratch state for each breeding thread
+    private static final ThreadLocal<CrossoverScratch> scratch = ThreadLocal.withInitial(CrossoverScratch::new);
+
+    int[] positions = new int[0];           // Position of each gene in a parent
+    boolean[] occupied = new boolean[0];    // Positions of the offspring that are already set
+    private int[] marks = new int[0];       // Epoch in which each gene got marked
+    private boolean[] flags = new boolean[0];  // Flags of the genes valid for a whole offspring
+    private int epoch = 0;
+
+    /**
+     * Get the scratch of the current thread prepared for the sub genomes of two parents
+     * The marks are cleared, the positions and the occupied flags have to be set by the kernel.
+     *
+     * @param first  The genes of the first parent
+     * @param second The genes of the second parent
+     * @return The scratch of the current thread
+     */
+    static CrossoverScratch prepare(int[] first, int[] second) {
+        CrossoverScratch state = scratch.get();
+        int largestGene = 0;
+        for (int gene : first)
+            largestGene = Math.max(largestGene, gene);
+        for (int gene : second)
+            largestGene = Math.max(largestGene, gene);
+
+        if (state.positions.length <= largestGene) {
+            state.positions = new int[largestGene + 1];
+            state.marks = new int[largestGene + 1];
+            state.epoch = 0;
+        }
+        if (state.occupied.length < first.length)
+            state.occupied = new boolean[first.length];
+
+        if (++state.epoch == Integer.MAX_VALUE) {
+            Arrays.fill(state.marks, 0);
+            state.epoch = 1;
+        }
+        return state;
+    }
+
+    /**
+     * Get the gene flags of the current thread, they keep their values over all sub genomes of an offspring
+     * and have to be set by the kernel
+     *
+     * @param largestGene The largest gene that gets flagged
+     * @return The flags with at least {@code largestGene + 1} entries
+     */
+    static boolean[] flags(int largestGene) {
+        CrossoverScratch state = scratch.get();
+        if (state.flags.length <= largestGene)
+            state.flags = new boolean[largestGene + 1];
+        return state.flags;
+    }
+
+    /**
+     * Mark the gene for the current sub genome
+     */
+    void mark(int gene) {
+        this.marks[gene] = this.epoch;
+    }
+
+    /**
+     * Check if the gene is marked for the current sub genome
+     */
+    boolean isMarked(int gene) {
+        return this.marks[gene] == this.epoch;
+    }
+}
@@ -0,0 +1,88 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.interfaces.CrossoverOperators;
+import garuntimeenv.utils.MyLogger;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Class representing the generalized order crossover operator
+ * The way it is implemented is from the paper: A Generalized Permutation Approach to Job Shop Scheduling with
+ * Genetic Algorithms (Bierwirth)
+ * A substring of one third up to one half of the first parent is implanted into the second parent at the position
+ * of its first job in the second parent. The jobs of the substring are removed from the rest of the second parent.
+ */
+public class GOX implements CrossoverOperators {
+
+    final static MyLogger logger = MyLogger.getLogger(GOX.class);
+    private Random rand = new Random(TestManager.getSeed());
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        for (int i = 0; i < subgenomeAmount; i++) {
+            int[] donorGenes = parent1.getGenome()[i].getGenes();
+            int[] receiverGenes = parent2.getGenome()[i].getGenes();
+
+            int length = donorGenes.length;
+            if (length == 0) {
+                offSpringGenome[i] = new Genome(new int[0]);
+                continue;
+            }
+
+            // Select the length and the start of the implanted substring
+            int minLength = Math.max(1, length / 3);
+            int maxLength = Math.max(minLength, length / 2);
+            int substringLength = minLength + random.nextInt(maxLength - minLength + 1);
+            int from = random.nextInt(length - substringLength + 1);
+
+            offSpringGenome[i] = new Genome(cross(donorGenes, receiverGenes, from, from + substringLength));
+        }
+        return new Chromosome(offSpringGenome);
+    }
+
+    /**
+     * Implant the substring of the donor at the position of its first job in the receiver
+     *
+     * @param donorGenes    The genes of the donating parent
+     * @param receiverGenes The genes of the receiving parent, a permutation of the donor ones
+     * @param from          The first position of the substring in the donor
+     * @param to            The position behind the substring
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] donorGenes, int[] receiverGenes, int from, int to) {
+        CrossoverScratch scratch = CrossoverScratch.prepare(donorGenes, receiverGenes);
+        int[] offspring = new int[donorGenes.length];
+
+        for (int c = from; c < to; c++)
+            scratch.mark(donorGenes[c]);
+
+        int index = 0;
+        for (int gene : receiverGenes) {
+            if (gene == donorGenes[from]) {
+                System.arraycopy(donorGenes, from, offspring, index, to - from);
+                index += to - from;
+            } else if (!scratch.isMarked(gene)) {
+                offspring[index++] = gene;
+            }
+        }
+        return offspring;
+    }
+}
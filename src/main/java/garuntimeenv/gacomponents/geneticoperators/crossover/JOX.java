@@ -0,0 +1,81 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.interfaces.CrossoverOperators;
+import garuntimeenv.utils.MyLogger;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Class representing the job-based order crossover operator
+ * The way it is implemented is from the paper: A Genetic Algorithm for Job-shop Scheduling Problems Using
+ * Job-based Order Crossover (Ono, Yamamura, Kobayashi)
+ * A random set of jobs is drawn once per offspring. On every machine the selected jobs keep their positions of the
+ * first parent and the other jobs fill the remaining positions in the order of the second parent, so the relations
+ * of the jobs are kept consistent over all machines.
+ */
+public class JOX implements CrossoverOperators {
+
+    final static MyLogger logger = MyLogger.getLogger(JOX.class);
+    private Random rand = new Random(TestManager.getSeed());
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        // Select the jobs kept from the first parent
+        int largestGene = 0;
+        for (Genome genome : parent1.getGenome())
+            for (int gene : genome.getGenes())
+                largestGene = Math.max(largestGene, gene);
+        boolean[] selectedJobs = CrossoverScratch.flags(largestGene);
+        for (int job = 0; job <= largestGene; job++)
+            selectedJobs[job] = random.nextBoolean();
+
+        for (int i = 0; i < subgenomeAmount; i++)
+            offSpringGenome[i] = new Genome(
+                    cross(parent1.getGenome()[i].getGenes(), parent2.getGenome()[i].getGenes(), selectedJobs));
+
+        return new Chromosome(offSpringGenome);
+    }
+
+    /**
+     * Keep the selected jobs at their positions of the first parent and fill the other positions with the
+     * remaining jobs in the order of the second parent
+     *
+     * @param parentGenes1 The genes of the first parent
+     * @param parentGenes2 The genes of the second parent, a permutation of the first ones
+     * @param selectedJobs The flags of the jobs kept from the first parent
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] parentGenes1, int[] parentGenes2, boolean[] selectedJobs) {
+        int[] offspring = new int[parentGenes1.length];
+        int index = 0;
+        for (int c = 0; c < parentGenes1.length; c++) {
+            if (selectedJobs[parentGenes1[c]]) {
+                offspring[c] = parentGenes1[c];
+                continue;
+            }
+            // The next job of the second parent which isn't kept from the first one
+            while (selectedJobs[parentGenes2[index]])
+                index++;
+            offspring[c] = parentGenes2[index++];
+        }
+        return offspring;
+    }
+}
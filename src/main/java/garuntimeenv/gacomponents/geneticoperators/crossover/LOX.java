@@ -6,10 +6,8 @@ import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.CrossoverOperators;
 import garuntimeenv.utils.MyLogger;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Class representing the linear order crossover operator
@@ -25,67 +23,62 @@ public class LOX implements CrossoverOperators {
      */
     @Override
     public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
         int subgenomeAmount = parent1.getGenome().length;
         Genome[] offSpringGenome = new Genome[subgenomeAmount];
 
         for (int i = 0; i < subgenomeAmount; i++) {
-            Genome parentGenome1 = parent1.getGenome()[i];
-            Genome parentGenome2 = parent2.getGenome()[i];
+            int[] parentGenes1 = parent1.getGenome()[i].getGenes();
+            int[] parentGenes2 = parent2.getGenome()[i].getGenes();
 
-            int length = parentGenome1.getGenomeSize();
+            int length = parentGenes1.length;
 
             // Select two random cut points and determine the smaller value
-            int firstPos = this.rand.nextInt(length + 1);
-            int secondPos = this.rand.nextInt(length + 1);
-
-            int smallerValue = Math.min(firstPos, secondPos);
-            int biggerValue = Math.max(firstPos, secondPos);
-
-            // copy the offspring into left and right part of the middle of the cut and remove
-            // the 'holes' in the respective half so to maintain the order
-            // Copy the "removed" part
-
-            LinkedHashMap<Integer, String> helperCopy = new LinkedHashMap<>();
-            double middleOfCut = (firstPos + secondPos) / 2.;
-
-            Map<String, Integer> parentGenomeMap2 = new HashMap<>();
-            for (int c = 0; c < length; c++) {
-                helperCopy.put(c, parentGenome2.getElement(c));
-                parentGenomeMap2.put(parentGenome2.getElement(c), c);
-            }
-
-            // Create holes
-            for (int c = smallerValue; c < biggerValue; c++) {
-                int posInP2 = parentGenomeMap2.get(parentGenome1.getElement(c));
-                helperCopy.remove(posInP2);
-            }
+            int firstPos = random.nextInt(length + 1);
+            int secondPos = random.nextInt(length + 1);
 
-            String[] subOffspring = new String[length];
-
-            int leftCounter = 0;
-            int rightCounter = helperCopy.size() - 1;
-            int leftCaret = 0;
-            int rightCaret = length - 1;
-
-            // Copy into the offspring
-            for (int c = 0; c < length; c++) {
-                // On the left side
-                if (c < smallerValue) {
-                    String element = (String) helperCopy.values().toArray()[leftCounter++];
-                    subOffspring[leftCaret++] = element;
-                } else if (c >= biggerValue) {
-                    String element = (String) helperCopy.values().toArray()[rightCounter--];
-                    subOffspring[rightCaret--] = element;
-                } else {
-                    subOffspring[c] = parentGenome1.getElement(c);
-                }
-
-            }
+            offSpringGenome[i] = new Genome(
+                    cross(parentGenes1, parentGenes2, Math.min(firstPos, secondPos), Math.max(firstPos, secondPos)));
+        }
+        return new Chromosome(offSpringGenome);
+    }
 
-            //System.out.println("offspring: " + Arrays.toString(subOffspring) + "\n");
+    /**
+     * Keep the genes of the first parent between the cut points and fill the positions left and right of the cut
+     * with the remaining genes in the order of the second parent
+     *
+     * @param parentGenes1 The genes of the first parent
+     * @param parentGenes2 The genes of the second parent, a permutation of the first ones
+     * @param from         The first position of the cut
+     * @param to           The position behind the cut
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] parentGenes1, int[] parentGenes2, int from, int to) {
+        CrossoverScratch scratch = CrossoverScratch.prepare(parentGenes1, parentGenes2);
+        int[] offspring = new int[parentGenes1.length];
+
+        // Copy the cut and create the holes in the second parent
+        for (int c = from; c < to; c++) {
+            scratch.mark(parentGenes1[c]);
+            offspring[c] = parentGenes1[c];
+        }
 
-            offSpringGenome[i] = new Genome(subOffspring);
+        // The genes of the second parent without the holes fill the offspring from the left, skipping the cut
+        int index = 0;
+        for (int gene : parentGenes2) {
+            if (scratch.isMarked(gene))
+                continue;
+            if (index == from)
+                index = to;
+            offspring[index++] = gene;
         }
-        return new Chromosome(offSpringGenome);
+        return offspring;
     }
 }
@@ -5,12 +5,9 @@ import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.CrossoverOperators;
 import garuntimeenv.utils.MyLogger;
-import garuntimeenv.utils.Pair;
-import garuntimeenv.utils.Utils;
 
-import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  * Class representing the ordered crossover operator
@@ -25,49 +22,67 @@ public class OX implements CrossoverOperators {
      */
     @Override
     public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
         int subgenomeAmount = parent1.getGenome().length;
         Genome[] offSpringGenome = new Genome[subgenomeAmount];
 
         for (int i = 0; i < subgenomeAmount; i++) {
             // Take a random parent as the origin
-            Pair<Genome, Genome> selectedChromosome = Utils.getRandomObject(parent1.getGenome()[i], parent2.getGenome()[i]);
-            Genome parentGenome1 = selectedChromosome.getKey();
-            Genome parentGenome2 = selectedChromosome.getValue();
+            boolean firstIsOrigin = random.nextDouble() > 0.5;
+            int[] parentGenes1 = (firstIsOrigin ? parent1 : parent2).getGenome()[i].getGenes();
+            int[] parentGenes2 = (firstIsOrigin ? parent2 : parent1).getGenome()[i].getGenes();
 
-            int length = parentGenome1.getGenomeSize();
+            int length = parentGenes1.length;
 
             // Select two random cut points and determine the smaller value
-            int firstPos = this.rand.nextInt(length);
-            int secondPos = this.rand.nextInt(length);
+            int firstPos = random.nextInt(length);
+            int secondPos = random.nextInt(length);
 
-            int smallerValue = Math.min(firstPos, secondPos);
-            int biggerValue = Math.max(firstPos, secondPos);
+            offSpringGenome[i] = new Genome(
+                    cross(parentGenes1, parentGenes2, Math.min(firstPos, secondPos), Math.max(firstPos, secondPos)));
+        }
+        return new Chromosome(offSpringGenome);
+    }
 
-            Set<String> notCopy = new HashSet<>();
-            String[] subOffspring = new String[length];
+    /**
+     * Keep the genes of the first parent between the cut points and fill the other positions from the left
+     * with the remaining genes in the order of the second parent
+     *
+     * @param parentGenes1 The genes of the origin parent
+     * @param parentGenes2 The genes of the other parent, a permutation of the first ones
+     * @param from         The first position of the cut
+     * @param to           The last position of the cut
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] parentGenes1, int[] parentGenes2, int from, int to) {
+        CrossoverScratch scratch = CrossoverScratch.prepare(parentGenes1, parentGenes2);
+        int length = parentGenes1.length;
+        int[] offspring = new int[length];
 
-            // Copy the selected part between the points from the first parent
-            for (int c = smallerValue; c <= biggerValue; c++) {
-                String element = parentGenome1.getElement(c);
-                notCopy.add(element);
-                subOffspring[c] = element;
-            }
+        // Copy the selected part between the points from the first parent
+        for (int c = from; c <= to; c++) {
+            scratch.mark(parentGenes1[c]);
+            offspring[c] = parentGenes1[c];
+        }
 
-            // Copy the left part
-            for (int c = 0, index = smallerValue == 0 ? biggerValue + 1 : 0; c < length; c++) {
-                String element = parentGenome2.getElement(c);
-                if (!notCopy.contains(element)) {
-                    subOffspring[index] = element;
-                    if (index + 1 >= smallerValue && index <= biggerValue)
-                        index = biggerValue + 1;
-                    else
-                        index++;
-                }
+        // Copy the left part
+        for (int c = 0, index = from == 0 ? to + 1 : 0; c < length; c++) {
+            int element = parentGenes2[c];
+            if (!scratch.isMarked(element)) {
+                offspring[index] = element;
+                if (index + 1 >= from && index <= to)
+                    index = to + 1;
+                else
+                    index++;
             }
-
-            offSpringGenome[i] = new Genome(subOffspring);
         }
-        return new Chromosome(offSpringGenome);
+        return offspring;
     }
-
 }
@@ -6,9 +6,9 @@ import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.CrossoverOperators;
 import garuntimeenv.utils.MyLogger;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The class implementing the partial-mapped crossover operator
@@ -24,70 +24,81 @@ public class PMX implements CrossoverOperators {
      */
     @Override
     public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
 
         int subgenomeAmount = parent1.getGenome().length;
         Genome[] offSpringGenome = new Genome[subgenomeAmount];
 
         for (int i = 0; i < subgenomeAmount; i++) {
-            Genome parentGenome1 = parent1.getGenome()[i];
-            Genome parentGenome2 = parent2.getGenome()[i];
+            int[] parentGenes1 = parent1.getGenome()[i].getGenes();
+            int[] parentGenes2 = parent2.getGenome()[i].getGenes();
 
             // Select two random cut points and determine the smaller value
-            int length = parentGenome1.getGenomeSize();
-            int firstPos = this.rand.nextInt(length);
-            int secondPos = this.rand.nextInt(length);
-
-            int smallerValue = Math.min(firstPos, secondPos);
-            int biggerValue = Math.max(firstPos, secondPos);
-
-            // Create a map of each genome to create better searching results
-            Map<String, Integer> parentGenomeMap2 = new HashMap<>();
-            for (int c = 0; c < length; c++) {
-                parentGenomeMap2.put(parentGenome2.getElement(c), c);
-            }
-
-
-            String[] subOffspring = new String[length];
-
-            // Copy the selected part of the first parent into the offspring
-            Map<String, Integer> eleInCopiedPart = new HashMap<>();
-
-            for (int c = smallerValue; c <= biggerValue; c++) {
-                String currentElement = parentGenome1.getElement(c);
-                eleInCopiedPart.put(currentElement, c);
-                subOffspring[c] = currentElement;
-            }
-
-            for (int c = smallerValue; c <= biggerValue; c++) {
-                String eleInP2 = parentGenome2.getElement(c);
-                if (!eleInCopiedPart.keySet().contains(eleInP2)) {
-                    int currentIndex = c;
-                    boolean placed = false;
-                    do {
-                        String eleInP1 = parentGenome1.getElement(currentIndex);
-                        int posInP2 = parentGenomeMap2.get(eleInP1);
-                        if (subOffspring[posInP2] == null) {
-                            // If the position isn't occupied put the element from p2 there
-                            subOffspring[posInP2] = eleInP2;
-                            placed = true;
-                        } else {
-                            // Else it's all ready occupied by a element
-                            // Put it where the occupying element in p2 is
-                            currentIndex = posInP2;
-                        }
-                    } while (!placed);
-                }
-            }
-
-            // Copy the remaining genomes to the offspring
-            for (int c = 0; c < length; c++) {
-                if (subOffspring[c] == null)
-                    subOffspring[c] = parentGenome2.getElement(c);
-            }
-
-            offSpringGenome[i] = new Genome(subOffspring);
+            int length = parentGenes1.length;
+            int firstPos = random.nextInt(length);
+            int secondPos = random.nextInt(length);
+
+            offSpringGenome[i] = new Genome(
+                    cross(parentGenes1, parentGenes2, Math.min(firstPos, secondPos), Math.max(firstPos, secondPos)));
         }
 
         return new Chromosome(offSpringGenome);
     }
+
+    /**
+     * Keep the genes of the first parent between the cut points, place the genes of the second parent from the cut
+     * at the end of their mapping chains and copy the remaining positions from the second parent
+     * Each position of the cut is visited by at most one chain, so the kernel runs in linear time.
+     *
+     * @param parentGenes1 The genes of the first parent
+     * @param parentGenes2 The genes of the second parent, a permutation of the first ones
+     * @param from         The first position of the cut
+     * @param to           The last position of the cut
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] parentGenes1, int[] parentGenes2, int from, int to) {
+        CrossoverScratch scratch = CrossoverScratch.prepare(parentGenes1, parentGenes2);
+        int length = parentGenes1.length;
+        int[] offspring = new int[length];
+        int[] positionsInP2 = scratch.positions;
+        boolean[] occupied = scratch.occupied;
+        Arrays.fill(occupied, 0, length, false);
+
+        for (int c = 0; c < length; c++)
+            positionsInP2[parentGenes2[c]] = c;
+
+        // Copy the selected part of the first parent into the offspring
+        for (int c = from; c <= to; c++) {
+            scratch.mark(parentGenes1[c]);
+            offspring[c] = parentGenes1[c];
+            occupied[c] = true;
+        }
+
+        for (int c = from; c <= to; c++) {
+            int eleInP2 = parentGenes2[c];
+            if (scratch.isMarked(eleInP2))
+                continue;
+            // Follow the positions of the occupying elements in p2 until a free position is found
+            int currentIndex = c;
+            do {
+                currentIndex = positionsInP2[parentGenes1[currentIndex]];
+            } while (occupied[currentIndex]);
+            offspring[currentIndex] = eleInP2;
+            occupied[currentIndex] = true;
+        }
+
+        // Copy the remaining genomes to the offspring
+        for (int c = 0; c < length; c++) {
+            if (!occupied[c])
+                offspring[c] = parentGenes2[c];
+        }
+        return offspring;
+    }
 }
@@ -0,0 +1,78 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.interfaces.CrossoverOperators;
+import garuntimeenv.utils.MyLogger;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Class representing the precedence preserving crossover operator
+ * The way it is implemented is from the paper: On Permutation Representations for Scheduling Problems
+ * (Bierwirth, Mattfeld, Kopfer)
+ * For each position a random parent is drawn and its leftmost job not yet in the offspring is appended. Jobs which
+ * are in the same order in both parents keep this order in the offspring.
+ */
+public class PPX implements CrossoverOperators {
+
+    final static MyLogger logger = MyLogger.getLogger(PPX.class);
+    private Random rand = new Random(TestManager.getSeed());
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2) {
+        return createOffspring(parent1, parent2, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        for (int i = 0; i < subgenomeAmount; i++)
+            offSpringGenome[i] = new Genome(
+                    cross(parent1.getGenome()[i].getGenes(), parent2.getGenome()[i].getGenes(), random));
+
+        return new Chromosome(offSpringGenome);
+    }
+
+    /**
+     * Append the leftmost remaining job of a randomly drawn parent for each position of the offspring
+     *
+     * @param parentGenes1 The genes of the first parent
+     * @param parentGenes2 The genes of the second parent, a permutation of the first ones
+     * @param random       The random stream the parents are drawn from
+     * @return The genes of the offspring
+     */
+    static int[] cross(int[] parentGenes1, int[] parentGenes2, SplittableRandom random) {
+        CrossoverScratch scratch = CrossoverScratch.prepare(parentGenes1, parentGenes2);
+        int[] offspring = new int[parentGenes1.length];
+
+        // The first job of each parent which may not be in the offspring yet
+        int index1 = 0;
+        int index2 = 0;
+        for (int c = 0; c < offspring.length; c++) {
+            int gene;
+            if (random.nextBoolean()) {
+                while (scratch.isMarked(parentGenes1[index1]))
+                    index1++;
+                gene = parentGenes1[index1++];
+            } else {
+                while (scratch.isMarked(parentGenes2[index2]))
+                    index2++;
+                gene = parentGenes2[index2++];
+            }
+            scratch.mark(gene);
+            offspring[c] = gene;
+        }
+        return offspring;
+    }
+}
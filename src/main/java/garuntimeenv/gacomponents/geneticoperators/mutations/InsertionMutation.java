@@ -1,10 +1,10 @@
 package garuntimeenv.gacomponents.geneticoperators.mutations;
 
-import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.IMutation;
 import garuntimeenv.utils.MyLogger;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Class representing the insertion mutation
@@ -12,8 +12,6 @@ import java.util.Random;
 public class InsertionMutation extends Mutation implements IMutation {
 
     final static MyLogger logger = MyLogger.getLogger(InsertionMutation.class);
-    private Random rand = new Random(TestManager.getSeed());
-
     public InsertionMutation() {
         super.setMutation(this);
     }
@@ -23,30 +21,31 @@ public class InsertionMutation extends Mutation implements IMutation {
      * {@inheritDoc}
      */
     @Override
-    public String[] applySubMutation(String[] subChromosome) {
+    public int applySubMutation(Genome subChromosome, SplittableRandom random) {
 
-        int elementPos = rand.nextInt(subChromosome.length);
-        int moveTo = rand.nextInt(subChromosome.length);
+        int length = subChromosome.getGenomeSize();
+        int elementPos = random.nextInt(length);
+        int moveTo = random.nextInt(length);
 
-        String element = subChromosome[elementPos];
+        int element = subChromosome.getGene(elementPos);
 
         if (elementPos != moveTo) {
             // Shift each element to the position of
             if (elementPos < moveTo) {
                 for (int c = elementPos; c < moveTo; c++) {
-                    if (c + 1 < subChromosome.length) {
-                        subChromosome[c] = subChromosome[c + 1];
+                    if (c + 1 < length) {
+                        subChromosome.setGene(c, subChromosome.getGene(c + 1));
                     }
                 }
             } else {
                 for (int c = elementPos; c > moveTo; c--) {
                     if (c - 1 >= 0) {
-                        subChromosome[c] = subChromosome[c - 1];
+                        subChromosome.setGene(c, subChromosome.getGene(c - 1));
                     }
                 }
             }
-            subChromosome[moveTo] = element;
+            subChromosome.setGene(moveTo, element);
         }
-        return subChromosome;
+        return elementPos == moveTo ? length : Math.min(elementPos, moveTo);
     }
 }
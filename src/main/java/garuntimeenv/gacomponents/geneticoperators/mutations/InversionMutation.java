@@ -1,10 +1,10 @@
 package garuntimeenv.gacomponents.geneticoperators.mutations;
 
-import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.IMutation;
 import garuntimeenv.utils.MyLogger;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -12,8 +12,6 @@ import static java.lang.Math.min;
 public class InversionMutation extends Mutation implements IMutation {
 
     final static MyLogger logger = MyLogger.getLogger(InversionMutation.class);
-    private Random rand = new Random(TestManager.getSeed());
-
     public InversionMutation() {
         super.setMutation(this);
     }
@@ -23,24 +21,21 @@ public class InversionMutation extends Mutation implements IMutation {
      * {@inheritDoc}
      */
     @Override
-    public String[] applySubMutation(String[] subChromosome) {
+    public int applySubMutation(Genome subChromosome, SplittableRandom random) {
 
         // Select two random cut points and determine the smaller value
-        int length = subChromosome.length;
-        int firstPos = this.rand.nextInt(length);
-        int secondPos = this.rand.nextInt(length);
+        int length = subChromosome.getGenomeSize();
+        int firstPos = random.nextInt(length);
+        int secondPos = random.nextInt(length);
 
         int smallerValue = min(firstPos, secondPos);
         int biggerValue = max(firstPos, secondPos);
 
         for (int left = smallerValue, right = biggerValue; left < right; left++, right--) {
             // Switch values
-            String temp = subChromosome[left];
-            subChromosome[left] = subChromosome[right];
-            subChromosome[right] = temp;
+            subChromosome.swapGenes(left, right);
         }
-
-        return subChromosome;
+        return smallerValue == biggerValue ? length : smallerValue;
     }
 
 }
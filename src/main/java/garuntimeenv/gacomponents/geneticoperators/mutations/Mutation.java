@@ -7,15 +7,17 @@ import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.IMutation;
 
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Abstract parent class for all mutation operators
  * It creates a new chromosome from the given and apply the mutation onto each sub genome
+ * Only the sub genomes drawn for the mutation are copied, the others are shared between the parent and the mutant.
  */
 public abstract class Mutation {
 
     private IMutation mutation = null;
-    private static Random rand = new Random(TestManager.getSeed());
+    private final Random rand = new Random(TestManager.getSeed());    // Seeds the streams of the calls without own random
 
     /**
      * Set the mutation operator
@@ -33,14 +35,45 @@ public abstract class Mutation {
      * @return The mutated chromosome
      */
     public Chromosome applyMutation(Chromosome chromosome) {
+        return applyMutation(chromosome, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * Apply the mutation operator to the given chromosome on sub chromosome bases
+     * All random decisions are drawn from {@code random}, so parallel tasks can mutate with their own stream
+     * The mutant remembers the given chromosome and the changed positions, so its decoding can resume from
+     * the decoding of the parent.
+     *
+     * @param chromosome The to be mutated chromosome
+     * @param random     The random stream of the calling task
+     * @return The mutated chromosome
+     */
+    public Chromosome applyMutation(Chromosome chromosome, SplittableRandom random) {
         int subGenomeAmount = chromosome.getGenome().length;
         Genome[] mutatedSubChromosomes = new Genome[subGenomeAmount];
+        int[] changedFrom = new int[subGenomeAmount];
         for (int i = 0; i < chromosome.getGenome().length; i++) {
-            Genome newGenome = new Genome(chromosome.getGenome()[i].getString().clone());
-            if (rand.nextDouble() < Config.latestInstance.getSubGenomeMutationProbability())
-                mutation.applySubMutation(newGenome.getString());
-            mutatedSubChromosomes[i] = newGenome;
+            Genome genome = chromosome.getGenome()[i];
+            changedFrom[i] = genome.getGenomeSize();
+            if (random.nextDouble() < Config.latestInstance.getSubGenomeMutationProbability()) {
+                // The copy keeps the fingerprint, the mutation only updates it for the changed genes
+                genome = genome.copy();
+                changedFrom[i] = mutation.applySubMutation(genome, random);
+            }
+            // Unchanged genomes are shared with the parent
+            mutatedSubChromosomes[i] = genome;
         }
-        return new Chromosome(mutatedSubChromosomes);
+        Chromosome mutant = new Chromosome(mutatedSubChromosomes);
+        mutant.setMutationOrigin(chromosome, changedFrom);
+        return mutant;
+    }
+
+    /**
+     * Apply the mutation operator on the sub-chromosome with a stream seeded by the operator
+     *
+     * @param genome The sub chromosome
+     */
+    public void applySubMutation(Genome genome) {
+        mutation.applySubMutation(genome, new SplittableRandom(rand.nextLong()));
     }
 }
@@ -1,17 +1,15 @@
 package garuntimeenv.gacomponents.geneticoperators.mutations;
 
-import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.interfaces.IMutation;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Class representing the swap mutation that exchanges to elements inside a sub genome
  */
 public class SwapMutation extends Mutation implements IMutation {
 
-    private static Random rand = new Random(TestManager.getSeed());
-
     /**
      * Constructor for the swap mutation operator
      */
@@ -24,19 +22,14 @@ public class SwapMutation extends Mutation implements IMutation {
      * {@inheritDoc}
      */
     @Override
-    public String[] applySubMutation(String[] subChromosome) {
-
-        int length = subChromosome.length;
-        int firstPos = rand.nextInt(length);
-        int secondPos = rand.nextInt(length);
-
-        String firstPosString = subChromosome[firstPos];
-        String secondPosString = subChromosome[secondPos];
+    public int applySubMutation(Genome subChromosome, SplittableRandom random) {
 
-        subChromosome[firstPos] = secondPosString;
-        subChromosome[secondPos] = firstPosString;
+        int length = subChromosome.getGenomeSize();
+        int firstPos = random.nextInt(length);
+        int secondPos = random.nextInt(length);
 
-        return subChromosome;
+        subChromosome.swapGenes(firstPos, secondPos);
+        return firstPos == secondPos ? length : Math.min(firstPos, secondPos);
     }
 
 }
@@ -0,0 +1,107 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+/**
+ * Alias table of Vose for drawing indices with a probability proportional to their weight
+ * Building the table takes linear time, each draw takes constant time and one uniform random value.
+ * The arrays are reused when the table is built again for the next population.
+ */
+final class AliasTable {
+
+    private double[] probabilities = new double[0];     // Probability of keeping the drawn column
+    private int[] aliases = new int[0];                 // Index drawn when the column isn't kept
+    private int[] small = new int[0];                   // Work list of the columns below the average weight
+    private int[] large = new int[0];                   // Work list of the columns with at least the average weight
+    private int size = 0;
+
+    /**
+     * Build the table for the weights, negative weights count as zero
+     * If no weight is positive every index is drawn with the same probability.
+     *
+     * @param weights The weights of the indices
+     * @param size    The number of used weights
+     */
+    void build(double[] weights, int size) {
+        if (this.probabilities.length < size) {
+            this.probabilities = new double[size];
+            this.aliases = new int[size];
+            this.small = new int[size];
+            this.large = new int[size];
+        }
+        this.size = size;
+
+        double total = 0;
+        for (int i = 0; i < size; i++)
+            total += Math.max(weights[i], 0);
+        // Also catches weights that aren't a number
+        if (!(total > 0 && total < Double.POSITIVE_INFINITY)) {
+            for (int i = 0; i < size; i++) {
+                this.probabilities[i] = 1;
+                this.aliases[i] = i;
+            }
+            return;
+        }
+
+        // Scale the weights to an average of one and sort them into the work lists
+        int smallCount = 0;
+        int largeCount = 0;
+        double scale = size / total;
+        for (int i = 0; i < size; i++) {
+            this.probabilities[i] = Math.max(weights[i], 0) * scale;
+            this.aliases[i] = i;
+            if (this.probabilities[i] < 1)
+                this.small[smallCount++] = i;
+            else
+                this.large[largeCount++] = i;
+        }
+
+        // Fill up each small column with the excess of a large one
+        while (smallCount > 0 && largeCount > 0) {
+            int less = this.small[--smallCount];
+            int more = this.large[--largeCount];
+            this.aliases[less] = more;
+            this.probabilities[more] += this.probabilities[less] - 1;
+            if (this.probabilities[more] < 1)
+                this.small[smallCount++] = more;
+            else
+                this.large[largeCount++] = more;
+        }
+        // The remaining columns are full up to rounding errors
+        while (largeCount > 0)
+            this.probabilities[this.large[--largeCount]] = 1;
+        while (smallCount > 0)
+            this.probabilities[this.small[--smallCount]] = 1;
+    }
+
+    /**
+     * Draw an index, only reads the table so it can be called concurrently
+     *
+     * @param uniform Random value between 0 and 1, picks the column and whether it is kept
+     * @return The drawn index
+     */
+    int draw(double uniform) {
+        double scaled = uniform * this.size;
+        int column = Math.min((int) scaled, this.size - 1);
+        return scaled - column < this.probabilities[column] ? column : this.aliases[column];
+    }
+
+    /**
+     * Get the probability of drawing the index as given by the table
+     *
+     * @param index The index
+     * @return The probability
+     */
+    double probability(int index) {
+        double probability = this.probabilities[index];
+        for (int i = 0; i < this.size; i++)
+            if (this.aliases[i] == index && i != index)
+                probability += 1 - this.probabilities[i];
+        return probability / this.size;
+    }
+
+    /**
+     * Getter for the number of indices
+     */
+    int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,89 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.Selection;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Base of the selections drawing from a primitive snapshot of the fitness values of the population
+ * The fitness values are stored as keys where a smaller key is better, so the draws don't need the fitness function.
+ * The snapshot is only written by {@link #addNewPopulation}, the draws only read it and can run concurrently.
+ */
+abstract class FitnessArraySelection implements Selection {
+
+    private final static Random rand = new Random(TestManager.getSeed());
+
+    protected Chromosome[] chromosomes = new Chromosome[0];    // The population of the snapshot
+    protected double[] keys = new double[0];                   // The fitness values, smaller is better
+    protected boolean[] failed = new boolean[0];               // Chromosomes with the worst possible fitness
+    protected int size = 0;                                    // The number of chromosomes in the snapshot
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addNewPopulation(Chromosome[] chromosomes, IFitnessFunction fitnessFunction) {
+        if (this.chromosomes.length < chromosomes.length) {
+            this.chromosomes = new Chromosome[chromosomes.length];
+            this.keys = new double[chromosomes.length];
+            this.failed = new boolean[chromosomes.length];
+        }
+        // If a smaller fitness value is better the fitness is used as key, otherwise its negation
+        double sign = fitnessFunction.isBetterFitness(0, 1) ? 1 : -1;
+        double worstFitness = fitnessFunction.getWorstFitnessAsDouble();
+        for (int i = 0; i < chromosomes.length; i++) {
+            double fitness = chromosomes[i].getFitnessAsDouble();
+            this.chromosomes[i] = chromosomes[i];
+            this.keys[i] = sign * fitness;
+            this.failed[i] = fitness == worstFitness;
+        }
+        // Don't keep the chromosomes of older generations alive
+        Arrays.fill(this.chromosomes, chromosomes.length, this.chromosomes.length, null);
+        this.size = chromosomes.length;
+        this.snapshotChanged();
+    }
+
+    /**
+     * Called after a new population got copied into the snapshot
+     */
+    protected void snapshotChanged() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome getNextChromosome() {
+        return getNextChromosome(new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome getNextChromosome(SplittableRandom random) {
+        return this.chromosomes[this.draw(random)];
+    }
+
+    /**
+     * Draw the index of the next chromosome in the snapshot
+     *
+     * @param random The random stream of the calling task
+     * @return The index of the chromosome
+     */
+    protected abstract int draw(SplittableRandom random);
+
+    /**
+     * Compare two chromosomes of the snapshot, chromosomes with equal fitness are ordered by their index
+     *
+     * @return True if the first chromosome is better than the second
+     */
+    protected boolean isBetter(int first, int second) {
+        return this.keys[first] < this.keys[second] || (this.keys[first] == this.keys[second] && first < second);
+    }
+}
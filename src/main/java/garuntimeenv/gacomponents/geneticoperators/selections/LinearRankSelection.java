@@ -0,0 +1,68 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.interfaces.Selection;
+
+import java.util.SplittableRandom;
+
+/**
+ * Linear rank selection, the chromosome of rank i from the worst (0) to the best (n - 1) gets selected with the
+ * probability (2 - s) / n + 2 i (s - 1) / (n (n - 1)) for the selection pressure s between 1 and 2
+ * <p>
+ * The ranks aren't calculated. The distribution is the mixture of a uniform draw with the weight 2 - s and
+ * the better of two distinct uniform draws with the weight s - 1, as the better of two distinct chromosomes has
+ * rank i with the probability 2 i / (n (n - 1)). So the population doesn't have to be sorted and each draw takes
+ * constant time.
+ */
+public class LinearRankSelection extends FitnessArraySelection {
+
+    private final double selectionPressure;     // The expected number of draws of the best chromosome per n draws
+
+    /**
+     * Constructor for the linear rank selection with a selection pressure of 1.5
+     */
+    public LinearRankSelection() {
+        this(1.5);
+    }
+
+    /**
+     * Constructor for the linear rank selection
+     *
+     * @param selectionPressure The selection pressure between 1 (uniform) and 2 (the worst is never selected)
+     */
+    public LinearRankSelection(double selectionPressure) {
+        if (!(selectionPressure >= 1 && selectionPressure <= 2))
+            throw new IllegalArgumentException("The selection pressure has to be between 1 and 2, was " + selectionPressure);
+        this.selectionPressure = selectionPressure;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int draw(SplittableRandom random) {
+        int first = random.nextInt(this.size);
+        if (this.size == 1 || random.nextDouble() >= this.selectionPressure - 1)
+            return first;
+        // The second chromosome is drawn from the remaining ones
+        int second = random.nextInt(this.size - 1);
+        if (second >= first)
+            second++;
+        return this.isBetter(first, second) ? first : second;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Selection newInstance() {
+        return new LinearRankSelection(this.selectionPressure);
+    }
+
+    /**
+     * @return The name of the selection algorithm
+     */
+    @Override
+    public String toString() {
+        return "Linear Rank Selection " + this.selectionPressure;
+    }
+}
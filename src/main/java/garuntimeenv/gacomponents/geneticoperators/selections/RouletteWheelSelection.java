@@ -7,21 +7,22 @@ import garuntimeenv.gacomponents.ProblemProperties;
 import garuntimeenv.interfaces.IFitnessFunction;
 import garuntimeenv.interfaces.Selection;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
 
 /**
  * The roulette wheel selection with implemented sigmoid function that alters the selection probability
+ * The weighted chromosomes are drawn from an alias table in constant time.
  */
 public class RouletteWheelSelection implements Selection {
 
     // The current chromsomes out of which shall be choosen
-    private List<Chromosome> currentChromosomes = new ArrayList<>();
-    // The commulative sum
-    private List<Number> cumulativeSums = new ArrayList<>();
+    private Chromosome[] currentChromosomes = new Chromosome[0];
+    private int chromosomeCount = 0;
+    // The selection weight of each chromosome
+    private double[] weights = new double[0];
+    private final AliasTable aliasTable = new AliasTable();
 
     // The best fitness loaded through the fitness
     private static double bestFitness = 0;
@@ -44,35 +45,32 @@ public class RouletteWheelSelection implements Selection {
     }
 
     /**
-     * Calculate the cumulative sums for the population
+     * Calculate the selection weights for the population and build the alias table
      *
      * @param fitnessFunction The fitness function to define the selection probability.
      */
-    private void calculateCumulativeSums(IFitnessFunction fitnessFunction) {
-        cumulativeSums.clear();
-
-        limitValue = currentChromosomes.stream()
-                .map(Chromosome::getFitness)
-                .mapToDouble(Number::doubleValue).max().orElse(0) - bestFitness;
-        midPoint = (currentChromosomes.stream()
-                .map(Chromosome::getFitness)
-                .mapToDouble(Number::doubleValue).average().orElse(1) - bestFitness) / limitValue;
+    private void calculateWeights(IFitnessFunction fitnessFunction) {
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        for (int i = 0; i < chromosomeCount; i++) {
+            double fitness = weights[i];
+            max = Math.max(max, fitness);
+            sum += fitness;
+        }
+        limitValue = (chromosomeCount > 0 ? max : 0) - bestFitness;
+        midPoint = ((chromosomeCount > 0 ? sum / chromosomeCount : 1) - bestFitness) / limitValue;
 
         double maxValue = 0;
         // If a smaller fitness value is better
-        if (fitnessFunction.isBetterSolution(0, 1)) {
+        if (fitnessFunction.isBetterFitness(0, 1)) {
             maxValue = limitValue;
         }
-        // Create cumulative sum from fitness of generation
-        double firstValue = maxValue - (currentChromosomes.get(0).getFitness().doubleValue() - bestFitness);
-        cumulativeSums.add(firstValue * modifierFunction(firstValue));
-        for (int i = 1; i < currentChromosomes.size(); i++) {
-            double representativeValue = maxValue - (currentChromosomes.get(i).getFitness().doubleValue() - bestFitness);
-            cumulativeSums.add(
-                    cumulativeSums.get(i - 1).doubleValue() +
-                            representativeValue * modifierFunction(representativeValue)
-            );
+        // Replace the fitness values by the weights
+        for (int i = 0; i < chromosomeCount; i++) {
+            double representativeValue = maxValue - (weights[i] - bestFitness);
+            weights[i] = representativeValue * modifierFunction(representativeValue);
         }
+        aliasTable.build(weights, chromosomeCount);
     }
 
     /**
@@ -90,59 +88,63 @@ public class RouletteWheelSelection implements Selection {
      */
     @Override
     public Chromosome getNextChromosome() {
-        double maxValue = this.cumulativeSums.get(this.cumulativeSums.size() - 1).doubleValue();
-
-        // When the max value is 0 that means every chromosome has the same fitness
-        if (maxValue == 0)
-            return this.currentChromosomes.get(rand.nextInt(currentChromosomes.size()));
+        return select(rand.nextDouble());
+    }
 
-        double randomValue = rand.nextDouble() * maxValue;
+    /**
+     * {@inheritDoc}
+     * Only reads the alias table, so it can be called concurrently
+     */
+    @Override
+    public Chromosome getNextChromosome(SplittableRandom random) {
+        return select(random.nextDouble());
+    }
 
-        return this.currentChromosomes.get(this.bisect(randomValue));
+    /**
+     * Select the chromosome for a uniform random value
+     *
+     * @param uniform Random value between 0 and 1
+     * @return The selected chromosome
+     */
+    private Chromosome select(double uniform) {
+        return this.currentChromosomes[this.aliasTable.draw(uniform)];
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void addNewPopulation(Chromosome[] chromosomes, IFitnessFunction fitnessFunction) {
-        this.aggression = GAManager.getINSTANCE().getCurrentConfig().getSelectionAggressive();
-        this.currentChromosomes.clear();
-        this.currentChromosomes.addAll(
-                Arrays.stream(chromosomes)
-                        .filter(c -> !c.getFitness().equals(fitnessFunction.getWorstFitness()))
-                        .collect(Collectors.toList())
-        );
-        this.calculateCumulativeSums(fitnessFunction);
+    public Selection newInstance() {
+        RouletteWheelSelection selection = new RouletteWheelSelection();
+        selection.steepness = this.steepness;
+        selection.aggression = this.aggression;
+        return selection;
     }
 
     /**
-     * Bisect algorithm for a random value between 0 and the biggest value in the commutative sum list
-     * @param value The value of which the index shall be searched
-     * @return The index to which the value belongs
+     * {@inheritDoc}
      */
-    private int bisect(double value) {
-        int left = 0;
-        int right = this.cumulativeSums.size() - 1;
-        int index = 0;
-        while (left <= right) {
-            index = (int) Math.floor((left + right) / 2.);
-
-            if (index == 0)
-                break;
-
-            double currentValue = this.cumulativeSums.get(index).doubleValue();
-            double prevValue = this.cumulativeSums.get(index - 1).doubleValue();
-
-            if (value > prevValue && currentValue >= value)
-                break;
-
-            if (value <= prevValue)
-                right = index - 1;
-            else
-                left = index + 1;
+    @Override
+    public void addNewPopulation(Chromosome[] chromosomes, IFitnessFunction fitnessFunction) {
+        // Islands of the island model don't register as ga manager instance and keep the aggression of the copy
+        if (GAManager.getINSTANCE() != null)
+            this.aggression = GAManager.getINSTANCE().getCurrentConfig().getSelectionAggressive();
+        if (this.currentChromosomes.length < chromosomes.length) {
+            this.currentChromosomes = new Chromosome[chromosomes.length];
+            this.weights = new double[chromosomes.length];
+        }
+        double worstFitness = fitnessFunction.getWorstFitnessAsDouble();
+        this.chromosomeCount = 0;
+        for (Chromosome chromosome : chromosomes) {
+            double fitness = chromosome.getFitnessAsDouble();
+            if (fitness != worstFitness) {
+                this.currentChromosomes[this.chromosomeCount] = chromosome;
+                this.weights[this.chromosomeCount++] = fitness;
+            }
         }
-        return index;
+        // Don't keep the chromosomes of older generations alive
+        Arrays.fill(this.currentChromosomes, this.chromosomeCount, this.currentChromosomes.length, null);
+        this.calculateWeights(fitnessFunction);
     }
 
     /**
@@ -8,6 +8,8 @@ import garuntimeenv.interfaces.Selection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Klass representing a sorted selection
@@ -15,7 +17,7 @@ import java.util.List;
 public class SortedSelection implements Selection {
 
     private List<Chromosome> chromosomes;
-    private int index = 0;
+    private final AtomicInteger index = new AtomicInteger();
 
     /**
      * Constructor for the sorted selection
@@ -24,6 +26,14 @@ public class SortedSelection implements Selection {
         this.chromosomes = new ArrayList<>();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Selection newInstance() {
+        return new SortedSelection();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -39,7 +49,16 @@ public class SortedSelection implements Selection {
      */
     @Override
     public Chromosome getNextChromosome() {
-        return chromosomes.get(index++ % chromosomes.size());
+        return chromosomes.get(Math.floorMod(index.getAndIncrement(), chromosomes.size()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The sorted selection walks through the population in order, so the random stream isn't used
+     */
+    @Override
+    public Chromosome getNextChromosome(SplittableRandom random) {
+        return getNextChromosome();
     }
 
     /**
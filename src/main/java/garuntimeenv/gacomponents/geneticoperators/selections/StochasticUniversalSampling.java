@@ -0,0 +1,137 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.interfaces.Selection;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stochastic universal sampling, fitness proportional selection with n evenly spaced pointers on the wheel
+ * Each chromosome is drawn either the floor or the ceiling of its expected number of times in every n draws.
+ * The weight of a chromosome is its distance to the worst fitness of the population, chromosomes with the worst
+ * possible fitness are never drawn.
+ * <p>
+ * The draws take the pointers one after another from an atomic counter. The offset of the pointers is drawn
+ * from the random stream of the first draw after a new population. The pointers are visited with a stride
+ * coprime to n, so consecutive draws are spread over the wheel, and each further round of n draws shifts the
+ * offset by the golden ratio.
+ */
+public class StochasticUniversalSampling extends FitnessArraySelection {
+
+    private final static double GOLDEN_RATIO = 0.6180339887498949;
+    private final static long NO_OFFSET = Double.doubleToLongBits(-1);
+
+    private double[] cumulativeWeights = new double[0];
+    private int[] guide = new int[0];                           // The chromosome at the start of each pointer slot
+    private int stride = 1;                                     // Distance between the pointers of two draws
+    private final AtomicLong nextPointer = new AtomicLong();    // The number of draws since the population changed
+    private final AtomicLong offset = new AtomicLong(NO_OFFSET);   // The bits of the pointer offset
+
+    /**
+     * Constructor for the stochastic universal sampling
+     */
+    public StochasticUniversalSampling() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void snapshotChanged() {
+        if (this.cumulativeWeights.length < this.size) {
+            this.cumulativeWeights = new double[this.size];
+            this.guide = new int[this.size + 1];
+        }
+
+        double worstKey = Double.NEGATIVE_INFINITY;
+        boolean anyValid = false;
+        for (int i = 0; i < this.size; i++) {
+            if (!this.failed[i]) {
+                worstKey = Math.max(worstKey, this.keys[i]);
+                anyValid = true;
+            }
+        }
+        double sum = 0;
+        for (int i = 0; i < this.size; i++) {
+            sum += this.failed[i] ? 0 : worstKey - this.keys[i];
+            this.cumulativeWeights[i] = sum;
+        }
+        // Every chromosome has the same fitness, so each valid one gets the same weight
+        if (!(sum > 0 && sum < Double.POSITIVE_INFINITY)) {
+            sum = 0;
+            for (int i = 0; i < this.size; i++) {
+                sum += this.failed[i] && anyValid ? 0 : 1;
+                this.cumulativeWeights[i] = sum;
+            }
+        }
+
+        // Each pointer only has to be searched between the chromosomes at the start and the end of its slot
+        int index = 0;
+        for (int slot = 0; slot < this.size; slot++) {
+            double start = (double) slot / this.size * sum;
+            while (index < this.size - 1 && this.cumulativeWeights[index] <= start)
+                index++;
+            this.guide[slot] = index;
+        }
+        this.guide[this.size] = this.size - 1;
+
+        this.stride = Math.max(1, (int) Math.round(this.size * GOLDEN_RATIO));
+        while (gcd(this.stride, this.size) != 1)
+            this.stride++;
+        this.nextPointer.set(0);
+        this.offset.set(NO_OFFSET);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int draw(SplittableRandom random) {
+        long pointer = this.nextPointer.getAndIncrement();
+        long offsetBits = this.offset.get();
+        if (offsetBits == NO_OFFSET) {
+            this.offset.compareAndSet(NO_OFFSET, Double.doubleToLongBits(random.nextDouble()));
+            offsetBits = this.offset.get();
+        }
+        double roundOffset = Double.longBitsToDouble(offsetBits) + (pointer / this.size) * GOLDEN_RATIO;
+        long slot = pointer % this.size * this.stride % this.size;
+        double total = this.cumulativeWeights[this.size - 1];
+        double position = (roundOffset - Math.floor(roundOffset) + slot) / this.size * total;
+        // Rounding must not push the last pointer past the wheel
+        return this.find(Math.min(position, Math.nextDown(total)), this.guide[(int) slot], this.guide[(int) slot + 1]);
+    }
+
+    /**
+     * Find the first chromosome between left and right whose cumulative weight is larger than the position
+     */
+    private int find(double position, int left, int right) {
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (this.cumulativeWeights[middle] > position)
+                right = middle;
+            else
+                left = middle + 1;
+        }
+        return left;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Selection newInstance() {
+        return new StochasticUniversalSampling();
+    }
+
+    /**
+     * @return The name of the selection algorithm
+     */
+    @Override
+    public String toString() {
+        return "Stochastic Universal Sampling";
+    }
+}
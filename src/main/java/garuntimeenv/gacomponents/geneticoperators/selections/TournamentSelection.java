@@ -0,0 +1,62 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.interfaces.Selection;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tournament selection picking the best of k random chromosomes of the population
+ * A larger tournament size selects more aggressively, the best chromosome wins with a probability of about k / n.
+ */
+public class TournamentSelection extends FitnessArraySelection {
+
+    private final int tournamentSize;   // The number of chromosomes competing in each tournament
+
+    /**
+     * Constructor for the binary tournament selection
+     */
+    public TournamentSelection() {
+        this(2);
+    }
+
+    /**
+     * Constructor for the tournament selection
+     *
+     * @param tournamentSize The number of chromosomes competing in each tournament, drawn with replacement
+     */
+    public TournamentSelection(int tournamentSize) {
+        if (tournamentSize < 1)
+            throw new IllegalArgumentException("The tournament size has to be at least 1, was " + tournamentSize);
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int draw(SplittableRandom random) {
+        int winner = random.nextInt(this.size);
+        for (int i = 1; i < this.tournamentSize; i++) {
+            int challenger = random.nextInt(this.size);
+            if (this.isBetter(challenger, winner))
+                winner = challenger;
+        }
+        return winner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Selection newInstance() {
+        return new TournamentSelection(this.tournamentSize);
+    }
+
+    /**
+     * @return The name of the selection algorithm
+     */
+    @Override
+    public String toString() {
+        return "Tournament Selection " + this.tournamentSize;
+    }
+}
@@ -0,0 +1,78 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.gacomponents.Chromosome;
+
+/**
+ * Immutable record of a decoding of the {@link PreferenceListDecoder}
+ * The decoding passes over the preference lists in rounds. At the start of each pass after a pass that scheduled
+ * operations a checkpoint is taken, it consists of the number of scheduled operations and the skip counter.
+ * Together with the order and the end of the scheduled operations and the final machine timelines the complete
+ * state at a checkpoint can be restored. The first pass that read each position of a preference list tells how long
+ * the decoding of a mutant changed from this position on goes exactly like the decoding of its parent.
+ */
+final class DecodingTrace {
+
+    final JobShopModel model;               // The model the chromosome got decoded with
+    final long fingerprint;                 // The fingerprint of the decoded chromosome
+
+    final int[] scheduledOrder;             // The operations in the order they got scheduled
+    final int[] operationEnd;               // The end time of each operation
+
+    final int[] listOffset;                 // Start of each preference list in the per position arrays
+    final int[] firstReadPass;              // First pass reading a position at or behind each position of a list
+
+    final int[] timelineOffset;             // Start of each machine in the timeline ids
+    final int[] timelineIds;                // The operations of each machine ordered by their beginning
+
+    final int[] checkpointPass;             // The pass each checkpoint was taken at
+    final int[] checkpointScheduled;        // The number of scheduled operations at each checkpoint
+    final int[] checkpointTempCounter;      // The skip counter at each checkpoint
+
+    DecodingTrace(JobShopModel model, long fingerprint, int[] scheduledOrder, int[] operationEnd, int[] listOffset,
+                  int[] firstReadPass, int[] timelineOffset, int[] timelineIds, int[] checkpointPass,
+                  int[] checkpointScheduled, int[] checkpointTempCounter) {
+        this.model = model;
+        this.fingerprint = fingerprint;
+        this.scheduledOrder = scheduledOrder;
+        this.operationEnd = operationEnd;
+        this.listOffset = listOffset;
+        this.firstReadPass = firstReadPass;
+        this.timelineOffset = timelineOffset;
+        this.timelineIds = timelineIds;
+        this.checkpointPass = checkpointPass;
+        this.checkpointScheduled = checkpointScheduled;
+        this.checkpointTempCounter = checkpointTempCounter;
+    }
+
+    /**
+     * Check if the trace belongs to the decoding of the chromosome with the model
+     */
+    boolean isTraceOf(Chromosome chromosome, JobShopModel model) {
+        return this.model == model && this.fingerprint == chromosome.getFingerprint();
+    }
+
+    /**
+     * Find the latest checkpoint the decoding of a mutant can resume from
+     *
+     * @param changedFrom The first changed position of each preference list
+     * @return The index of the checkpoint
+     */
+    int resumableCheckpoint(int[] changedFrom) {
+        int divergence = Integer.MAX_VALUE;
+        for (int m = 0; m < changedFrom.length; m++) {
+            if (listOffset[m] + changedFrom[m] < listOffset[m + 1])
+                divergence = Math.min(divergence, firstReadPass[listOffset[m] + changedFrom[m]]);
+        }
+        // The last checkpoint taken at or before the first pass reading a changed position
+        int left = 0;
+        int right = checkpointPass.length - 1;
+        while (left < right) {
+            int middle = (left + right + 1) >>> 1;
+            if (checkpointPass[middle] <= divergence)
+                left = middle;
+            else
+                right = middle - 1;
+        }
+        return left;
+    }
+}
@@ -0,0 +1,295 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+
+import java.util.Arrays;
+
+/**
+ * Decoding engine building active schedules from the preference list representation with the
+ * Giffler Thompson algorithm.
+ * In each step the waiting operation with the earliest completion time determines the machine. Of the operations
+ * waiting for this machine which can start before that completion time, the one whose job comes first in the
+ * preference list of the machine gets scheduled. Every step schedules one operation, so the decoding takes exactly
+ * one step per operation without retry passes.
+ * The machines are kept in a binary heap ordered by the earliest completion time of their waiting operations,
+ * each step only updates the machine of the scheduled operation and the machine of its successor.
+ * The waiting operations of these machines are scanned linearly, for the earliest completion and for the conflict
+ * set, so with n jobs and m machines the decoding takes O(n·m·(n + log m)). A heap of the waiting operations
+ * would find the earliest completion faster, but the conflict set would still have to be scanned.
+ * All intermediate state is kept in primitive scratch arrays that are reused per thread,
+ * so in steady state only the resulting solution gets allocated.
+ */
+public class GifflerThompsonDecoder {
+
+    // Scratch state for each evaluation thread
+    private static final ThreadLocal<SchedulingState> scratch = ThreadLocal.withInitial(SchedulingState::new);
+
+    /**
+     * Decode the chromosome into an active schedule of the problem
+     *
+     * @param chromosome The chromosome holding one preference list per machine
+     * @param model      The model of the problem to be scheduled
+     * @return The decoded schedule
+     */
+    public static JobShopSolution decode(Chromosome chromosome, JobShopModel model) {
+        SchedulingState state = scratch.get();
+        state.schedule(chromosome, model);
+        return state.createSolution(model);
+    }
+
+    /**
+     * Decode the chromosome like {@link #decode(Chromosome, JobShopModel)} but only return the makespan
+     *
+     * @param chromosome The chromosome holding one preference list per machine
+     * @param model      The model of the problem to be scheduled
+     * @return The end time of the last operation
+     */
+    public static int decodeMakespan(Chromosome chromosome, JobShopModel model) {
+        SchedulingState state = scratch.get();
+        state.schedule(chromosome, model);
+        return state.getMakespan();
+    }
+
+    /**
+     * The reusable scratch state of the decoding process
+     */
+    static class SchedulingState {
+
+        private static final int NONE = Integer.MAX_VALUE;
+
+        private int nrMachines;
+
+        // Position of each operation in the preference list of its machine
+        private int[] listPosition = new int[0];
+        private int[] operationStart = new int[0];
+
+        // The end of the last scheduled operation of each job and machine
+        private int[] jobReady = new int[0];
+        private int[] machineReady = new int[0];
+
+        // The operations whose prior operation is scheduled, for each machine
+        private int[][] waiting = new int[0][];
+        private int[] waitingSize = new int[0];
+
+        // The scheduled operations of each machine in their order
+        private int[][] sequence = new int[0][];
+        private int[] sequenceSize = new int[0];
+
+        // Heap of the machines ordered by the earliest completion time of their waiting operations
+        private int[] completion = new int[0];
+        private int[] heap = new int[0];
+        private int[] heapIndex = new int[0];
+
+        /**
+         * Grow the scratch arrays if the problem is bigger than the previous one
+         */
+        private void ensureCapacity(JobShopModel model) {
+            nrMachines = model.getNrMachines();
+            int operations = model.getNrOperations();
+            int nrJobs = model.getNrJobs();
+
+            if (listPosition.length < operations) {
+                listPosition = new int[operations];
+                operationStart = new int[operations];
+            }
+            if (jobReady.length < nrJobs)
+                jobReady = new int[nrJobs];
+            if (machineReady.length < nrMachines) {
+                machineReady = new int[nrMachines];
+                waiting = new int[nrMachines][];
+                waitingSize = new int[nrMachines];
+                sequence = new int[nrMachines][];
+                sequenceSize = new int[nrMachines];
+                completion = new int[nrMachines];
+                heap = new int[nrMachines];
+                heapIndex = new int[nrMachines];
+            }
+            for (int m = 0; m < nrMachines; m++) {
+                if (waiting[m] == null || waiting[m].length < nrJobs) {
+                    waiting[m] = new int[nrJobs];
+                    sequence[m] = new int[nrJobs];
+                }
+            }
+        }
+
+        /**
+         * Reset the state and read the preference lists of the chromosome
+         * Operations missing in the lists are scheduled behind the listed ones of their machine.
+         */
+        private void load(Chromosome chromosome, JobShopModel model) {
+            ensureCapacity(model);
+            Arrays.fill(listPosition, 0, model.getNrOperations(), NONE);
+            Arrays.fill(jobReady, 0, model.getNrJobs(), 0);
+
+            Genome[] genomes = chromosome.getGenome();
+            for (int m = 0; m < Math.min(genomes.length, nrMachines); m++) {
+                int[] genes = genomes[m].getGenes();
+                for (int k = 0; k < genes.length; k++) {
+                    int op = model.getOperation(genes[k], m);
+                    if (op != -1 && listPosition[op] == NONE)
+                        listPosition[op] = k;
+                }
+            }
+
+            for (int m = 0; m < nrMachines; m++) {
+                machineReady[m] = 0;
+                waitingSize[m] = 0;
+                sequenceSize[m] = 0;
+            }
+            // The first operation of each job is waiting from the start
+            int[] predecessor = model.getPredecessor();
+            int[] operationMachine = model.getOperationMachine();
+            for (int op = 0; op < model.getNrOperations(); op++) {
+                if (predecessor[op] == -1) {
+                    int machine = operationMachine[op];
+                    waiting[machine][waitingSize[machine]++] = op;
+                }
+            }
+
+            for (int m = 0; m < nrMachines; m++) {
+                completion[m] = earliestCompletion(m, model);
+                heap[m] = m;
+                heapIndex[m] = m;
+            }
+            for (int i = nrMachines / 2 - 1; i >= 0; i--)
+                siftDown(i);
+        }
+
+        /**
+         * Schedule one operation per step until all operations are scheduled
+         */
+        void schedule(Chromosome chromosome, JobShopModel model) {
+            load(chromosome, model);
+            int[] duration = model.getOperationDuration();
+            int[] operationJob = model.getOperationJob();
+            int[] operationMachine = model.getOperationMachine();
+            int[] predecessor = model.getPredecessor();
+            int operations = model.getNrOperations();
+
+            for (int step = 0; step < operations; step++) {
+                int machine = heap[0];
+                int earliestCompletion = completion[machine];
+
+                // Of the operations that can start before the earliest completion, the first one in the list wins
+                int selected = -1;
+                int selectedIndex = -1;
+                for (int w = 0; w < waitingSize[machine]; w++) {
+                    int op = waiting[machine][w];
+                    int start = Math.max(jobReady[operationJob[op]], machineReady[machine]);
+                    if (start >= earliestCompletion && start + duration[op] != earliestCompletion)
+                        continue;
+                    if (selected == -1 || listPosition[op] < listPosition[selected]
+                            || (listPosition[op] == listPosition[selected] && op < selected)) {
+                        selected = op;
+                        selectedIndex = w;
+                    }
+                }
+
+                int job = operationJob[selected];
+                int start = Math.max(jobReady[job], machineReady[machine]);
+                operationStart[selected] = start;
+                jobReady[job] = start + duration[selected];
+                machineReady[machine] = start + duration[selected];
+                sequence[machine][sequenceSize[machine]++] = selected;
+                waiting[machine][selectedIndex] = waiting[machine][--waitingSize[machine]];
+
+                // The next operation of the job starts waiting for its machine
+                int successor = selected + 1;
+                if (successor < operations && predecessor[successor] == selected) {
+                    int successorMachine = operationMachine[successor];
+                    waiting[successorMachine][waitingSize[successorMachine]++] = successor;
+                    if (successorMachine != machine)
+                        update(successorMachine, earliestCompletion(successorMachine, model));
+                }
+                update(machine, earliestCompletion(machine, model));
+            }
+        }
+
+        /**
+         * The earliest completion time of the operations waiting for the machine
+         */
+        private int earliestCompletion(int machine, JobShopModel model) {
+            int[] duration = model.getOperationDuration();
+            int[] operationJob = model.getOperationJob();
+            int earliest = NONE;
+            for (int w = 0; w < waitingSize[machine]; w++) {
+                int op = waiting[machine][w];
+                earliest = Math.min(earliest,
+                        Math.max(jobReady[operationJob[op]], machineReady[machine]) + duration[op]);
+            }
+            return earliest;
+        }
+
+        /**
+         * Change the completion time of a machine and restore the heap order
+         */
+        private void update(int machine, int earliestCompletion) {
+            completion[machine] = earliestCompletion;
+            siftUp(heapIndex[machine]);
+            siftDown(heapIndex[machine]);
+        }
+
+        /**
+         * Machines with an earlier completion come first, equal ones are ordered by their index
+         */
+        private boolean before(int first, int second) {
+            return completion[first] < completion[second]
+                    || (completion[first] == completion[second] && first < second);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!before(heap[index], heap[parent]))
+                    return;
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                if (left < nrMachines && before(heap[left], heap[smallest]))
+                    smallest = left;
+                if (left + 1 < nrMachines && before(heap[left + 1], heap[smallest]))
+                    smallest = left + 1;
+                if (smallest == index)
+                    return;
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int machine = heap[first];
+            heap[first] = heap[second];
+            heap[second] = machine;
+            heapIndex[heap[first]] = first;
+            heapIndex[heap[second]] = second;
+        }
+
+        /**
+         * Get the makespan of the last scheduled chromosome
+         */
+        int getMakespan() {
+            int makespan = 0;
+            for (int m = 0; m < nrMachines; m++)
+                makespan = Math.max(makespan, machineReady[m]);
+            return makespan;
+        }
+
+        /**
+         * Create the primitive solution from the machine sequences
+         */
+        JobShopSolution createSolution(JobShopModel model) {
+            int[][] machineSequence = new int[nrMachines][];
+            for (int m = 0; m < nrMachines; m++)
+                machineSequence[m] = Arrays.copyOf(sequence[m], sequenceSize[m]);
+            return new JobShopSolution(model, machineSequence,
+                    Arrays.copyOf(operationStart, model.getNrOperations()), getMakespan());
+        }
+    }
+}
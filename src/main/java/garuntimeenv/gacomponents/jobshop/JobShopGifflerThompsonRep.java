@@ -0,0 +1,80 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.IProblem;
+import garuntimeenv.interfaces.ISolution;
+
+/**
+ * Preference list representation decoded into active schedules
+ * The chromosomes are the same as of the {@link JobShopPreferenceListRep}, only the decoding is done by the
+ * {@link GifflerThompsonDecoder}, so both representations can be compared on the same operators.
+ */
+public class JobShopGifflerThompsonRep extends JobShopPreferenceListRep {
+
+    /**
+     * Decodes the preference lists of the {@code rep} into an active schedule
+     *
+     * @param rep       The chromosome to be decoded
+     * @param inProblem The job shop problem
+     * @return The decoded schedule
+     */
+    @Override
+    public ISolution createSolutionFromChromosome(Chromosome rep, IProblem inProblem) throws Exception {
+
+        // Check the correct type of the inserted problem
+        if (!(inProblem instanceof JobShopProblem)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
+        }
+
+        return GifflerThompsonDecoder.decode(rep, ((JobShopProblem) inProblem).getModel());
+    }
+
+    /**
+     * Calculates the makespan directly from the ready times of the decoder without building the schedule.
+     * Other fitness functions get the decoded schedule.
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param inProblem       The job shop problem
+     * @param fitnessFunction The fitness function
+     * @return The fitness of the chromosome
+     */
+    @Override
+    public Number calculateFitness(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+        if (!(fitnessFunction instanceof MakespanFitnessFunction))
+            return super.calculateFitness(rep, inProblem, fitnessFunction);
+
+        // Check the correct type of the inserted problem
+        if (!(inProblem instanceof JobShopProblem)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
+        }
+
+        return GifflerThompsonDecoder.decodeMakespan(rep, ((JobShopProblem) inProblem).getModel());
+    }
+
+    /**
+     * Calculates the makespan as primitive value directly from the ready times of the decoder
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param inProblem       The job shop problem
+     * @param fitnessFunction The fitness function
+     * @return The fitness of the chromosome
+     */
+    @Override
+    public double calculateFitnessAsDouble(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+        if (!(fitnessFunction instanceof MakespanFitnessFunction))
+            return super.calculateFitnessAsDouble(rep, inProblem, fitnessFunction);
+
+        // Check the correct type of the inserted problem
+        if (!(inProblem instanceof JobShopProblem)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
+        }
+
+        return GifflerThompsonDecoder.decodeMakespan(rep, ((JobShopProblem) inProblem).getModel());
+    }
+
+    @Override
+    public String toString() {
+        return "Preference List Giffler Thompson";
+    }
+}
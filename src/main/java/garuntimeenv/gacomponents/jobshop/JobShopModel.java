@@ -0,0 +1,124 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import java.util.Arrays;
+
+/**
+ * Immutable primitive model of a job shop scheduling instance.
+ * The operations are numbered consecutively job by job, so each operation has a flat index.
+ * The model holds no decoding state and can be shared by all evaluation threads.
+ * The returned arrays must not be modified.
+ */
+public final class JobShopModel {
+
+    private final int nrJobs;
+    private final int nrMachines;
+    private final int nrOperations;
+
+    private final int[][] durations;            // [job][order] -> processing time
+    private final int[][] machineRouting;       // [job][order] -> machine
+    private final int[][] operationOfMachine;   // [job][machine] -> flat operation index or -1
+
+    private final int[] operationJob;           // [operation] -> job
+    private final int[] operationOrder;         // [operation] -> position in the job
+    private final int[] operationMachine;       // [operation] -> machine
+    private final int[] operationDuration;      // [operation] -> processing time
+    private final int[] predecessor;            // [operation] -> flat index of the prior operation or -1
+
+    /**
+     * Constructor building the model from the json data of the instance
+     *
+     * @param nrMachines      The number of machines
+     * @param processingTime  The processing times of each job's operations
+     * @param machineSequence The 1-based machine sequence of each job
+     */
+    public JobShopModel(int nrMachines, Integer[][] processingTime, Integer[][] machineSequence) {
+        this.nrJobs = processingTime.length;
+        this.nrMachines = nrMachines;
+
+        this.durations = new int[nrJobs][];
+        this.machineRouting = new int[nrJobs][];
+        this.operationOfMachine = new int[nrJobs][nrMachines];
+
+        int operations = 0;
+        for (int j = 0; j < nrJobs; j++)
+            operations += processingTime[j].length;
+        this.nrOperations = operations;
+
+        this.operationJob = new int[nrOperations];
+        this.operationOrder = new int[nrOperations];
+        this.operationMachine = new int[nrOperations];
+        this.operationDuration = new int[nrOperations];
+        this.predecessor = new int[nrOperations];
+
+        int op = 0;
+        for (int j = 0; j < nrJobs; j++) {
+            int length = processingTime[j].length;
+            durations[j] = new int[length];
+            machineRouting[j] = new int[length];
+            Arrays.fill(operationOfMachine[j], -1);
+            for (int o = 0; o < length; o++, op++) {
+                int machine = machineSequence[j][o] - 1;
+                durations[j][o] = processingTime[j][o];
+                machineRouting[j][o] = machine;
+                operationOfMachine[j][machine] = op;
+
+                operationJob[op] = j;
+                operationOrder[op] = o;
+                operationMachine[op] = machine;
+                operationDuration[op] = processingTime[j][o];
+                predecessor[op] = o == 0 ? -1 : op - 1;
+            }
+        }
+    }
+
+    public int getNrJobs() {
+        return nrJobs;
+    }
+
+    public int getNrMachines() {
+        return nrMachines;
+    }
+
+    public int getNrOperations() {
+        return nrOperations;
+    }
+
+    public int[][] getDurations() {
+        return durations;
+    }
+
+    public int[][] getMachineRouting() {
+        return machineRouting;
+    }
+
+    /**
+     * Get the flat index of the operation of {@code job} that is processed on {@code machine}
+     *
+     * @param job     The job
+     * @param machine The machine
+     * @return The flat operation index or -1 if the job doesn't visit the machine
+     */
+    public int getOperation(int job, int machine) {
+        return operationOfMachine[job][machine];
+    }
+
+    public int[] getOperationJob() {
+        return operationJob;
+    }
+
+    public int[] getOperationOrder() {
+        return operationOrder;
+    }
+
+    public int[] getOperationMachine() {
+        return operationMachine;
+    }
+
+    public int[] getOperationDuration() {
+        return operationDuration;
+    }
+
+    public int[] getPredecessor() {
+        return predecessor;
+    }
+}
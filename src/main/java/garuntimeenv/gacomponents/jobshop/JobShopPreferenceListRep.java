@@ -3,9 +3,7 @@ package garuntimeenv.gacomponents.jobshop;
 import garuntimeenv.envcomponents.TestManager;
 import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.gacomponents.Genome;
-import garuntimeenv.gacomponents.jobshop.util.Job;
-import garuntimeenv.gacomponents.jobshop.util.Machine;
-import garuntimeenv.gacomponents.jobshop.util.Operation;
+import garuntimeenv.interfaces.IFitnessFunction;
 import garuntimeenv.interfaces.IProblem;
 import garuntimeenv.interfaces.IProblemRepresentation;
 import garuntimeenv.interfaces.ISolution;
@@ -15,14 +13,22 @@ import garuntimeenv.utils.MyLogger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-
-import static java.util.stream.Collectors.toList;
+import java.util.SplittableRandom;
 
 public class JobShopPreferenceListRep implements IProblemRepresentation {
 
     final static MyLogger logger = MyLogger.getLogger(JobShopPreferenceListRep.class);
     final static Random rand = new Random(TestManager.getSeed());
 
+    /**
+     * Decodes the preference lists of the {@code rep} into a semi-active schedule
+     * The decoding is done by the {@link PreferenceListDecoder} on reused scratch arrays
+     * and only reads the immutable model of the problem, so the problem doesn't need to be cloned
+     *
+     * @param rep       The chromosome to be decoded
+     * @param inProblem The job shop problem
+     * @return The decoded schedule
+     */
     @Override
     public ISolution createSolutionFromChromosome(Chromosome rep, IProblem inProblem) throws Exception {
 
@@ -31,61 +37,50 @@ public class JobShopPreferenceListRep implements IProblemRepresentation {
             throw new IllegalArgumentException("Wrong parameter Type");
         }
 
-        JobShopProblem problem = (JobShopProblem) inProblem;
-
-        // Reset the info
-//        problem.getJobs().forEach(job -> job.getOperations().forEach(operation -> operation.setScheduled(false)));
-        JobShopSolution solution = new JobShopSolution(problem.getNr_machines());
-
-
-        List<String>[] chromosome = rep.getGenomeAsListArray();
-        int tempCounter = 0;
-
-        boolean allScheduled;
-
-        do {
-            int skipPosition = tempCounter / problem.getNr_machines();
-            allScheduled = true;
-            List<Operation> scheduledOperation = new ArrayList<>();
-            for (int i = 0; i < chromosome.length; i++) {
-                if (chromosome[i].isEmpty() || skipPosition >= chromosome[i].size())
-                    continue;
-                // Get the dna of the current chromosome and the first position or if tried previously the next one
-                String dna = chromosome[i].get(skipPosition);
-                // The dna represents the job thats supposed to be scheduled on the current machine i
-                // Go to the problem and check for job (dna) what position the operation is to be scheduled
-                Job currentJob = problem.getJobById(Integer.parseInt(dna));
-                // Get from the job the to be scheduled operation
-                Operation toBeScheduledOperation = currentJob.getOperationOfMachine(i);
-
-                // Check if prior operation is scheduled
-                if (toBeScheduledOperation.getPriorOperation() != null &&
-                        !toBeScheduledOperation.getPriorOperation().isScheduled()) {
-                    tempCounter++;
-                    allScheduled = false;
-                    continue;
-                }
-
-                // The Operation is schedulable and will be put into the first available position in the machine
-                Machine machine = solution.getMachine(i);
-                machine.insertOperationFirstFitting(toBeScheduledOperation);
-                // Only after the current cycle is finished the isScheduled parameter should be set
-                scheduledOperation.add(toBeScheduledOperation);
-                chromosome[i].remove(skipPosition);
-                tempCounter = 0;
-
-                // Check if all elements of this genome is scheduled
-                if (!chromosome[i].isEmpty())
-                    allScheduled = false;
-            }
+        return PreferenceListDecoder.decode(rep, ((JobShopProblem) inProblem).getModel());
+    }
 
-            for (Operation op : scheduledOperation) {
-                op.setScheduled(true);
-            }
+    /**
+     * Calculates the makespan directly from the ready times of the decoder without building the schedule.
+     * Other fitness functions get the decoded schedule.
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param inProblem       The job shop problem
+     * @param fitnessFunction The fitness function
+     * @return The fitness of the chromosome
+     */
+    @Override
+    public Number calculateFitness(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+        if (!(fitnessFunction instanceof MakespanFitnessFunction))
+            return IProblemRepresentation.super.calculateFitness(rep, inProblem, fitnessFunction);
 
-        } while (!allScheduled);
+        // Check the correct type of the inserted problem
+        if (!(inProblem instanceof JobShopProblem)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
+        }
 
-        return solution;
+        return PreferenceListDecoder.decodeMakespan(rep, ((JobShopProblem) inProblem).getModel());
+    }
+
+    /**
+     * Calculates the makespan as primitive value directly from the ready times of the decoder
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param inProblem       The job shop problem
+     * @param fitnessFunction The fitness function
+     * @return The fitness of the chromosome
+     */
+    @Override
+    public double calculateFitnessAsDouble(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+        if (!(fitnessFunction instanceof MakespanFitnessFunction))
+            return IProblemRepresentation.super.calculateFitnessAsDouble(rep, inProblem, fitnessFunction);
+
+        // Check the correct type of the inserted problem
+        if (!(inProblem instanceof JobShopProblem)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
+        }
+
+        return PreferenceListDecoder.decodeMakespan(rep, ((JobShopProblem) inProblem).getModel());
     }
 
     /**
@@ -95,36 +90,48 @@ public class JobShopPreferenceListRep implements IProblemRepresentation {
      */
     @Override
     public <T extends IProblem> Chromosome createRandomRep(T inProblem) {
+        return createRandomRep(inProblem, new SplittableRandom(rand.nextLong()));
+    }
+
+    /**
+     * Randomly generates chromosome that decoded represent the {@code inProblem}
+     *
+     * @param inProblem The problem that
+     * @param random    The random stream
+     */
+    @Override
+    public <T extends IProblem> Chromosome createRandomRep(T inProblem, SplittableRandom random) {
 
         if (!(inProblem instanceof JobShopProblem)) {
             throw new IllegalArgumentException("Wrong parameter Type");
         }
 
-        JobShopProblem problem = (JobShopProblem) inProblem;
+        JobShopModel model = ((JobShopProblem) inProblem).getModel();
 
-        int nrMachines = problem.getNr_machines();
-        int nrJobs = problem.getNr_jobs();
+        int nrMachines = model.getNrMachines();
+        int nrJobs = model.getNrJobs();
+        int[][] routing = model.getMachineRouting();
 
-        List<ArrayList<Operation>> operations = problem.getJobs().stream()
-                .map(job -> new ArrayList<>(job.getOperations()))
-                .collect(toList());
+        // The jobs with unassigned operations and the next operation of each job
+        List<Integer> activeJobs = new ArrayList<>(nrJobs);
+        for (int j = 0; j < nrJobs; j++)
+            activeJobs.add(j);
+        int[] nextOrder = new int[nrJobs];
 
         Chromosome retChromosome = new Chromosome(nrMachines, nrJobs);
         Genome[] genomes = retChromosome.getGenome();
 
         for (int i = 0; i < nrMachines; i++) {
             for (int c = 0; c < nrJobs; c++) {
-                int selectMachine = rand.nextInt(operations.size());
-//                int selectJob = rand.nextInt(operations.get(selectMachine).size());
-                int selectJob = 0;
-                Operation op = operations.get(selectMachine).remove(selectJob);
-                if (operations.get(selectMachine).size() == 0)
-                    operations.remove(selectMachine);
-                genomes[op.getMachine()].addToEnd(op.getJob().getId() + "");
+                int selectJob = random.nextInt(activeJobs.size());
+                int job = activeJobs.get(selectJob);
+                int machine = routing[job][nextOrder[job]++];
+                if (nextOrder[job] == routing[job].length)
+                    activeJobs.remove(selectJob);
+                genomes[machine].addToEnd(job);
             }
         }
 
-
         return retChromosome;
     }
 
@@ -138,4 +145,9 @@ public class JobShopPreferenceListRep implements IProblemRepresentation {
     public void repairChromosome(Chromosome chromosome) throws CannotRepairException {
         throw new CannotRepairException();
     }
+
+    @Override
+    public String toString() {
+        return "Preference List Semi Active";
+    }
 }
@@ -20,11 +20,38 @@ public class JobShopProblem extends IProblem {
     private List<Job> jobs;
     private Map<Integer, Job> jobMap;
 
+    // The immutable primitive model shared by all decoding threads
+    private transient volatile JobShopModel model;
+
     @Override
     protected void initProblem() {
         this.setJobs();
     }
 
+    /**
+     * The decoding works on the immutable {@link JobShopModel} and keeps its state outside of the problem
+     *
+     * @return Always true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+    /**
+     * Get the primitive model of the problem. It is created on the first request.
+     *
+     * @return The immutable model of the problem
+     */
+    public JobShopModel getModel() {
+        JobShopModel currentModel = model;
+        if (currentModel == null) {
+            currentModel = new JobShopModel(nr_machines, processing_time, machine_sequence);
+            model = currentModel;
+        }
+        return currentModel;
+    }
+
     public void setJobs() {
         jobs = new ArrayList<>();
         jobMap = new HashMap<>();
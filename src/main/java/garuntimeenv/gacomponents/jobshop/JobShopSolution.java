@@ -1,42 +1,157 @@
 package garuntimeenv.gacomponents.jobshop;
 
+import garuntimeenv.gacomponents.jobshop.util.Job;
 import garuntimeenv.gacomponents.jobshop.util.Machine;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
 import garuntimeenv.interfaces.ISolution;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Class representing a schedule of the job shop scheduling problem
+ * A decoded schedule is stored as primitive arrays over the operations of the {@link JobShopModel}.
+ * The machine and operation objects are only created when they are requested.
+ */
 public class JobShopSolution implements ISolution {
-    private Map<Integer, Machine> machines;
+
+    // Machine view of the schedule
+    private volatile Machine[] machines;
+
+    // The primitive schedule
+    private JobShopModel model;
+    private int[][] machineSequence;    // The flat operation indices of each machine ordered by the beginning
+    private int[] operationStart;       // The beginning of each flat operation
+    private int makespan = -1;
 
     public JobShopSolution(int machineAmount) {
-        machines = new HashMap<>();
+        machines = new Machine[machineAmount];
         for (int i = 0; i < machineAmount; i++) {
-            this.machines.put(i, new Machine(i));
+            this.machines[i] = new Machine(i);
         }
     }
 
+    public JobShopSolution(Machine[] machines) {
+        this.machines = machines;
+    }
+
+    /**
+     * Constructor for a decoded primitive schedule
+     *
+     * @param model           The model the schedule belongs to
+     * @param machineSequence The flat operation indices of each machine ordered by their beginning
+     * @param operationStart  The beginning of each flat operation
+     * @param makespan        The end time of the last operation
+     */
+    public JobShopSolution(JobShopModel model, int[][] machineSequence, int[] operationStart, int makespan) {
+        this.model = model;
+        this.machineSequence = machineSequence;
+        this.operationStart = operationStart;
+        this.makespan = makespan;
+    }
+
     public Machine getMachine(int i) {
-        return this.getMachines().get(i);
+        return this.getMachineArray()[i];
     }
 
-    public Map<Integer, Machine> getMachines() {
-        return machines;
+    public List<Machine> getMachines() {
+        return Arrays.asList(getMachineArray());
     }
 
-    public void setMachines(Map<Integer, Machine> machines) {
+    public void setMachines(Machine[] machines) {
         this.machines = machines;
+        this.model = null;
+        this.makespan = -1;
+    }
+
+    /**
+     * Get the end time of the last operation of the schedule
+     *
+     * @return The makespan
+     */
+    public int getMakespan() {
+        if (model != null)
+            return makespan;
+
+        int currentMakespan = 0;
+        for (Machine m : machines) {
+            if (m.getOperations().isEmpty())
+                continue;
+            Operation lastOperation = m.getOperations().get(m.getOperations().size() - 1);
+            currentMakespan = Math.max(currentMakespan, lastOperation.getBeginning() + lastOperation.getDuration());
+        }
+        return currentMakespan;
+    }
+
+    public JobShopModel getModel() {
+        return model;
+    }
+
+    public int[][] getMachineSequence() {
+        return machineSequence;
+    }
+
+    public int[] getOperationStart() {
+        return operationStart;
+    }
+
+    /**
+     * Get the machines of the schedule and create them from the primitive schedule if necessary
+     *
+     * @return The machines of the schedule
+     */
+    private Machine[] getMachineArray() {
+        Machine[] currentMachines = machines;
+        if (currentMachines == null) {
+            currentMachines = createMachines();
+            machines = currentMachines;
+        }
+        return currentMachines;
+    }
+
+    /**
+     * Create the jobs, operations and machines of the primitive schedule
+     *
+     * @return The machines holding the scheduled operations
+     */
+    private Machine[] createMachines() {
+        int[][] durations = model.getDurations();
+        int[][] routing = model.getMachineRouting();
+
+        Job[] jobs = new Job[model.getNrJobs()];
+        for (int j = 0, op = 0; j < jobs.length; j++) {
+            jobs[j] = new Job(j);
+            Operation[] operations = new Operation[durations[j].length];
+            for (int o = 0; o < operations.length; o++, op++) {
+                operations[o] = new Operation(jobs[j], o, durations[j][o], routing[j][o], operationStart[op]);
+                operations[o].setScheduled(true);
+            }
+            jobs[j].setOperations(operations);
+        }
+
+        int[] operationJob = model.getOperationJob();
+        int[] operationOrder = model.getOperationOrder();
+        Machine[] machineView = new Machine[machineSequence.length];
+        for (int m = 0; m < machineView.length; m++) {
+            List<Operation> operations = new ArrayList<>(machineSequence[m].length);
+            for (int op : machineSequence[m])
+                operations.add(jobs[operationJob[op]].getOperations().get(operationOrder[op]));
+            machineView[m] = new Machine(m, operations);
+        }
+        return machineView;
     }
 
     @Override
     public String toString() {
-        return this.machines.values().toString();
+        return Arrays.toString(this.getMachineArray());
     }
 
     @Override
     public int hashCode() {
-        return this.machines.hashCode();
+        if (model != null)
+            return Arrays.hashCode(this.operationStart);
+        return Arrays.hashCode(this.machines);
     }
 
     @Override
@@ -46,6 +161,8 @@ public class JobShopSolution implements ISolution {
 
         JobShopSolution that = (JobShopSolution) o;
 
-        return Objects.equals(machines, that.machines);
+        if (model != null && that.model != null)
+            return model == that.model && Arrays.equals(operationStart, that.operationStart);
+        return Arrays.equals(getMachineArray(), that.getMachineArray());
     }
 }
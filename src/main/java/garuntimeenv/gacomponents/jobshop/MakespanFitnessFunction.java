@@ -1,8 +1,6 @@
 package garuntimeenv.gacomponents.jobshop;
 
 import garuntimeenv.gacomponents.Chromosome;
-import garuntimeenv.gacomponents.jobshop.util.Machine;
-import garuntimeenv.gacomponents.jobshop.util.Operation;
 import garuntimeenv.interfaces.IFitnessFunction;
 import garuntimeenv.interfaces.ISolution;
 
@@ -15,15 +13,15 @@ public class MakespanFitnessFunction implements IFitnessFunction<Integer> {
             throw new IllegalArgumentException("Wrong parameter Type");
         }
         jsp = (JobShopSolution) solution;
-        int makespan = 0;
-        for (Machine m : jsp.getMachines().values()) {
-            Operation lastOperation = m.getOperations().get(m.getOperations().size() - 1);
-            int end = lastOperation.getDuration() + lastOperation.getBeginning();
-            if (end > makespan) {
-                makespan = end;
-            }
+        return jsp.getMakespan();
+    }
+
+    @Override
+    public double calculateFitnessAsDouble(ISolution solution) {
+        if (!(solution instanceof JobShopSolution)) {
+            throw new IllegalArgumentException("Wrong parameter Type");
         }
-        return makespan;
+        return ((JobShopSolution) solution).getMakespan();
     }
 
     @Override
@@ -38,13 +36,25 @@ public class MakespanFitnessFunction implements IFitnessFunction<Integer> {
         return firstFitness < secondFitness;
     }
 
+    @Override
+    public boolean isBetterFitness(double firstFitness, double secondFitness) {
+        if (secondFitness == -1)
+            return true;
+        return firstFitness < secondFitness;
+    }
+
     @Override
     public Integer getWorstFitness() {
         return Integer.MAX_VALUE;
     }
 
+    @Override
+    public double getWorstFitnessAsDouble() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public int compare(Chromosome o1, Chromosome o2) {
-        return Double.compare(o2.getFitness().doubleValue(), o1.getFitness().doubleValue());
+        return Double.compare(o2.getFitnessAsDouble(), o1.getFitnessAsDouble());
     }
 }
@@ -0,0 +1,395 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.jobshop.util.Machine;
+import garuntimeenv.gacomponents.jobshop.util.MachineTimeline;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
+
+import java.util.Arrays;
+
+/**
+ * Decoding engine for the preference list representation of the job shop scheduling problem.
+ * All intermediate state is kept in primitive scratch arrays that are reused per thread,
+ * so in steady state only the resulting solution gets allocated.
+ * The problem itself is only read through its immutable {@link JobShopModel}.
+ * A mutant resumes from the last checkpoint of its parent's {@link DecodingTrace} before the first read of a changed
+ * gene. The trace is only built for chromosomes whose evaluation requested it, mutants of other parents get decoded
+ * completely, so the parent is never decoded twice.
+ */
+public class PreferenceListDecoder {
+
+    // Scratch state for each evaluation thread
+    private static final ThreadLocal<DecodingState> scratch = ThreadLocal.withInitial(DecodingState::new);
+
+    /**
+     * Decode the chromosome into a semi-active schedule of the problem.
+     * The operations get scheduled in the order of the preference lists and are put into the first
+     * fitting gap of their machine.
+     *
+     * @param chromosome The chromosome holding one preference list per machine
+     * @param model      The model of the problem to be scheduled
+     * @return The decoded schedule
+     */
+    public static JobShopSolution decode(Chromosome chromosome, JobShopModel model) {
+        DecodingState state = scratch.get();
+        state.schedule(chromosome, model);
+        return state.createSolution(model);
+    }
+
+    /**
+     * Decode the chromosome like {@link #decode(Chromosome, JobShopModel)} but only return the makespan.
+     * The schedule is read from the ready times of the machines, so nothing gets allocated.
+     *
+     * @param chromosome The chromosome holding one preference list per machine
+     * @param model      The model of the problem to be scheduled
+     * @return The end time of the last operation
+     */
+    public static int decodeMakespan(Chromosome chromosome, JobShopModel model) {
+        DecodingState state = scratch.get();
+        state.schedule(chromosome, model);
+        return state.getMakespan();
+    }
+
+    /**
+     * The reusable scratch state of the decoding process
+     */
+    static class DecodingState {
+
+        private int nrMachines;
+
+        // The not yet scheduled part of each preference list
+        private int[][] remaining = new int[0][];
+        private int[] remainingSize = new int[0];
+
+        // The timeline of each machine sorted by the starting time
+        private MachineTimeline[] timelines = new MachineTimeline[0];
+        private int[] machineReady = new int[0];
+
+        // The end time of each operation and if it is scheduled in a finished pass
+        private int[] operationEnd = new int[0];
+        private boolean[] operationCommitted = new boolean[0];
+
+        // Operations which got scheduled in the current pass
+        private int[] pendingOperations = new int[0];
+
+        // The trace of the current decoding
+        private int[] positionOfOperation = new int[0];    // Position of each operation in its preference list
+        private int[] listOffset = new int[0];             // Start of each preference list in the position arrays
+        private int[] firstReadPass = new int[0];          // First pass reading a position at or behind a position
+        private int[] readFrontier = new int[0];           // The first not yet read position of each list
+        private int[] scheduledOrder = new int[0];
+        private int scheduledCount;
+        private int[] checkpointPass = new int[0];
+        private int[] checkpointScheduled = new int[0];
+        private int[] checkpointTempCounter = new int[0];
+        private int checkpointCount;
+
+        /**
+         * Grow the scratch arrays if the problem or the chromosome is bigger than the previous one
+         */
+        private void ensureCapacity(Chromosome chromosome, JobShopModel model) {
+            nrMachines = model.getNrMachines();
+            int maxGenomeLength = 0;
+            int totalGenes = 0;
+            for (Genome genome : chromosome.getGenome()) {
+                maxGenomeLength = Math.max(maxGenomeLength, genome.getGenomeSize());
+                totalGenes += genome.getGenomeSize();
+            }
+
+            if (operationEnd.length < model.getNrOperations()) {
+                operationEnd = new int[model.getNrOperations()];
+                operationCommitted = new boolean[model.getNrOperations()];
+                pendingOperations = new int[model.getNrOperations()];
+                positionOfOperation = new int[model.getNrOperations()];
+            }
+            if (firstReadPass.length < totalGenes) {
+                firstReadPass = new int[totalGenes];
+                scheduledOrder = new int[totalGenes];
+                checkpointPass = new int[totalGenes + 1];
+                checkpointScheduled = new int[totalGenes + 1];
+                checkpointTempCounter = new int[totalGenes + 1];
+            }
+
+            int machines = Math.max(nrMachines, chromosome.getGenome().length);
+            if (remaining.length < machines) {
+                remaining = new int[machines][];
+                remainingSize = new int[machines];
+                timelines = new MachineTimeline[machines];
+                machineReady = new int[machines];
+                listOffset = new int[machines + 1];
+                readFrontier = new int[machines];
+            }
+            for (int m = 0; m < machines; m++) {
+                if (remaining[m] == null || remaining[m].length < maxGenomeLength)
+                    remaining[m] = new int[maxGenomeLength];
+                if (timelines[m] == null)
+                    timelines[m] = new MachineTimeline(maxGenomeLength);
+            }
+        }
+
+        /**
+         * Reset the state and load the chromosome into the scratch arrays
+         */
+        private void load(Chromosome chromosome, JobShopModel model) {
+            ensureCapacity(chromosome, model);
+
+            for (int op = 0; op < model.getNrOperations(); op++)
+                operationCommitted[op] = false;
+
+            Genome[] genomes = chromosome.getGenome();
+            for (int m = 0; m < remaining.length; m++) {
+                remainingSize[m] = 0;
+                timelines[m].clear();
+                machineReady[m] = 0;
+            }
+            for (int m = 0; m < genomes.length; m++) {
+                int[] genes = genomes[m].getGenes();
+                System.arraycopy(genes, 0, remaining[m], 0, genes.length);
+                remainingSize[m] = genes.length;
+                listOffset[m + 1] = listOffset[m] + genes.length;
+                readFrontier[m] = 0;
+                for (int k = 0; k < genes.length; k++)
+                    positionOfOperation[model.getOperation(genes[k], m)] = k;
+            }
+            scheduledCount = 0;
+            checkpointCount = 0;
+        }
+
+        /**
+         * Restore the state at a checkpoint of the parent's decoding and load the mutant on top of it
+         * The operations scheduled up to the checkpoint are only read in front of the changed genes, so they
+         * are the same for the mutant.
+         */
+        private void restore(Chromosome chromosome, JobShopModel model, DecodingTrace trace, int checkpoint) {
+            ensureCapacity(chromosome, model);
+            int[] duration = model.getOperationDuration();
+            int pass = trace.checkpointPass[checkpoint];
+
+            for (int op = 0; op < model.getNrOperations(); op++)
+                operationCommitted[op] = false;
+            scheduledCount = trace.checkpointScheduled[checkpoint];
+            for (int k = 0; k < scheduledCount; k++) {
+                int op = trace.scheduledOrder[k];
+                scheduledOrder[k] = op;
+                operationCommitted[op] = true;
+                operationEnd[op] = trace.operationEnd[op];
+            }
+            checkpointCount = checkpoint;
+            System.arraycopy(trace.checkpointPass, 0, checkpointPass, 0, checkpoint);
+            System.arraycopy(trace.checkpointScheduled, 0, checkpointScheduled, 0, checkpoint);
+            System.arraycopy(trace.checkpointTempCounter, 0, checkpointTempCounter, 0, checkpoint);
+
+            for (int m = 0; m < remaining.length; m++) {
+                remainingSize[m] = 0;
+                timelines[m].clear();
+                machineReady[m] = 0;
+            }
+            // The scheduled operations keep their order on the machines, later operations are only put in between
+            for (int m = 0; m < trace.timelineOffset.length - 1; m++) {
+                for (int t = trace.timelineOffset[m]; t < trace.timelineOffset[m + 1]; t++) {
+                    int op = trace.timelineIds[t];
+                    if (!operationCommitted[op])
+                        continue;
+                    timelines[m].append(op, operationEnd[op] - duration[op], duration[op]);
+                    machineReady[m] = Math.max(machineReady[m], operationEnd[op]);
+                }
+            }
+
+            Genome[] genomes = chromosome.getGenome();
+            for (int m = 0; m < genomes.length; m++) {
+                int[] genes = genomes[m].getGenes();
+                int size = 0;
+                for (int k = 0; k < genes.length; k++) {
+                    int op = model.getOperation(genes[k], m);
+                    positionOfOperation[op] = k;
+                    if (!operationCommitted[op])
+                        remaining[m][size++] = genes[k];
+                }
+                remainingSize[m] = size;
+                listOffset[m + 1] = listOffset[m] + genes.length;
+
+                // The positions read before the checkpoint
+                int frontier = 0;
+                while (frontier < genes.length && trace.firstReadPass[listOffset[m] + frontier] < pass) {
+                    firstReadPass[listOffset[m] + frontier] = trace.firstReadPass[listOffset[m] + frontier];
+                    frontier++;
+                }
+                readFrontier[m] = frontier;
+            }
+        }
+
+        /**
+         * Get the trace of the parent if the chromosome is a mutant which can resume from it
+         */
+        private static DecodingTrace resumableTrace(Chromosome chromosome, JobShopModel model) {
+            Chromosome parent = chromosome.getMutationParent();
+            Genome[] genomes = chromosome.getGenome();
+            if (parent == null || chromosome.getChangedFrom() == null || parent.getGenome().length != genomes.length)
+                return null;
+            DecodingTrace trace = parent.getDecodingTrace() instanceof DecodingTrace ?
+                    (DecodingTrace) parent.getDecodingTrace() : null;
+            if (trace == null || !trace.isTraceOf(parent, model) || trace.listOffset.length != genomes.length + 1)
+                return null;
+            for (int m = 0; m < genomes.length; m++) {
+                if (trace.listOffset[m + 1] - trace.listOffset[m] != genomes[m].getGenomeSize())
+                    return null;
+            }
+            return trace;
+        }
+
+        /**
+         * Schedule the operations in the order of the preference lists
+         * A mutant starts at the checkpoint of its parent, the passes up to there would schedule the same.
+         * The trace of the decoding is kept by the chromosome if it was requested.
+         */
+        void schedule(Chromosome chromosome, JobShopModel model) {
+            DecodingTrace trace = resumableTrace(chromosome, model);
+            if (trace == null) {
+                load(chromosome, model);
+                run(chromosome, model, 0, 0);
+            } else {
+                int checkpoint = trace.resumableCheckpoint(chromosome.getChangedFrom());
+                restore(chromosome, model, trace, checkpoint);
+                run(chromosome, model, trace.checkpointPass[checkpoint], trace.checkpointTempCounter[checkpoint]);
+            }
+            if (chromosome.isDecodingTraceRequested())
+                chromosome.setDecodingTrace(createTrace(model, chromosome.getFingerprint(), chromosome.getGenome().length));
+        }
+
+        /**
+         * Run the passes over the loaded preference lists from the given pass on
+         * If the prior operation of the job isn't scheduled yet the next element of the lists is tried
+         * The reads and checkpoints of the passes are recorded in the scratch arrays, so the trace of the
+         * decoding can be created afterwards.
+         */
+        private void run(Chromosome chromosome, JobShopModel model, int pass, int tempCounter) {
+            int[] predecessor = model.getPredecessor();
+            int[] duration = model.getOperationDuration();
+            int subGenomes = chromosome.getGenome().length;
+            boolean allScheduled;
+            boolean checkpoint = true;
+
+            do {
+                if (checkpoint) {
+                    checkpointPass[checkpointCount] = pass;
+                    checkpointScheduled[checkpointCount] = scheduledCount;
+                    checkpointTempCounter[checkpointCount++] = tempCounter;
+                }
+                int skipPosition = tempCounter / nrMachines;
+                int pendingSize = 0;
+                allScheduled = true;
+                for (int i = 0; i < subGenomes; i++) {
+                    if (remainingSize[i] == 0 || skipPosition >= remainingSize[i])
+                        continue;
+                    // The dna represents the job thats supposed to be scheduled on the current machine i
+                    int op = model.getOperation(remaining[i][skipPosition], i);
+                    int prior = predecessor[op];
+                    markRead(i, positionOfOperation[op], pass);
+
+                    // Check if prior operation is scheduled
+                    if (prior != -1 && !operationCommitted[prior]) {
+                        tempCounter++;
+                        allScheduled = false;
+                        continue;
+                    }
+
+                    int earliestPossibleBeginning = prior == -1 ? 0 : operationEnd[prior];
+                    int start = insertFirstFitting(i, op, duration[op], earliestPossibleBeginning);
+                    operationEnd[op] = start + duration[op];
+                    // Only after the current cycle is finished the operation counts as scheduled
+                    pendingOperations[pendingSize++] = op;
+                    scheduledOrder[scheduledCount++] = op;
+
+                    System.arraycopy(remaining[i], skipPosition + 1, remaining[i], skipPosition,
+                            remainingSize[i] - skipPosition - 1);
+                    remainingSize[i]--;
+                    tempCounter = 0;
+
+                    // Check if all elements of this genome is scheduled
+                    if (remainingSize[i] != 0)
+                        allScheduled = false;
+                }
+
+                for (int p = 0; p < pendingSize; p++)
+                    operationCommitted[pendingOperations[p]] = true;
+
+                checkpoint = pendingSize > 0;
+                pass++;
+            } while (!allScheduled);
+        }
+
+        /**
+         * Remember the pass as first read of all positions up to the read one that weren't read before
+         */
+        private void markRead(int list, int position, int pass) {
+            for (int p = readFrontier[list]; p <= position; p++)
+                firstReadPass[listOffset[list] + p] = pass;
+            readFrontier[list] = Math.max(readFrontier[list], position + 1);
+        }
+
+        /**
+         * Copy the trace of the finished decoding
+         */
+        private DecodingTrace createTrace(JobShopModel model, long fingerprint, int subGenomes) {
+            int[] timelineOffset = new int[nrMachines + 1];
+            for (int m = 0; m < nrMachines; m++)
+                timelineOffset[m + 1] = timelineOffset[m] + timelines[m].size();
+            int[] timelineIds = new int[timelineOffset[nrMachines]];
+            // The pending operations aren't needed anymore, so they hold the ids of each machine
+            int[] ids = pendingOperations;
+            for (int m = 0; m < nrMachines; m++) {
+                timelines[m].copyIds(ids);
+                System.arraycopy(ids, 0, timelineIds, timelineOffset[m], timelines[m].size());
+            }
+            return new DecodingTrace(model, fingerprint,
+                    Arrays.copyOf(scheduledOrder, scheduledCount),
+                    Arrays.copyOf(operationEnd, model.getNrOperations()),
+                    Arrays.copyOf(listOffset, subGenomes + 1),
+                    Arrays.copyOf(firstReadPass, listOffset[subGenomes]),
+                    timelineOffset, timelineIds,
+                    Arrays.copyOf(checkpointPass, checkpointCount),
+                    Arrays.copyOf(checkpointScheduled, checkpointCount),
+                    Arrays.copyOf(checkpointTempCounter, checkpointCount));
+        }
+
+        /**
+         * Insert the operation into the first fitting gap of the machine's timeline.
+         * Same gap semantics as {@link Machine#insertOperationFirstFitting(Operation)}
+         *
+         * @return The starting time of the inserted operation
+         */
+        private int insertFirstFitting(int machine, int op, int duration, int earliestPossibleBeginning) {
+            MachineTimeline timeline = timelines[machine];
+            int startTime = timeline.getStart(timeline.insertFirstFitting(op, duration, earliestPossibleBeginning));
+            machineReady[machine] = Math.max(machineReady[machine], startTime + duration);
+            return startTime;
+        }
+
+        /**
+         * Get the makespan of the last scheduled chromosome
+         */
+        int getMakespan() {
+            int makespan = 0;
+            for (int m = 0; m < nrMachines; m++)
+                makespan = Math.max(makespan, machineReady[m]);
+            return makespan;
+        }
+
+        /**
+         * Create the primitive solution from the machine timelines
+         */
+        JobShopSolution createSolution(JobShopModel model) {
+            int[] duration = model.getOperationDuration();
+            int[] operationStart = new int[model.getNrOperations()];
+            int[][] machineSequence = new int[nrMachines][];
+            for (int m = 0; m < nrMachines; m++) {
+                machineSequence[m] = new int[timelines[m].size()];
+                timelines[m].copyIds(machineSequence[m]);
+                for (int op : machineSequence[m])
+                    operationStart[op] = operationEnd[op] - duration[op];
+            }
+            return new JobShopSolution(model, machineSequence, operationStart, getMakespan());
+        }
+    }
+}
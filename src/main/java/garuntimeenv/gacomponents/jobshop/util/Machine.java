@@ -1,6 +1,6 @@
 package garuntimeenv.gacomponents.jobshop.util;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -8,74 +8,52 @@ public class Machine {
 
     private int id;
     private List<Operation> operations;
+    private MachineTimeline timeline;   // Index of the gaps between the operations
 
     public Machine(int id) {
         this.id = id;
-        this.operations = new LinkedList<>();
+        this.operations = new ArrayList<>();
     }
 
     public Machine(List<Operation> operations) {
         this.operations = operations;
     }
 
+    public Machine(int id, List<Operation> operations) {
+        this.id = id;
+        this.operations = operations;
+    }
+
+    /**
+     * Insert the operation into the first gap of the machine it fits in, but not before its prior operation ended.
+     * The gap is searched on the indexed {@link MachineTimeline} of the machine
+     *
+     * @param op The operation to be scheduled
+     */
     public void insertOperationFirstFitting(Operation op) {
-        int beginning = 0;
-        int position = 0;
         int earliestPossibleBeginning = op.getPriorOperation() == null ?
                 0 : op.getPriorOperation().getBeginning() + op.getPriorOperation().getDuration();
 
-        // Get possible beginning point
-        for (Operation inListOp : operations) {
-            // Check if current operation starts immediately
-            if (inListOp.getBeginning() == beginning || earliestPossibleBeginning > inListOp.getBeginning()) {
-                beginning = inListOp.getBeginning() + inListOp.getDuration();
-                position += 1;
-                continue;
-            }
-
-
-            int tempBeginning = beginning;
-            if (earliestPossibleBeginning > beginning && earliestPossibleBeginning < inListOp.getBeginning()) {
-                tempBeginning = earliestPossibleBeginning;
-            }
-
-            // Check if current operation fits in between current and prev
-            int timeBetween = inListOp.getBeginning() - tempBeginning;
-            // it fits
-            if (op.getDuration() < timeBetween)
-                break;
-
-            // Doesn't fit
-            beginning = inListOp.getBeginning() + inListOp.getDuration();
-            position += 1;
-        }
-
-        int startTime = beginning < earliestPossibleBeginning ? earliestPossibleBeginning : beginning;
+        MachineTimeline currentTimeline = getTimeline();
+        int position = currentTimeline.insertFirstFitting(op.getOrder(), op.getDuration(), earliestPossibleBeginning);
 
         // Insert operation into operation list
-        op.setBeginning(startTime);
+        op.setBeginning(currentTimeline.getStart(position));
         this.operations.add(position, op);
+    }
 
-//        System.out.print("Scheduled operation:  (Job: "
-//                + op.getJob().getId() + "{" + op.getOrder() + "} auf machine " + ((this.id + "").length() == 1 ? " " + this.id : this.id) +
-//                "{ " + this.operations.size() + "}) ");
-//        if (position != 0){
-//            Operation currOperation = this.operations.get(position - 1);
-//            System.out.print(" Prev: [ " + (position - 1) + ": " + currOperation.getBeginning() + " + "
-//                    + currOperation.getDuration() + " -> "
-//                    + (currOperation.getBeginning() + currOperation.getDuration()) + " ]");
-//        }
-//        System.out.print(" Curr: [ " + (position) + ": " + op.getBeginning() + " + "
-//                + op.getDuration() + " -> "
-//                + (op.getBeginning() + op.getDuration()) + " ]");
-//
-//        if (position != this.operations.size() - 1) {
-//            Operation currOperation = this.operations.get(position + 1);
-//            System.out.print(" Next: [ " + (position + 1) + ": " + currOperation.getBeginning() + " + "
-//                    + currOperation.getDuration() + " -> "
-//                    + (currOperation.getBeginning() + currOperation.getDuration()) + " ]");
-//        }
-//        System.out.print("\n\n");
+    /**
+     * Get the timeline of the machine, it gets rebuilt if the operation list was changed from outside
+     *
+     * @return The timeline of the scheduled operations
+     */
+    private MachineTimeline getTimeline() {
+        if (timeline == null || timeline.size() != operations.size()) {
+            timeline = new MachineTimeline(operations.size() + 1);
+            for (Operation operation : operations)
+                timeline.append(operation.getOrder(), operation.getBeginning(), operation.getDuration());
+        }
+        return timeline;
     }
 
     public void addOperationAtEnd(Operation op) {
@@ -97,6 +75,7 @@ public class Machine {
 
     public void setOperations(List<Operation> operations) {
         this.operations = operations;
+        this.timeline = null;
     }
 
     @Override
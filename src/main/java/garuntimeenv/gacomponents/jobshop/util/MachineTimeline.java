@@ -0,0 +1,425 @@
+package garuntimeenv.gacomponents.jobshop.util;
+
+/**
+ * Timeline of the operations scheduled on one machine, ordered by their beginning.
+ * Short timelines are scanned linearly on sorted primitive arrays. Once the timeline grows past
+ * {@link #INDEX_THRESHOLD} operations its entries are kept in a treap over the same arrays. Each node stores
+ * the gap between its beginning and the end of its predecessor in the timeline and the biggest gap of its
+ * subtree, so the first fitting gap is found in logarithmic time.
+ * An operation is inserted into the first gap between two operations that ends after its earliest possible
+ * beginning and is longer than its duration counted from the later of the gap's beginning and its earliest possible
+ * beginning. If no gap fits, it is appended behind the last operation. A gap ending exactly at the earliest possible
+ * beginning is skipped as well. The former list based machine used such a gap and put the operation on top of the
+ * following one, so the schedules differ from it in that case.
+ * A cleared timeline keeps its arrays, so it can be reused without allocations.
+ */
+public class MachineTimeline {
+
+    private static final int NIL = -1;
+
+    // Number of operations up to which the linear scan is faster than the treap
+    static final int INDEX_THRESHOLD = 48;
+
+    // Node storage
+    private int[] ids;          // Id of the operation of the node
+    private int[] starts;       // Beginning of the operation
+    private int[] ends;         // End of the operation
+    private int[] gaps;         // Beginning minus the end of the previous operation in the timeline
+    private int[] maxGaps;      // Biggest gap of the subtree
+    private int[] sizes;        // Number of nodes in the subtree
+    private int[] priorities;   // Heap priority of the treap
+    private int[] lefts;
+    private int[] rights;
+    private int[] traversal;    // Stack for the in order traversal
+
+    private int root = NIL;
+    private int count = 0;
+    private boolean indexed = false;    // If false the arrays are ordered by position and the treap isn't built
+
+    private int seed = 0x2545F491;
+
+    // Results of the last split
+    private int splitLeft;
+    private int splitRight;
+
+    public MachineTimeline() {
+        this(16);
+    }
+
+    public MachineTimeline(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Remove all operations but keep the allocated arrays
+     */
+    public void clear() {
+        root = NIL;
+        count = 0;
+        indexed = false;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Insert the operation into the first fitting gap of the timeline.
+     * Same semantics as the linear scan: operations beginning up to {@code earliestPossibleBeginning} are
+     * passed, afterwards the operation is put before the first operation that leaves a gap bigger than
+     * its duration.
+     *
+     * @param id                        The id of the operation
+     * @param duration                  The duration of the operation
+     * @param earliestPossibleBeginning The end of the prior operation of the job
+     * @return The position in the timeline the operation got inserted at
+     */
+    public int insertFirstFitting(int id, int duration, int earliestPossibleBeginning) {
+        if (!indexed) {
+            if (count < INDEX_THRESHOLD)
+                return insertLinear(id, duration, earliestPossibleBeginning);
+            buildIndex();
+        }
+
+        int position = count;
+        int beginning = count == 0 ? 0 : ends[nodeAt(count - 1)];
+
+        // All operations beginning up to the earliest possible beginning are passed
+        int first = countStartsBefore(earliestPossibleBeginning + 1);
+        if (first < count) {
+            int firstNode = nodeAt(first);
+            int firstStart = starts[firstNode];
+            int firstBeginning = first == 0 ? 0 : ends[nodeAt(first - 1)];
+
+            int tempBeginning = firstBeginning;
+            if (earliestPossibleBeginning > firstBeginning && earliestPossibleBeginning < firstStart)
+                tempBeginning = earliestPossibleBeginning;
+
+            if (firstStart != firstBeginning && duration < firstStart - tempBeginning) {
+                position = first;
+                beginning = firstBeginning;
+            } else {
+                // Behind the first operation the earliest possible beginning lies before every gap,
+                // so the operation fits in front of the first operation with a bigger gap than its duration
+                int fitting = firstGapBiggerThan(root, 0, first + 1, duration);
+                if (fitting != NIL) {
+                    position = fitting;
+                    beginning = ends[nodeAt(fitting - 1)];
+                }
+            }
+        }
+
+        int startTime = Math.max(beginning, earliestPossibleBeginning);
+        insertAt(position, id, startTime, startTime + duration);
+        return position;
+    }
+
+    /**
+     * Append an operation at the end of the timeline without searching a gap
+     *
+     * @param id       The id of the operation
+     * @param start    The beginning of the operation
+     * @param duration The duration of the operation
+     */
+    public void append(int id, int start, int duration) {
+        if (!indexed && count < INDEX_THRESHOLD) {
+            insertPositional(count, id, start, start + duration);
+            return;
+        }
+        if (!indexed)
+            buildIndex();
+        insertAt(count, id, start, start + duration);
+    }
+
+    /**
+     * Get the beginning of the operation at {@code position} of the timeline
+     */
+    public int getStart(int position) {
+        return starts[node(position)];
+    }
+
+    /**
+     * Get the end of the operation at {@code position} of the timeline
+     */
+    public int getEnd(int position) {
+        return ends[node(position)];
+    }
+
+    /**
+     * Get the id of the operation at {@code position} of the timeline
+     */
+    public int getId(int position) {
+        return ids[node(position)];
+    }
+
+    /**
+     * Copy the ids of the operations in timeline order into {@code target}
+     *
+     * @param target The array to be filled, has to hold at least {@link #size()} elements
+     */
+    public void copyIds(int[] target) {
+        if (!indexed) {
+            System.arraycopy(ids, 0, target, 0, count);
+            return;
+        }
+
+        // Iterative in order traversal, the depth of the treap is bounded by its size
+        int[] stack = traversal;
+        int top = 0;
+        int node = root;
+        int position = 0;
+        while (node != NIL || top > 0) {
+            while (node != NIL) {
+                stack[top++] = node;
+                node = lefts[node];
+            }
+            node = stack[--top];
+            target[position++] = ids[node];
+            node = rights[node];
+        }
+    }
+
+    /**
+     * The linear scan for the first fitting gap on the position ordered arrays
+     */
+    private int insertLinear(int id, int duration, int earliestPossibleBeginning) {
+        int beginning = 0;
+        int position = 0;
+        for (; position < count; position++) {
+            int inListBeginning = starts[position];
+            // Check if current operation starts immediately
+            // or can't be preceded by the operation because of its earliest possible beginning
+            if (inListBeginning == beginning || earliestPossibleBeginning >= inListBeginning) {
+                beginning = ends[position];
+                continue;
+            }
+
+            int tempBeginning = beginning;
+            if (earliestPossibleBeginning > beginning && earliestPossibleBeginning < inListBeginning)
+                tempBeginning = earliestPossibleBeginning;
+
+            // Check if current operation fits in between current and prev
+            if (duration < inListBeginning - tempBeginning)
+                break;
+
+            beginning = ends[position];
+        }
+
+        int startTime = Math.max(beginning, earliestPossibleBeginning);
+        insertPositional(position, id, startTime, startTime + duration);
+        return position;
+    }
+
+    /**
+     * Insert into the position ordered arrays by shifting the following operations
+     */
+    private void insertPositional(int position, int id, int start, int end) {
+        if (count == ids.length)
+            grow();
+        int moved = count - position;
+        System.arraycopy(ids, position, ids, position + 1, moved);
+        System.arraycopy(starts, position, starts, position + 1, moved);
+        System.arraycopy(ends, position, ends, position + 1, moved);
+        ids[position] = id;
+        starts[position] = start;
+        ends[position] = end;
+        count++;
+    }
+
+    /**
+     * Build the treap over the position ordered arrays, the node of each operation is its position
+     */
+    private void buildIndex() {
+        root = NIL;
+        for (int node = 0; node < count; node++) {
+            gaps[node] = starts[node] - (node == 0 ? 0 : ends[node - 1]);
+            lefts[node] = NIL;
+            rights[node] = NIL;
+            priorities[node] = nextPriority();
+            update(node);
+            root = merge(root, node);
+        }
+        indexed = true;
+    }
+
+    private int node(int position) {
+        return indexed ? nodeAt(position) : position;
+    }
+
+    /**
+     * Count the operations that begin before {@code time}.
+     * The beginnings are ordered so this is the position of the first operation beginning at or after {@code time}
+     */
+    private int countStartsBefore(int time) {
+        int node = root;
+        int before = 0;
+        while (node != NIL) {
+            if (starts[node] < time) {
+                before += size(lefts[node]) + 1;
+                node = rights[node];
+            } else {
+                node = lefts[node];
+            }
+        }
+        return before;
+    }
+
+    /**
+     * Find the first position at or after {@code from} whose gap is bigger than {@code duration}
+     *
+     * @return The position or {@link #NIL} if there is none
+     */
+    private int firstGapBiggerThan(int node, int offset, int from, int duration) {
+        if (node == NIL || maxGaps[node] <= duration)
+            return NIL;
+        int position = offset + size(lefts[node]);
+        if (from < position) {
+            int inLeft = firstGapBiggerThan(lefts[node], offset, from, duration);
+            if (inLeft != NIL)
+                return inLeft;
+        }
+        if (position >= from && gaps[node] > duration)
+            return position;
+        return firstGapBiggerThan(rights[node], position + 1, from, duration);
+    }
+
+    /**
+     * Get the node at the position of the timeline
+     */
+    private int nodeAt(int position) {
+        int node = root;
+        while (true) {
+            int leftSize = size(lefts[node]);
+            if (position < leftSize) {
+                node = lefts[node];
+            } else if (position == leftSize) {
+                return node;
+            } else {
+                position -= leftSize + 1;
+                node = rights[node];
+            }
+        }
+    }
+
+    /**
+     * Insert a new node at the position and update the gap of its successor
+     */
+    private void insertAt(int position, int id, int start, int end) {
+        int previousEnd = position == 0 ? 0 : ends[nodeAt(position - 1)];
+        int node = newNode(id, start, end, start - previousEnd);
+
+        split(root, position);
+        int left = splitLeft;
+        split(splitRight, 1);
+        int successor = splitLeft;
+        int rest = splitRight;
+        if (successor != NIL) {
+            gaps[successor] = starts[successor] - end;
+            update(successor);
+        }
+        root = merge(merge(left, node), merge(successor, rest));
+    }
+
+    /**
+     * Split the subtree into the first {@code position} nodes and the rest
+     * The results are stored in {@link #splitLeft} and {@link #splitRight}
+     */
+    private void split(int node, int position) {
+        if (node == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        int leftSize = size(lefts[node]);
+        if (position <= leftSize) {
+            split(lefts[node], position);
+            lefts[node] = splitRight;
+            update(node);
+            splitRight = node;
+        } else {
+            split(rights[node], position - leftSize - 1);
+            rights[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        }
+    }
+
+    private int merge(int left, int right) {
+        if (left == NIL)
+            return right;
+        if (right == NIL)
+            return left;
+        if (priorities[left] > priorities[right]) {
+            rights[left] = merge(rights[left], right);
+            update(left);
+            return left;
+        }
+        lefts[right] = merge(left, lefts[right]);
+        update(right);
+        return right;
+    }
+
+    private void update(int node) {
+        int left = lefts[node];
+        int right = rights[node];
+        sizes[node] = 1 + size(left) + size(right);
+        int maxGap = gaps[node];
+        if (left != NIL && maxGaps[left] > maxGap)
+            maxGap = maxGaps[left];
+        if (right != NIL && maxGaps[right] > maxGap)
+            maxGap = maxGaps[right];
+        maxGaps[node] = maxGap;
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private int newNode(int id, int start, int end, int gap) {
+        if (count == ids.length)
+            grow();
+        int node = count++;
+        ids[node] = id;
+        starts[node] = start;
+        ends[node] = end;
+        gaps[node] = gap;
+        maxGaps[node] = gap;
+        sizes[node] = 1;
+        lefts[node] = NIL;
+        rights[node] = NIL;
+
+        priorities[node] = nextPriority();
+        return node;
+    }
+
+    /**
+     * Xorshift for the priorities, so the shape of the treap doesn't depend on a global random
+     */
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private void grow() {
+        int[][] old = {ids, starts, ends, gaps, maxGaps, sizes, priorities, lefts, rights};
+        allocate(ids.length * 2);
+        int[][] current = {ids, starts, ends, gaps, maxGaps, sizes, priorities, lefts, rights};
+        for (int i = 0; i < old.length; i++)
+            System.arraycopy(old[i], 0, current[i], 0, count);
+    }
+
+    private void allocate(int capacity) {
+        ids = new int[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+        gaps = new int[capacity];
+        maxGaps = new int[capacity];
+        sizes = new int[capacity];
+        priorities = new int[capacity];
+        lefts = new int[capacity];
+        rights = new int[capacity];
+        traversal = new int[capacity];
+    }
+}
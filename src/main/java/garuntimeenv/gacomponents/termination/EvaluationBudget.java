@@ -0,0 +1,34 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.interfaces.ITerminationCriterion;
+
+/**
+ * Terminates the run when the number of evaluated chromosomes reaches the budget
+ */
+public class EvaluationBudget implements ITerminationCriterion {
+
+    private final long budget;                  // The number of evaluations
+
+    /**
+     * Constructor for the evaluation budget
+     *
+     * @param budget The number of evaluations
+     */
+    public EvaluationBudget(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String checkTermination(RunState state) {
+        if (state.getEvaluations() < budget)
+            return null;
+        return "Evaluation budget of " + budget + " exhausted";
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+}
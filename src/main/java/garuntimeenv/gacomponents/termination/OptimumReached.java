@@ -0,0 +1,33 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.interfaces.ITerminationCriterion;
+
+/**
+ * Terminates the run when the best fitness reaches the lower bound of the problem instance
+ * Instances without a lower bound never terminate through this criterion
+ */
+public class OptimumReached implements ITerminationCriterion {
+
+    private double lowerBound = Double.NaN;     // Read from the problem properties at the start of a run
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.lowerBound = RunState.getLowerBound();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String checkTermination(RunState state) {
+        if (Double.isNaN(lowerBound) || Double.isNaN(state.getBestFitness()))
+            return null;
+        if (state.isBetter(lowerBound, state.getBestFitness()))
+            return null;
+        return "Optimum reached: " + RunState.formatFitness(state.getBestFitness()) + " in generation " +
+                state.getGeneration();
+    }
+}
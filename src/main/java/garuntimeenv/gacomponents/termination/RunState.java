@@ -0,0 +1,104 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.gacomponents.ProblemProperties;
+import garuntimeenv.interfaces.IFitnessFunction;
+
+/**
+ * State of a run of the genetic algorithm on which the termination criteria decide
+ * It is updated by the ga manager after the evaluation of each generation
+ */
+public class RunState {
+
+    private final IFitnessFunction fitnessFunction;
+
+    private int generation = -1;            // The last evaluated generation
+    private double bestFitness = Double.NaN;    // The best fitness found so far, NaN before the first generation
+    private long evaluations = 0;           // The number of evaluated chromosomes including cache hits
+    private long startTime = System.nanoTime();
+    private long pausedTime = 0;            // Nano seconds the run was paused
+
+    /**
+     * Constructor for the run state
+     *
+     * @param fitnessFunction The fitness function defining which fitness is better
+     */
+    public RunState(IFitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction;
+    }
+
+    /**
+     * Update the state after the evaluation of a generation
+     *
+     * @param generation          The evaluated generation
+     * @param bestFitness         The best fitness found so far
+     * @param evaluatedChromosome The number of chromosomes evaluated in the generation
+     */
+    public void update(int generation, double bestFitness, int evaluatedChromosome) {
+        this.generation = generation;
+        this.bestFitness = bestFitness;
+        this.evaluations += evaluatedChromosome;
+    }
+
+    /**
+     * Exclude the paused time from the elapsed time
+     *
+     * @param nanos The paused nano seconds
+     */
+    public void addPausedTime(long nanos) {
+        this.pausedTime += nanos;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Get the time since the start of the run without the paused time
+     *
+     * @return The elapsed milli seconds
+     */
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startTime - pausedTime) / 1_000_000;
+    }
+
+    public IFitnessFunction getFitnessFunction() {
+        return fitnessFunction;
+    }
+
+    /**
+     * Check if the first fitness is better than the second one
+     */
+    public boolean isBetter(double firstFitness, double secondFitness) {
+        return fitnessFunction.isBetterFitness(firstFitness, secondFitness);
+    }
+
+    /**
+     * Format a fitness for the termination reasons, whole numbers without a fraction
+     *
+     * @param fitness The fitness value
+     * @return The formatted fitness
+     */
+    public static String formatFitness(double fitness) {
+        return fitness == (long) fitness ? String.valueOf((long) fitness) : String.valueOf(fitness);
+    }
+
+    /**
+     * Get the lower bound of the loaded problem instance
+     *
+     * @return The lower bound or NaN if the instance doesn't define one
+     */
+    public static double getLowerBound() {
+        if (ProblemProperties.getINSTANCE().getProperty("lower_bound") == null)
+            return Double.NaN;
+        double lowerBound = ProblemProperties.getINSTANCE().getProperty("lower_bound").getAsDouble();
+        return lowerBound > 0 ? lowerBound : Double.NaN;
+    }
+}
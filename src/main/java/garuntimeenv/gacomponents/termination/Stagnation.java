@@ -0,0 +1,54 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.interfaces.ITerminationCriterion;
+
+/**
+ * Terminates the run when the best fitness didn't improve for a number of generations
+ */
+public class Stagnation implements ITerminationCriterion {
+
+    private final int window;                   // Generations without improvement until the run terminates
+
+    private double bestFitness = Double.NaN;    // Best fitness at the last improvement
+    private int lastImprovement = 0;            // Generation of the last improvement
+
+    /**
+     * Constructor for the stagnation criterion
+     *
+     * @param window The number of generations without improvement
+     */
+    public Stagnation(int window) {
+        this.window = window;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.bestFitness = Double.NaN;
+        this.lastImprovement = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String checkTermination(RunState state) {
+        double fitness = state.getBestFitness();
+        if (Double.isNaN(fitness))
+            return null;
+        if (Double.isNaN(bestFitness) || state.isBetter(fitness, bestFitness)) {
+            bestFitness = fitness;
+            lastImprovement = state.getGeneration();
+            return null;
+        }
+        if (state.getGeneration() - lastImprovement < window)
+            return null;
+        return "Stagnation: no improvement since generation " + lastImprovement;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+}
@@ -0,0 +1,48 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.interfaces.ITerminationCriterion;
+
+/**
+ * Terminates the run when the relative gap between the best fitness and the lower bound
+ * of the problem instance is at most the target gap
+ */
+public class TargetGap implements ITerminationCriterion {
+
+    private final double targetGap;             // The relative gap, 0.05 stops within 5% of the lower bound
+    private double lowerBound = Double.NaN;     // Read from the problem properties at the start of a run
+
+    /**
+     * Constructor for the target gap criterion
+     *
+     * @param targetGap The relative gap to the lower bound
+     */
+    public TargetGap(double targetGap) {
+        this.targetGap = targetGap;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.lowerBound = RunState.getLowerBound();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String checkTermination(RunState state) {
+        if (Double.isNaN(lowerBound) || Double.isNaN(state.getBestFitness()))
+            return null;
+        double gap = Math.abs(state.getBestFitness() - lowerBound) / lowerBound;
+        if (gap > targetGap)
+            return null;
+        return "Target gap reached: " + RunState.formatFitness(state.getBestFitness()) + " is within " + targetGap +
+                " of " + lowerBound;
+    }
+
+    public double getTargetGap() {
+        return targetGap;
+    }
+}
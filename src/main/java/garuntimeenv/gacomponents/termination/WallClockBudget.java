@@ -0,0 +1,36 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.interfaces.ITerminationCriterion;
+
+/**
+ * Terminates the run when the elapsed time without pauses exceeds the budget
+ * The check happens after each generation, so the run can exceed the budget by one generation
+ */
+public class WallClockBudget implements ITerminationCriterion {
+
+    private final long budgetMillis;            // The time budget in milli seconds
+
+    /**
+     * Constructor for the wall clock budget
+     *
+     * @param budgetMillis The time budget in milli seconds
+     */
+    public WallClockBudget(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String checkTermination(RunState state) {
+        long elapsed = state.getElapsedMillis();
+        if (elapsed < budgetMillis)
+            return null;
+        return "Wall clock budget of " + budgetMillis + " ms exhausted after " + elapsed + " ms";
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+}
@@ -2,6 +2,8 @@ package garuntimeenv.interfaces;
 
 import garuntimeenv.gacomponents.Chromosome;
 
+import java.util.SplittableRandom;
+
 /**
  * Interface for all crossover operators
  */
@@ -10,10 +12,24 @@ public interface CrossoverOperators extends Property {
     /**
      * Take to chromosomes as parent Chromosome and according to the
      * crossover strategy create an offspring
+     * The genes of the offspring should be written through {@link garuntimeenv.gacomponents.Genome#setGene(int, int)}
+     * into a new genome, so its fingerprint is built along the way, or be collected in an array that is handed over
+     * to {@link garuntimeenv.gacomponents.Genome#Genome(int[])} as a whole
      *
      * @param parent1 The first parent chromosome
      * @param parent2 The second parent chromosome
      * @return Offspring of the two parent chromosomes
      */
     Chromosome createOffspring(Chromosome parent1, Chromosome parent2);
+
+    /**
+     * Create an offspring like {@link #createOffspring(Chromosome, Chromosome)} but draw all random decisions
+     * from {@code random}, so the operator can be used by parallel tasks
+     *
+     * @param parent1 The first parent chromosome
+     * @param parent2 The second parent chromosome
+     * @param random  The random stream of the calling task
+     * @return Offspring of the two parent chromosomes
+     */
+    Chromosome createOffspring(Chromosome parent1, Chromosome parent2, SplittableRandom random);
 }
@@ -18,6 +18,17 @@ public interface IFitnessFunction<T extends Number> extends Comparator<Chromosom
      */
     <S extends ISolution> T calculateFitness(S solution);
 
+    /**
+     * Calculate the fitness of the given solution as primitive value
+     * Fitness functions with a primitive result should override this to skip the boxing.
+     *
+     * @param solution The solution of which the fitness shall be calculated
+     * @return The fitness value
+     */
+    default <S extends ISolution> double calculateFitnessAsDouble(S solution) {
+        return calculateFitness(solution).doubleValue();
+    }
+
     /**
      * Compare two fitness values and return true if the first value is better
      * @param firstFitness The first fitness value
@@ -36,9 +47,29 @@ public interface IFitnessFunction<T extends Number> extends Comparator<Chromosom
      */
     boolean isBetterSolution(Double firstFitness, Double secondFitness);
 
+    /**
+     * Compare two primitive fitness values and return true if the first value is better
+     * This is used in the generation loop, fitness functions should override it to compare without boxing.
+     *
+     * @param firstFitness  The first fitness value
+     * @param secondFitness The second fitness value
+     * @return True if the first is better then the second
+     */
+    default boolean isBetterFitness(double firstFitness, double secondFitness) {
+        return isBetterSolution(Double.valueOf(firstFitness), Double.valueOf(secondFitness));
+    }
+
     /**
      * Return the worst possible fitness
      * @return The worst possible fitness
      */
     T getWorstFitness();
+
+    /**
+     * Return the worst possible fitness as primitive value
+     * @return The worst possible fitness
+     */
+    default double getWorstFitnessAsDouble() {
+        return getWorstFitness().doubleValue();
+    }
 }
@@ -1,18 +1,59 @@
 package garuntimeenv.interfaces;
 
+import garuntimeenv.gacomponents.Genome;
+
+import java.util.SplittableRandom;
+
 /**
  * Interface defining the functionality of the mutation operators
  */
 public interface IMutation extends Property {
 
     /**
-     * Take the sub-chromosomes from the chromosome as String array and apply
-     * the mutation operator on each sub-chromosome.
-     * The Mutation operator should mutate in place.
+     * Apply the mutation operator on the sub-chromosome.
+     * The Mutation operator should mutate in place through the setters of the genome,
+     * so its fingerprint is updated for the changed genes only.
+     * All random decisions have to be drawn from {@code random}, so the operator can be used by parallel tasks.
+     * The genes in front of the returned position have to be unchanged, the decoding of the mutant resumes
+     * from the decoding of the parent up to there.
+     *
+     * @param genome The sub chromosome
+     * @param random The random stream of the calling task
+     * @return The first changed position or the length of the genome if nothing changed
+     */
+    int applySubMutation(Genome genome, SplittableRandom random);
+
+    /**
+     * Apply the mutation operator on the sub-chromosome with the random source of the operator
+     *
+     * @param genome The sub chromosome
+     */
+    void applySubMutation(Genome genome);
+
+    /**
+     * Take the sub-chromosome from the chromosome as int array and apply
+     * the mutation operator on it in place.
+     *
+     * @param chromosome The sub chromosome as int array
+     * @return The mutated sub chromosome
+     */
+    default int[] applySubMutation(int[] chromosome) {
+        applySubMutation(new Genome(chromosome));
+        return chromosome;
+    }
+
+    /**
+     * Adapter for the String representation of the sub-chromosome.
+     * The genes are converted into the int representation, mutated and written back in place.
      *
-     * @param chromosome The sub chromosomes as string array
-     * @return The mutated chromosomes
+     * @param chromosome The sub chromosome as string array
+     * @return The mutated sub chromosome
      */
-    String[] applySubMutation(String[] chromosome);
+    default String[] applySubMutation(String[] chromosome) {
+        int[] mutated = applySubMutation(Genome.toGenes(chromosome));
+        for (int i = 0; i < chromosome.length; i++)
+            chromosome[i] = String.valueOf(mutated[i]);
+        return chromosome;
+    }
 
 }
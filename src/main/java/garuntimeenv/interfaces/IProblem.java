@@ -11,6 +11,26 @@ public abstract class IProblem implements Cloneable {
      */
     protected abstract void initProblem();
 
+    /**
+     * Tells if the problem keeps no state while a chromosome gets decoded.
+     * A stateless problem can be shared by all decoding threads, otherwise each decoding needs its own clone.
+     *
+     * @return True if the problem can be shared while decoding
+     */
+    public boolean isStateless() {
+        return false;
+    }
+
+    /**
+     * Get the problem instance a decoding process shall work on
+     *
+     * @return This problem if it is stateless otherwise a clone of it
+     * @throws CloneNotSupportedException If the problem needs to be cloned but can't
+     */
+    public IProblem getDecodingInstance() throws CloneNotSupportedException {
+        return isStateless() ? this : (IProblem) clone();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -3,6 +3,8 @@ package garuntimeenv.interfaces;
 import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.runtimeexceptions.CannotRepairException;
 
+import java.util.SplittableRandom;
+
 /**
  * Interface for the problem representation classes
  * Is also an interchangeable property
@@ -16,6 +18,18 @@ public interface IProblemRepresentation extends Property {
      */
     <T extends IProblem> Chromosome createRandomRep(T problem);
 
+    /**
+     * Creates a random chromosome for the {@code problem} drawn from the given random stream
+     * The default ignores the stream and uses the random source of the representation
+     *
+     * @param problem The problem for which a chromosome shall be generated
+     * @param random  The random stream
+     * @return The random chromosome
+     */
+    default <T extends IProblem> Chromosome createRandomRep(T problem, SplittableRandom random) {
+        return createRandomRep(problem);
+    }
+
     /**
      * Decodes the chromosome {@code rep} into a solution of the given {@code problem}.
      *
@@ -26,6 +40,36 @@ public interface IProblemRepresentation extends Property {
      */
     ISolution createSolutionFromChromosome(Chromosome rep, IProblem problem) throws Exception;
 
+    /**
+     * Calculates the fitness of the chromosome {@code rep} without keeping the decoded solution.
+     * Representations which can evaluate the fitness function directly on their decoding state
+     * should override this to skip building the solution.
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param problem         The problem holding helper structures and constraints for the decoding
+     * @param fitnessFunction The fitness function to be used
+     * @return The fitness value of the decoded chromosome
+     * @throws Exception If the decoding process crashes something is wrong with the chromosome
+     */
+    default Number calculateFitness(Chromosome rep, IProblem problem, IFitnessFunction fitnessFunction) throws Exception {
+        return fitnessFunction.calculateFitness(createSolutionFromChromosome(rep, problem));
+    }
+
+    /**
+     * Calculates the fitness of the chromosome {@code rep} as primitive value without keeping the decoded solution.
+     * Representations which can evaluate the fitness function directly on their decoding state
+     * should override this like {@link #calculateFitness(Chromosome, IProblem, IFitnessFunction)}.
+     *
+     * @param rep             The chromosome to be evaluated
+     * @param problem         The problem holding helper structures and constraints for the decoding
+     * @param fitnessFunction The fitness function to be used
+     * @return The fitness value of the decoded chromosome
+     * @throws Exception If the decoding process crashes something is wrong with the chromosome
+     */
+    default double calculateFitnessAsDouble(Chromosome rep, IProblem problem, IFitnessFunction fitnessFunction) throws Exception {
+        return fitnessFunction.calculateFitnessAsDouble(createSolutionFromChromosome(rep, problem));
+    }
+
     /**
      * Repairs a broken chromosome to be normally repaired
      *
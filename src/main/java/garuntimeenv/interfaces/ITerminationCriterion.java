@@ -0,0 +1,24 @@
+package garuntimeenv.interfaces;
+
+import garuntimeenv.gacomponents.termination.RunState;
+
+/**
+ * Interface defining a criterion that ends a run of the genetic algorithm before the generation limit
+ * The criteria are checked after the evaluation of each generation, so the check has to be cheap
+ */
+public interface ITerminationCriterion extends Property {
+
+    /**
+     * Reset the state of the criterion at the start of a run
+     */
+    default void reset() {
+    }
+
+    /**
+     * Check if the run shall be terminated
+     *
+     * @param state The state of the run after the evaluation of the current generation
+     * @return The reason for the termination or null if the run shall continue
+     */
+    String checkTermination(RunState state);
+}
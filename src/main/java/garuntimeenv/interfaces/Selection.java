@@ -2,6 +2,8 @@ package garuntimeenv.interfaces;
 
 import garuntimeenv.gacomponents.Chromosome;
 
+import java.util.SplittableRandom;
+
 /**
  * Interface defining the functionality's of each selection algorithm
  */
@@ -13,6 +15,22 @@ public interface Selection extends Property {
      */
     Chromosome getNextChromosome();
 
+    /**
+     * Get the next chromosome with the random decisions drawn from {@code random}
+     * Implementations have to be safe for concurrent calls between two calls of {@link #addNewPopulation}
+     *
+     * @param random The random stream of the calling task
+     * @return The next chromosome
+     */
+    Chromosome getNextChromosome(SplittableRandom random);
+
+    /**
+     * Create a new selection of the same kind and with the same parameters that doesn't share any state with this one
+     *
+     * @return The new selection
+     */
+    Selection newInstance();
+
     /**
      * Add a new population to the selection object from which shall be selected
      *
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Util class containing static helper functions
@@ -108,4 +109,19 @@ public class Utils {
         return new Pair<>(selected, other);
     }
 
+    /**
+     * Return the two objects in random order drawn from the given random stream
+     *
+     * @param first  The first object
+     * @param second The second object
+     * @param random The random stream
+     * @param <T>    Any object
+     * @return A pair in which the order of key value is random
+     */
+    public static <T> Pair<T, T> getRandomObject(T first, T second, SplittableRandom random) {
+        T selected = random.nextDouble() > 0.5 ? first : second;
+        T other = selected == first ? second : first;
+        return new Pair<>(selected, other);
+    }
+
 }
@@ -0,0 +1,48 @@
+package garuntimeenv.benchmarks;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Helper functions for the benchmarks
+ * The benchmarks are skipped in the normal test run and only executed with {@code mvn test -Dbenchmark=true}
+ */
+public class BenchmarkHelper {
+
+    private static final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Skip the calling test if the benchmark property isn't set
+     */
+    public static void assumeBenchmarksEnabled() {
+        Assume.assumeTrue("Benchmarks are only run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+    }
+
+    /**
+     * Get the amount of bytes allocated by the current thread so far
+     *
+     * @return The allocated bytes
+     */
+    public static long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Print a formatted result line of a benchmark
+     *
+     * @param benchmark The name of the benchmark
+     * @param mode      The benchmarked mode
+     * @param values    The measured values as alternating name value pairs
+     */
+    public static void printResult(String benchmark, String mode, Object... values) {
+        StringBuilder line = new StringBuilder(String.format("[%s] %-28s", benchmark, mode));
+        for (int i = 0; i + 1 < values.length; i += 2) {
+            Object value = values[i + 1];
+            String formatted = value instanceof Double ? String.format("%.2f", (Double) value) : String.valueOf(value);
+            line.append(String.format(" %s: %s", values[i], formatted));
+        }
+        System.out.println(line);
+    }
+}
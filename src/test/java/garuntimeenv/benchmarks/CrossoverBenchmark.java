@@ -0,0 +1,143 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.GAManager;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.geneticoperators.crossover.GOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.JOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.OX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.PMX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.PPX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.ReferenceCrossovers;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.termination.RunState;
+import garuntimeenv.gacomponents.termination.TargetGap;
+import garuntimeenv.interfaces.CrossoverOperators;
+import garuntimeenv.interfaces.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.SplittableRandom;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.allocatedBytes;
+import static garuntimeenv.benchmarks.BenchmarkHelper.assumeBenchmarksEnabled;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Benchmarks of the crossover operators
+ * The kernels on primitive arrays are compared with the map and set based implementations, each offspring consists
+ * of ten sub genomes with the given amount of genes. The job shop operators are compared with LOX by the time the
+ * genetic algorithm needs to reach a target makespan on the bundled instances.
+ */
+public class CrossoverBenchmark {
+
+    private static final int[] lengths = {10, 100, 1000};
+    private static final int subGenomes = 10;
+    private static final int offspringGenes = 20_000_000;
+
+    private static final int[] instances = {0, 1};
+    private static final double[] targetGaps = {0, 0.2};  // Relative gap of the target to the lower bound
+    private static final long budgetMillis = 10_000;
+    private static final int runs = 5;
+
+    @Before
+    public void setUp() {
+        assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void timeToTarget() {
+        CrossoverOperators[] operators = {new LOX(), new JOX(), new GOX(), new PPX()};
+        for (int instance = 0; instance < instances.length; instance++) {
+            JobShopProblem problem = SetupHelper.getJobShopProblem(instances[instance]);
+            double target = RunState.getLowerBound() * (1 + targetGaps[instance]);
+            for (CrossoverOperators operator : operators) {
+                double totalMillis = 0;
+                double totalBest = 0;
+                int reached = 0;
+                for (long seed = 0; seed < runs; seed++) {
+                    Config config = new Config();
+                    config.setSeed(seed);
+                    config.setFitnessCacheSize(0);
+                    config.setCrossoverOperators(Collections.singletonList(operator));
+                    config.addTerminationCriterion(new TargetGap(targetGaps[instance]));
+                    DataManager.getInstance().createNewDataSeries("Crossover Benchmark", config, new Property() {
+                    });
+
+                    long startTime = System.nanoTime();
+                    long[] reachedTime = {-1};
+                    Chromosome best = new GAManager(problem, config).solve(budgetMillis, improvement -> {
+                        if (reachedTime[0] < 0 && improvement.getFitnessAsDouble() <= target)
+                            reachedTime[0] = System.nanoTime();
+                    });
+                    totalBest += best.getFitnessAsDouble();
+                    // Runs missing the target count with the whole budget
+                    if (reachedTime[0] >= 0) {
+                        reached++;
+                        totalMillis += (reachedTime[0] - startTime) / 1e6;
+                    } else {
+                        totalMillis += budgetMillis;
+                    }
+                }
+                printResult("Crossover", operator.getClass().getSimpleName() + " instance " + instances[instance],
+                        "target", target, "reached", reached + "/" + runs, "ms to target", totalMillis / runs, "mean best", totalBest / runs);
+            }
+        }
+    }
+
+    @Test
+    public void referenceAndKernel() {
+        for (int length : lengths) {
+            Chromosome p1 = randomChromosome(length, new SplittableRandom(1));
+            Chromosome p2 = randomChromosome(length, new SplittableRandom(2));
+            int offspring = offspringGenes / (length * subGenomes);
+
+            run("LOX reference " + length, ReferenceCrossovers::lox, p1, p2, offspring);
+            run("LOX " + length, new LOX()::createOffspring, p1, p2, offspring);
+            run("PMX reference " + length, ReferenceCrossovers::pmx, p1, p2, offspring);
+            run("PMX " + length, new PMX()::createOffspring, p1, p2, offspring);
+            run("OX reference " + length, ReferenceCrossovers::ox, p1, p2, offspring);
+            run("OX " + length, new OX()::createOffspring, p1, p2, offspring);
+        }
+    }
+
+    private interface SeededCrossover {
+        Chromosome createOffspring(Chromosome p1, Chromosome p2, SplittableRandom random);
+    }
+
+    private static void run(String mode, SeededCrossover crossover, Chromosome p1, Chromosome p2, int offspring) {
+        for (int warmUp = 0; warmUp < 3; warmUp++) {
+            SplittableRandom random = new SplittableRandom(7);
+            long checksum = 0;
+            long startBytes = allocatedBytes();
+            long startTime = System.nanoTime();
+            for (int i = 0; i < offspring; i++)
+                checksum += crossover.createOffspring(p1, p2, random).getGenome()[0].getGenes()[0];
+            double nanos = (System.nanoTime() - startTime) / (double) offspring;
+            double bytes = (allocatedBytes() - startBytes) / (double) offspring;
+
+            printResult("Crossover", mode, "ns/offspring", nanos, "bytes/offspring", bytes, "checksum", checksum);
+        }
+    }
+
+    private static Chromosome randomChromosome(int length, SplittableRandom random) {
+        Genome[] genomes = new Genome[subGenomes];
+        for (int g = 0; g < subGenomes; g++) {
+            int[] genes = new int[length];
+            for (int i = 0; i < length; i++) {
+                int j = random.nextInt(i + 1);
+                genes[i] = genes[j];
+                genes[j] = i;
+            }
+            genomes[g] = new Genome(genes);
+        }
+        return new Chromosome(genomes);
+    }
+}
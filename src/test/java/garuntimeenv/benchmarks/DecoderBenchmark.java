@@ -0,0 +1,197 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.Population;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InsertionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InversionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.Mutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.JobShopGifflerThompsonRep;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import garuntimeenv.gacomponents.jobshop.ReferenceDecoder;
+import garuntimeenv.interfaces.IProblem;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.allocatedBytes;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Compares the list based decoding with the scratch array decoder of the preference list representation
+ * and with the makespan only evaluation that doesn't build the schedule. The semi active decoding of the preference
+ * lists is compared with the active schedules of the Giffler Thompson decoding.
+ * The problem is cloned once and reset before each list decoding, so only the allocations of the decoding
+ * itself are measured.
+ */
+public class DecoderBenchmark {
+
+    private static final int populationSize = 200;
+    private static final int rounds = 100;
+
+    @Before
+    public void setUp() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void compareDecoders() throws Exception {
+        JobShopProblem problem = (JobShopProblem) SetupHelper.getJobShopProblem(1).clone();
+        Chromosome[] chromosomes = SetupHelper.getJSSPPopulation(populationSize, 1).getChromosomes();
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long startBytes = allocatedBytes();
+            long startTime = System.nanoTime();
+            for (int r = 0; r < rounds; r++)
+                for (Chromosome chromosome : chromosomes) {
+                    problem.getJobs().forEach(job -> job.getOperations().forEach(op -> op.setScheduled(false)));
+                    ReferenceDecoder.decode(chromosome, problem);
+                }
+            report("list decoder", startTime, startBytes);
+
+            startBytes = allocatedBytes();
+            startTime = System.nanoTime();
+            for (int r = 0; r < rounds; r++)
+                for (Chromosome chromosome : chromosomes)
+                    rep.createSolutionFromChromosome(chromosome, (IProblem) problem);
+            report("scratch decoder", startTime, startBytes);
+
+            startBytes = allocatedBytes();
+            startTime = System.nanoTime();
+            for (int r = 0; r < rounds; r++)
+                for (Chromosome chromosome : chromosomes)
+                    rep.calculateFitness(chromosome, problem, fitnessFunction);
+            report("makespan only", startTime, startBytes);
+        }
+    }
+
+    /**
+     * Evaluation of mutants resuming from the decoding of their parent compared to the full decoding,
+     * for different probabilities of a sub genome to mutate. Each round evaluates fresh mutants once through
+     * {@link Chromosome#evaluate} like the engine does. The full mode decodes the mutants of parents without a trace,
+     * the delta mode resumes from the traces the parents kept from their evaluation and keeps the trace of the
+     * mutant like the engine with delta evaluation. With delta evaluation every evaluation keeps its trace,
+     * the traced mode shows the cost of that for chromosomes that aren't mutants.
+     */
+    @Test
+    public void deltaEvaluation() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Chromosome[] parents = SetupHelper.getJSSPPopulation(populationSize, 1).getChromosomes();
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (boolean traced : new boolean[]{false, true}) {
+                long time = 0;
+                long bytes = 0;
+                for (int r = 0; r < rounds; r++) {
+                    Chromosome[] copies = new Chromosome[populationSize];
+                    for (int i = 0; i < populationSize; i++) {
+                        copies[i] = new Chromosome(parents[i].getGenome());
+                        if (traced)
+                            copies[i].requestDecodingTrace();
+                    }
+                    long startBytes = allocatedBytes();
+                    long startTime = System.nanoTime();
+                    for (Chromosome copy : copies)
+                        copy.evaluate(rep, problem, fitnessFunction);
+                    time += System.nanoTime() - startTime;
+                    bytes += allocatedBytes() - startBytes;
+                }
+                reportTotal(traced ? "evaluation traced" : "evaluation", time, bytes);
+            }
+        }
+
+        for (Chromosome parent : parents) {
+            parent.requestDecodingTrace();
+            parent.evaluate(rep, problem, fitnessFunction);
+        }
+        Object[] traces = new Object[populationSize];
+        for (int i = 0; i < populationSize; i++)
+            traces[i] = parents[i].getDecodingTrace();
+
+        Config config = new Config();
+        SplittableRandom random = new SplittableRandom(5);
+        for (Mutation mutation : new Mutation[]{new SwapMutation(), new InsertionMutation(), new InversionMutation()}) {
+            for (double probability : new double[]{0.4, 0.1, 0.02}) {
+                config.setSubGenomeMutationProbability(probability);
+                String name = mutation.getClass().getSimpleName() + " " + probability;
+                for (int warmUp = 0; warmUp < 2; warmUp++) {
+                    for (boolean delta : new boolean[]{false, true}) {
+                        for (int i = 0; i < populationSize; i++)
+                            parents[i].setDecodingTrace(delta ? traces[i] : null);
+                        long time = 0;
+                        long bytes = 0;
+                        for (int r = 0; r < rounds; r++) {
+                            Chromosome[] mutants = new Chromosome[populationSize];
+                            for (int i = 0; i < populationSize; i++) {
+                                mutants[i] = mutation.applyMutation(parents[i], random);
+                                if (delta)
+                                    mutants[i].requestDecodingTrace();
+                            }
+                            long startBytes = allocatedBytes();
+                            long startTime = System.nanoTime();
+                            for (Chromosome mutant : mutants)
+                                mutant.evaluate(rep, problem, fitnessFunction);
+                            time += System.nanoTime() - startTime;
+                            bytes += allocatedBytes() - startBytes;
+                        }
+                        reportTotal(name + (delta ? " delta" : " full"), time, bytes);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Decoding speed and mean makespan of the semi active and the active decoding of the same chromosomes
+     */
+    @Test
+    public void compareRepresentations() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Chromosome[] chromosomes = SetupHelper.getJSSPPopulation(populationSize, 1).getChromosomes();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+        for (JobShopPreferenceListRep rep : new JobShopPreferenceListRep[]{new JobShopPreferenceListRep(), new JobShopGifflerThompsonRep()}) {
+            double makespan = 0;
+            for (Chromosome chromosome : chromosomes)
+                makespan += rep.calculateFitnessAsDouble(new Chromosome(chromosome.getGenome()), problem, fitnessFunction);
+            printResult("Decoder", rep + " mean makespan", "makespan", makespan / populationSize);
+
+            for (int warmUp = 0; warmUp < 2; warmUp++) {
+                long startBytes = allocatedBytes();
+                long startTime = System.nanoTime();
+                for (int r = 0; r < rounds; r++)
+                    for (Chromosome chromosome : chromosomes)
+                        rep.createSolutionFromChromosome(chromosome, problem);
+                report(rep + " schedule", startTime, startBytes);
+
+                startBytes = allocatedBytes();
+                startTime = System.nanoTime();
+                for (int r = 0; r < rounds; r++)
+                    for (Chromosome chromosome : chromosomes)
+                        rep.calculateFitnessAsDouble(chromosome, problem, fitnessFunction);
+                report(rep + " makespan only", startTime, startBytes);
+            }
+        }
+    }
+
+    private void report(String mode, long startTime, long startBytes) {
+        reportTotal(mode, System.nanoTime() - startTime, allocatedBytes() - startBytes);
+    }
+
+    private void reportTotal(String mode, long nanos, long bytes) {
+        printResult("Decoder", mode,
+                "decodes/s", populationSize * rounds / (nanos / 1e9),
+                "bytes/decode", bytes / (double) (populationSize * rounds));
+    }
+}
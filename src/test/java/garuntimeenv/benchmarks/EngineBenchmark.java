@@ -0,0 +1,92 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.GAManager;
+import garuntimeenv.gacomponents.SteadyStateGA;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.interfaces.Property;
+import org.junit.Before;
+import org.junit.Test;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Compares the evaluation throughput of the generational loop with the steady state engine
+ * for an increasing number of threads. The fitness cache is disabled, so every evaluation decodes.
+ */
+public class EngineBenchmark {
+
+    private static final int populationSize = 200;
+    private static final int generations = 100;
+
+    @Before
+    public void setUp() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void steadyStateThroughput() {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        int processors = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+            for (int warmUp = 0; warmUp < 2; warmUp++) {
+                Config config = createConfig(parallelism);
+                DataManager.getInstance().createNewDataSeries("Engine Benchmark", config, new Property() {
+                });
+                TestManager.getInstance().setGenerationLimit(generations);
+                long startTime = System.nanoTime();
+                new GAManager(problem, config).startEnvironment();
+                double seconds = (System.nanoTime() - startTime) / 1e9;
+                printResult("Engine", "generational " + parallelism + " threads",
+                        "evaluations/s", populationSize * generations / seconds);
+
+                SteadyStateGA steadyState = new SteadyStateGA(problem, createConfig(parallelism));
+                steadyState.run(populationSize * generations);
+                printResult("Engine", "steady state " + parallelism + " threads",
+                        "evaluations/s", steadyState.getEvaluationsPerSecond(),
+                        "best", steadyState.getBestChromosome().getFitness());
+            }
+        }
+    }
+
+    /**
+     * Latency of a generation when the offsprings are evaluated while breeding compared to the barrier between
+     * breeding and evaluation
+     */
+    @Test
+    public void pipelinedLatency() {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        int processors = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+            for (int warmUp = 0; warmUp < 2; warmUp++) {
+                for (boolean pipelined : new boolean[]{false, true}) {
+                    Config config = createConfig(parallelism);
+                    config.setPipelined(pipelined);
+                    DataManager.getInstance().createNewDataSeries("Engine Benchmark", config, new Property() {
+                    });
+                    TestManager.getInstance().setGenerationLimit(generations);
+                    long startTime = System.nanoTime();
+                    new GAManager(problem, config).startEnvironment();
+                    double millis = (System.nanoTime() - startTime) / 1e6;
+                    printResult("Engine", (pipelined ? "pipelined " : "barrier ") + parallelism + " threads",
+                            "ms/generation", millis / generations);
+                }
+            }
+        }
+    }
+
+    private static Config createConfig(int parallelism) {
+        Config config = new Config();
+        config.setPopulationSize(populationSize);
+        config.setParallelism(parallelism);
+        config.setFitnessCacheSize(0);
+        return config;
+    }
+}
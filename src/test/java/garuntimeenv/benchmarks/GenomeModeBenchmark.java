@@ -0,0 +1,150 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.Population;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.JobShopSolution;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import garuntimeenv.gacomponents.jobshop.util.Job;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
+import garuntimeenv.interfaces.IProblem;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.allocatedBytes;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Compares the String genome representation with the primitive int genome representation.
+ * One generation mutates each chromosome of the population and decodes it into its makespan.
+ */
+public class GenomeModeBenchmark {
+
+    private static final int populationSize = 200;
+    private static final int warmUpGenerations = 30;
+    private static final int generations = 100;
+    private static final double subGenomeMutationProbability = 0.4;
+
+    private final MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+    private final JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+    private final SwapMutation mutation = new SwapMutation();
+
+    @Before
+    public void setUp() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void compareGenomeModes() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Population population = SetupHelper.getJSSPPopulation(populationSize, 1);
+
+        List<String[][]> stringPopulation = new ArrayList<>();
+        for (Chromosome chromosome : population.getChromosomes()) {
+            String[][] genomes = new String[chromosome.getGenome().length][];
+            for (int i = 0; i < genomes.length; i++)
+                genomes[i] = chromosome.getGenome()[i].getString();
+            stringPopulation.add(genomes);
+        }
+
+        runStringGenerations(stringPopulation, problem, warmUpGenerations);
+        long startBytes = allocatedBytes();
+        long startTime = System.nanoTime();
+        runStringGenerations(stringPopulation, problem, generations);
+        report("String genome", startTime, startBytes);
+
+        runIntGenerations(population, problem, warmUpGenerations);
+        startBytes = allocatedBytes();
+        startTime = System.nanoTime();
+        runIntGenerations(population, problem, generations);
+        report("int genome", startTime, startBytes);
+    }
+
+    private void report(String mode, long startTime, long startBytes) {
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        long bytes = allocatedBytes() - startBytes;
+        printResult("GenomeMode", mode,
+                "evaluations/s", populationSize * generations / seconds,
+                "KiB/generation", bytes / 1024. / generations);
+    }
+
+    private void runIntGenerations(Population population, JobShopProblem problem, int generations) throws Exception {
+        for (int g = 0; g < generations; g++) {
+            for (Chromosome chromosome : population.getChromosomes()) {
+                Chromosome offspring = mutation.applyMutation(chromosome);
+                offspring.setCorrespondingSolution(rep.createSolutionFromChromosome(offspring, (IProblem) problem.clone()));
+                offspring.calculateFitness(fitnessFunction);
+            }
+        }
+    }
+
+    private void runStringGenerations(List<String[][]> population, JobShopProblem problem, int generations) throws Exception {
+        Random rand = new Random(42);
+        for (int g = 0; g < generations; g++) {
+            for (String[][] chromosome : population) {
+                String[][] offspring = new String[chromosome.length][];
+                for (int i = 0; i < chromosome.length; i++) {
+                    offspring[i] = chromosome[i].clone();
+                    if (rand.nextDouble() < subGenomeMutationProbability) {
+                        int first = rand.nextInt(offspring[i].length);
+                        int second = rand.nextInt(offspring[i].length);
+                        String temp = offspring[i][first];
+                        offspring[i][first] = offspring[i][second];
+                        offspring[i][second] = temp;
+                    }
+                }
+                fitnessFunction.calculateFitness(decodeStringGenomes(offspring, (JobShopProblem) problem.clone()));
+            }
+        }
+    }
+
+    /**
+     * The decoding of the preference list representation as it was done on String genomes
+     */
+    private JobShopSolution decodeStringGenomes(String[][] genomes, JobShopProblem problem) {
+        JobShopSolution solution = new JobShopSolution(problem.getNr_machines());
+        List<String>[] chromosome = new ArrayList[genomes.length];
+        for (int i = 0; i < genomes.length; i++)
+            chromosome[i] = new ArrayList<>(Arrays.asList(genomes[i]));
+
+        int tempCounter = 0;
+        boolean allScheduled;
+        do {
+            int skipPosition = tempCounter / problem.getNr_machines();
+            allScheduled = true;
+            List<Operation> scheduledOperation = new ArrayList<>();
+            for (int i = 0; i < chromosome.length; i++) {
+                if (chromosome[i].isEmpty() || skipPosition >= chromosome[i].size())
+                    continue;
+                Job currentJob = problem.getJobById(Integer.parseInt(chromosome[i].get(skipPosition)));
+                Operation toBeScheduledOperation = currentJob.getOperationOfMachine(i);
+                if (toBeScheduledOperation.getPriorOperation() != null &&
+                        !toBeScheduledOperation.getPriorOperation().isScheduled()) {
+                    tempCounter++;
+                    allScheduled = false;
+                    continue;
+                }
+                solution.getMachine(i).insertOperationFirstFitting(toBeScheduledOperation);
+                scheduledOperation.add(toBeScheduledOperation);
+                chromosome[i].remove(skipPosition);
+                tempCounter = 0;
+                if (!chromosome[i].isEmpty())
+                    allScheduled = false;
+            }
+            for (Operation op : scheduledOperation)
+                op.setScheduled(true);
+        } while (!allScheduled);
+        return solution;
+    }
+}
@@ -0,0 +1,110 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.GenomeDistance;
+import garuntimeenv.gacomponents.HallOfFame;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.assumeBenchmarksEnabled;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Benchmark inserting into and drawing from the hall of fame at different sizes
+ * The candidates are improving slowly like the chromosomes of a run, so most insertions evict a member
+ */
+public class HallOfFameBenchmark {
+
+    private static final int[] sizes = {300, 10_000, 100_000};
+    private static final int insertions = 1_000_000;
+
+    @Before
+    public void setUp() {
+        assumeBenchmarksEnabled();
+    }
+
+    @Test
+    public void insertAndDraw() {
+        SplittableRandom random = new SplittableRandom(7);
+        Chromosome[] candidates = new Chromosome[insertions];
+        for (int i = 0; i < insertions; i++) {
+            candidates[i] = new Chromosome(new Genome[]{new Genome(new int[]{i, i >>> 8, i >>> 16})});
+            candidates[i].setFitness(2_000_000 - i + random.nextInt(200_000));
+        }
+
+        for (int size : sizes) {
+            for (int warmUp = 0; warmUp < 2; warmUp++) {
+                HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), size);
+                int added = 0;
+                long startTime = System.nanoTime();
+                for (Chromosome candidate : candidates)
+                    if (hallOfFame.addChromosome(candidate))
+                        added++;
+                double insertNanos = (System.nanoTime() - startTime) / (double) insertions;
+
+                long checksum = 0;
+                startTime = System.nanoTime();
+                for (int i = 0; i < insertions; i++)
+                    checksum += hallOfFame.getRandomChromosome(random).getFitness().intValue();
+                double drawNanos = (System.nanoTime() - startTime) / (double) insertions;
+
+                HallOfFame concurrent = new HallOfFame(new MakespanFitnessFunction(), size);
+                startTime = System.nanoTime();
+                IntStream.range(0, insertions).parallel().forEach(i -> concurrent.addChromosome(candidates[i]));
+                double concurrentNanos = (System.nanoTime() - startTime) / (double) insertions;
+
+                startTime = System.nanoTime();
+                concurrent.sortMembers();
+                double sortMicros = (System.nanoTime() - startTime) / 1e3;
+
+                printResult("HallOfFame", "size " + size, "ns/insert", insertNanos,
+                        "ns/concurrent insert", concurrentNanos, "ns/draw", drawNanos,
+                        "us/sort", sortMicros, "added", added, "checksum", checksum);
+            }
+        }
+    }
+
+    /**
+     * Insertions into a hall of fame keeping a minimum distance between its members
+     */
+    @Test
+    public void diverseInsert() {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        SplittableRandom random = new SplittableRandom(7);
+        Chromosome[] candidates = new Chromosome[5000];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = rep.createRandomRep(problem, random);
+            candidates[i].setFitness(40_000 - 8 * i + random.nextInt(4000));
+        }
+
+        for (int size : new int[]{300, 1000, 2000}) {
+            for (GenomeDistance distance : GenomeDistance.values()) {
+                for (int minDistance : new int[]{0, 20, 100}) {
+                    // Warm up the distance kernel
+                    HallOfFame warmUp = new HallOfFame(new MakespanFitnessFunction(), size, distance, minDistance);
+                    for (int i = 0; i < 1000; i++)
+                        warmUp.addChromosome(candidates[i]);
+
+                    HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), size, distance, minDistance);
+                    long startTime = System.nanoTime();
+                    int added = 0;
+                    for (Chromosome candidate : candidates)
+                        if (hallOfFame.addChromosome(candidate))
+                            added++;
+                    double insertMicros = (System.nanoTime() - startTime) / 1e3 / candidates.length;
+                    printResult("HallOfFame", "size " + size + " " + distance + " " + minDistance,
+                            "us/insert", insertMicros, "added", added);
+                }
+            }
+        }
+    }
+}
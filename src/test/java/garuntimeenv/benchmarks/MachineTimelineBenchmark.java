@@ -0,0 +1,97 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.gacomponents.jobshop.ReferenceDecoder;
+import garuntimeenv.gacomponents.jobshop.util.Job;
+import garuntimeenv.gacomponents.jobshop.util.MachineTimeline;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Compares the linear gap search over the linked operation list of a machine with the indexed machine timeline
+ * for 100, 500 and 2000 jobs per machine.
+ * Each job puts one operation onto the machine, its prior operation ends somewhere within the current schedule.
+ */
+public class MachineTimelineBenchmark {
+
+    private static final int[] jobsPerMachine = {100, 500, 2000};
+    private static final int machines = 200;
+
+    @Before
+    public void setUp() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+    }
+
+    @Test
+    public void compareTimelines() {
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (int jobs : jobsPerMachine) {
+                int[][] durations = new int[machines][jobs];
+                int[][] earliest = new int[machines][jobs];
+                createWorkload(jobs, durations, earliest);
+
+                long startTime = System.nanoTime();
+                long checksum = 0;
+                for (int m = 0; m < machines; m++) {
+                    List<Operation> operations = new LinkedList<>();
+                    for (int j = 0; j < jobs; j++) {
+                        Operation op = createOperation(earliest[m][j], durations[m][j]);
+                        ReferenceDecoder.insertFirstFittingLinear(operations, op);
+                        checksum += op.getBeginning();
+                    }
+                }
+                report("linked list " + jobs, jobs, startTime, checksum);
+
+                startTime = System.nanoTime();
+                checksum = 0;
+                MachineTimeline timeline = new MachineTimeline(jobs);
+                for (int m = 0; m < machines; m++) {
+                    timeline.clear();
+                    for (int j = 0; j < jobs; j++)
+                        checksum += timeline.getStart(timeline.insertFirstFitting(j, durations[m][j], earliest[m][j]));
+                }
+                report("timeline " + jobs, jobs, startTime, checksum);
+            }
+        }
+    }
+
+    /**
+     * Draw the durations and the end of the prior operation, the prior operations end within the schedule so far
+     */
+    private static void createWorkload(int jobs, int[][] durations, int[][] earliest) {
+        Random random = new Random(42);
+        for (int m = 0; m < machines; m++) {
+            int horizon = 1;
+            for (int j = 0; j < jobs; j++) {
+                durations[m][j] = 1 + random.nextInt(99);
+                earliest[m][j] = random.nextInt(horizon);
+                horizon += durations[m][j];
+            }
+        }
+    }
+
+    /**
+     * Create the second operation of a job whose first operation ends at {@code priorEnd}
+     */
+    private static Operation createOperation(int priorEnd, int duration) {
+        Job job = new Job(0);
+        Operation prior = new Operation(job, 0, priorEnd, 1, 0);
+        Operation op = new Operation(job, 1, duration, 0);
+        job.setOperations(new Operation[]{prior, op});
+        return op;
+    }
+
+    private void report(String mode, int jobs, long startTime, long checksum) {
+        double millis = (System.nanoTime() - startTime) / 1e6;
+        printResult("MachineTimeline", mode,
+                "ms/machine", millis / machines,
+                "ns/insert", millis * 1e6 / ((double) machines * jobs),
+                "checksum", checksum);
+    }
+}
@@ -0,0 +1,105 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.allocatedBytes;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Heap of the populations per generation for large populations
+ * Each generation consists of one evaluated mutant of every chromosome of the previous generation. The mutants
+ * either share their unchanged genomes with their parents or get a copy of every genome. Like the
+ * {@link garuntimeenv.gacomponents.GAManager} all generations are kept and the decoding traces of the parents are
+ * dropped once the mutants are evaluated, the retained heap is measured after each generation.
+ */
+public class MemoryBenchmark {
+
+    private static final int[] populationSizes = {5_000, 20_000};
+    private static final int generations = 5;
+
+    private final JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+    private final MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+    private final SwapMutation mutation = new SwapMutation();
+
+    @Before
+    public void setUp() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void heapPerGeneration() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        new Config();
+
+        for (int size : populationSizes) {
+            for (boolean copyAll : new boolean[]{true, false}) {
+                SplittableRandom random = new SplittableRandom(3);
+                long emptyHeap = usedHeap();
+                List<Chromosome[]> history = new ArrayList<>();
+                Chromosome[] population = new Chromosome[size];
+                for (int i = 0; i < size; i++) {
+                    population[i] = rep.createRandomRep(problem, random);
+                    population[i].evaluate(rep, problem, fitnessFunction);
+                }
+
+                for (int g = 0; g < generations; g++) {
+                    long startBytes = allocatedBytes();
+                    Chromosome[] next = new Chromosome[size];
+                    for (int i = 0; i < size; i++) {
+                        next[i] = mutate(population[i], random, copyAll);
+                        next[i].evaluate(rep, problem, fitnessFunction);
+                    }
+                    double allocated = (allocatedBytes() - startBytes) / 1024. / 1024.;
+                    // Like the engine the traces of the parents are dropped once their mutants are evaluated
+                    for (Chromosome parent : population)
+                        parent.setDecodingTrace(null);
+                    history.add(population);
+                    population = next;
+
+                    long retained = usedHeap() - emptyHeap;
+                    printResult("Memory", (copyAll ? "copy all " : "shared ") + size + " gen " + g,
+                            "MiB allocated", allocated,
+                            "MiB retained", retained / 1024. / 1024.,
+                            "bytes/chromosome", (double) retained / (size * (g + 2)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Mutate the chromosome, the copying mode copies the genomes the mutation shares with the parent
+     */
+    private Chromosome mutate(Chromosome parent, SplittableRandom random, boolean copyAll) {
+        Chromosome mutant = mutation.applyMutation(parent, random);
+        if (!copyAll)
+            return mutant;
+        Genome[] genomes = mutant.getGenome();
+        for (int i = 0; i < genomes.length; i++) {
+            if (genomes[i] == parent.getGenome()[i])
+                genomes[i] = genomes[i].copy();
+        }
+        return mutant;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,67 @@
+package garuntimeenv.benchmarks;
+
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.geneticoperators.selections.LinearRankSelection;
+import garuntimeenv.gacomponents.geneticoperators.selections.RouletteWheelSelection;
+import garuntimeenv.gacomponents.geneticoperators.selections.StochasticUniversalSampling;
+import garuntimeenv.gacomponents.geneticoperators.selections.TournamentSelection;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import garuntimeenv.interfaces.Selection;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static garuntimeenv.benchmarks.BenchmarkHelper.assumeBenchmarksEnabled;
+import static garuntimeenv.benchmarks.BenchmarkHelper.printResult;
+
+/**
+ * Benchmark building the selection for a population and drawing parents from it at different population sizes
+ */
+public class SelectionBenchmark {
+
+    private static final int[] sizes = {100, 10_000, 1_000_000};
+    private static final int draws = 10_000_000;
+
+    @Before
+    public void setUp() {
+        assumeBenchmarksEnabled();
+        EnvConfig.getInstance().setVisualEnabled(false);
+    }
+
+    @Test
+    public void setupAndDraw() {
+        Selection[] selections = {new RouletteWheelSelection(), new TournamentSelection(2), new TournamentSelection(4),
+                new LinearRankSelection(), new StochasticUniversalSampling()};
+        for (Selection selection : selections)
+            for (int size : sizes)
+                run(selection, size);
+    }
+
+    private static void run(Selection selection, int size) {
+        SplittableRandom random = new SplittableRandom(7);
+        Chromosome[] population = new Chromosome[size];
+        for (int i = 0; i < size; i++) {
+            population[i] = new Chromosome(new Genome[]{new Genome(new int[]{i})});
+            population[i].setFitness(1000 + random.nextInt(1000));
+        }
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+        for (int warmUp = 0; warmUp < 3; warmUp++) {
+            long startTime = System.nanoTime();
+            selection.addNewPopulation(population, fitnessFunction);
+            double setupMicros = (System.nanoTime() - startTime) / 1e3;
+
+            long checksum = 0;
+            startTime = System.nanoTime();
+            for (int i = 0; i < draws; i++)
+                checksum += selection.getNextChromosome(random).getFitness().intValue();
+            double drawNanos = (System.nanoTime() - startTime) / (double) draws;
+
+            printResult("Selection", selection + " " + size, "us/setup", setupMicros,
+                    "ns/draw", drawNanos, "checksum", checksum);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChromosomeTest {
+
+    /**
+     * A primitive fitness is boxed with the narrowest type that keeps its value, a boxed one keeps its type
+     */
+    @Test
+    public void primitiveFitness() {
+        Chromosome chromosome = new Chromosome(new Genome[]{new Genome(new int[]{0, 1, 2})});
+        assertTrue(Double.isNaN(chromosome.getFitnessAsDouble()));
+        assertTrue(Double.isNaN(chromosome.getFitness().doubleValue()));
+
+        chromosome.setFitness(1234.);
+        assertEquals(Integer.valueOf(1234), chromosome.getFitness());
+        assertSame(chromosome.getFitness(), chromosome.getFitness());
+        chromosome.setFitness((double) (1L << 40));
+        assertEquals(Long.valueOf(1L << 40), chromosome.getFitness());
+        chromosome.setFitness(12.5);
+        assertEquals(Double.valueOf(12.5), chromosome.getFitness());
+
+        chromosome.setFitness(Double.valueOf(17));
+        assertEquals(Double.valueOf(17), chromosome.getFitness());
+        assertEquals(17, chromosome.getFitnessAsDouble(), 0);
+        assertEquals(Double.valueOf(17), chromosome.copy().getFitness());
+    }
+
+    /**
+     * The primitive comparison of the makespan has to agree with the boxed one
+     */
+    @Test
+    public void primitiveComparison() {
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+        assertTrue(fitnessFunction.isBetterFitness(0, 1));
+        assertFalse(fitnessFunction.isBetterFitness(1, 1));
+        assertEquals(fitnessFunction.isBetterSolution(1000, Integer.MAX_VALUE),
+                fitnessFunction.isBetterFitness(1000, fitnessFunction.getWorstFitnessAsDouble()));
+        assertEquals(fitnessFunction.isBetterSolution(5, -1), fitnessFunction.isBetterFitness(5, -1));
+    }
+}
@@ -0,0 +1,78 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class FitnessCacheTest {
+
+    @Test
+    public void evictionPolicies() {
+        FitnessCache lru = new FitnessCache(2, FitnessCache.EvictionPolicy.LRU);
+        lru.put(1, 10);
+        lru.put(2, 20);
+        assertEquals(10, lru.get(1));
+        lru.put(3, 30);
+        // The second entry was used least recently
+        assertNull(lru.get(2));
+        assertEquals(10, lru.get(1));
+
+        FitnessCache fifo = new FitnessCache(2, FitnessCache.EvictionPolicy.FIFO);
+        fifo.put(1, 10);
+        fifo.put(2, 20);
+        assertEquals(10, fifo.get(1));
+        fifo.put(3, 30);
+        // The first entry was inserted first
+        assertNull(fifo.get(1));
+        assertEquals(20, fifo.get(2));
+
+        assertEquals(2, lru.getHits());
+        assertEquals(1, lru.getMisses());
+        assertEquals(1, lru.getEvictions());
+        assertEquals(2 / 3., lru.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void boundedWithSegments() {
+        FitnessCache cache = new FitnessCache(5000, FitnessCache.EvictionPolicy.LRU);
+        for (long i = 0; i < 20000; i++)
+            cache.put(i * 0x9E3779B97F4A7C15L, i);
+        assertEquals(5000, cache.size());
+        assertEquals(15000, cache.getEvictions());
+    }
+
+    /**
+     * A duplicate chromosome gets the fitness from the cache without being decoded
+     */
+    @Test
+    public void evaluateDuplicates() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+        FitnessCache cache = new FitnessCache(100, FitnessCache.EvictionPolicy.LRU);
+
+        Chromosome chromosome = rep.createRandomRep(problem);
+        Genome[] copy = new Genome[chromosome.getGenome().length];
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = new Genome(chromosome.getGenome()[i].getGenes().clone());
+        Chromosome duplicate = new Chromosome(copy);
+        Chromosome other = rep.createRandomRep(problem);
+
+        assertEquals(chromosome.getFingerprint(), duplicate.getFingerprint());
+        assertNotEquals(chromosome.getFingerprint(), other.getFingerprint());
+
+        double fitness = chromosome.evaluate(rep, problem, fitnessFunction, cache);
+        assertEquals(fitness, duplicate.evaluate(rep, problem, fitnessFunction, cache), 0);
+        other.evaluate(rep, problem, fitnessFunction, cache);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(fitness, fitnessFunction.calculateFitness(duplicate.getCorrespondingSolution()).doubleValue(), 0);
+    }
+}
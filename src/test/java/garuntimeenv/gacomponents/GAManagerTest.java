@@ -4,13 +4,32 @@ import garuntimeenv.SetupHelper;
 import garuntimeenv.envcomponents.EnvConfig;
 import garuntimeenv.envcomponents.TestManager;
 import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.OX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.PMX;
 import garuntimeenv.gacomponents.geneticoperators.crossover.PMXTest;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InversionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
 import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.JobShopSolution;
+import garuntimeenv.interfaces.IFitnessFunction;
+import garuntimeenv.interfaces.IProblem;
 import garuntimeenv.interfaces.Property;
 import garuntimeenv.utils.MyLogger;
 import garuntimeenv.utils.ProblemLoader;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 public class GAManagerTest {
 
     private Population testPopulation = null;
@@ -39,6 +58,235 @@ public class GAManagerTest {
         GAManager = new GAManager(jobShopProblem, config);
     }
 
+    /**
+     * The generations bred with the same seed have to be identical regardless of the number of threads
+     */
+    @Test
+    public void breedingIndependentOfParallelism() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        dataManager = DataManager.getInstance();
+
+        List<Long> sequential = breedGenerations(problem, 1, false, 0);
+        List<Long> parallel = breedGenerations(problem, 4, false, 0);
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * With a minimum distance the accepted hall of fame members depend on the order of the insertions,
+     * the generations still have to be identical regardless of the number of threads and the pipelining
+     */
+    @Test
+    public void hallOfFameDistanceIndependentOfParallelism() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        dataManager = DataManager.getInstance();
+
+        List<Long> sequential = breedGenerations(problem, 1, false, 150);
+        assertEquals(sequential, breedGenerations(problem, 4, false, 150));
+        assertEquals(sequential, breedGenerations(problem, 4, true, 150));
+    }
+
+    /**
+     * Evaluating the offsprings while breeding mustn't change the bred generations
+     */
+    @Test
+    public void pipelinedBreedingMatchesBarrier() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        dataManager = DataManager.getInstance();
+
+        List<Long> barrier = breedGenerations(problem, 2, false, 0);
+        List<Long> pipelined = breedGenerations(problem, 2, true, 0);
+        assertEquals(barrier, pipelined);
+    }
+
+    /**
+     * With delta evaluation the evaluated chromosomes keep their decoding traces until their mutants are evaluated,
+     * they are dropped at the next breeding. Without it no traces are kept.
+     */
+    @Test
+    public void decodingTracesDroppedAfterBreeding() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        for (boolean deltaEvaluation : new boolean[]{true, false}) {
+            Config config = new Config();
+            config.setPopulationSize(60);
+            config.setSeed(42L);
+            config.setFitnessCacheSize(0);
+            config.setDeltaEvaluation(deltaEvaluation);
+            config.setMutationOperators(Arrays.asList(new SwapMutation(), new InversionMutation()));
+            DataManager.getInstance().createNewDataSeries("Trace Test Series", config, new Property() {
+            });
+
+            GAManager manager = new GAManager(problem, config);
+            manager.createInitialPopulation();
+            manager.evaluateFitnessOfPopulation(manager.getLastGeneration());
+            for (int generation = 0; generation < 3; generation++) {
+                Chromosome[] parents = manager.getLastGeneration().getChromosomes();
+                for (Chromosome parent : parents)
+                    assertEquals(deltaEvaluation, parent.getDecodingTrace() != null);
+                manager.createNextGeneration();
+                manager.evaluateFitnessOfPopulation(manager.getLastGeneration());
+                for (Chromosome parent : parents)
+                    assertEquals(deltaEvaluation, parent.getDecodingTrace() != null);
+
+                manager.createNextGeneration();
+                for (Chromosome parent : parents)
+                    assertNull(parent.getDecodingTrace());
+                manager.evaluateFitnessOfPopulation(manager.getLastGeneration());
+            }
+        }
+    }
+
+    /**
+     * Breed some generations and collect the fingerprints of all chromosomes
+     */
+    private List<Long> breedGenerations(JobShopProblem problem, int parallelism, boolean pipelined, int minDistance) {
+        Config config = new Config();
+        config.setPopulationSize(60);
+        config.setHallOfFameSize(20);
+        config.setHallOfFamePercentage(0.5);
+        config.setHallOfFameMinDistance(minDistance);
+        config.setSeed(42L);
+        config.setParallelism(parallelism);
+        config.setPipelined(pipelined);
+        config.setPipelineQueueSize(8);
+        config.setCrossoverOperators(Arrays.asList(new LOX(), new PMX(), new OX()));
+        config.setMutationOperators(Arrays.asList(new SwapMutation(), new InversionMutation()));
+        dataManager.createNewDataSeries("Breeding Test Series " + parallelism, config, new Property() {
+        });
+
+        GAManager manager = new GAManager(problem, config);
+        manager.createInitialPopulation();
+        List<Long> fingerprints = new ArrayList<>();
+        for (int generation = 0; generation < 8; generation++) {
+            manager.evaluateFitnessOfPopulation(manager.getLastGeneration());
+            manager.createNextGeneration();
+            for (Chromosome chromosome : manager.getLastGeneration().getChromosomes()) {
+                fingerprints.add(chromosome.getFingerprint());
+                if (pipelined)
+                    assertFalse(Double.isNaN(chromosome.getFitness().doubleValue()));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * The anytime solve mode has to return shortly after the deadline with the last published improvement
+     */
+    @Test
+    public void solveWithinDeadline() throws Exception {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Config config = new Config();
+        config.setPopulationSize(100);
+        DataManager.getInstance().createNewDataSeries("Solve Test Series", config, new Property() {
+        });
+
+        List<Number> improvements = new ArrayList<>();
+        GAManager manager = new GAManager(problem, config);
+        long start = System.currentTimeMillis();
+        Chromosome best = manager.solve(500, chromosome -> improvements.add(chromosome.getFitness()));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue("Solving took " + elapsed + " ms", elapsed < 1500);
+        assertFalse(improvements.isEmpty());
+        for (int i = 1; i < improvements.size(); i++)
+            assertTrue(improvements.get(i).doubleValue() < improvements.get(i - 1).doubleValue());
+        assertEquals(improvements.get(improvements.size() - 1), best.getFitness());
+        assertEquals(best.getFitness(), ((JobShopSolution) best.getCorrespondingSolution()).getMakespan());
+    }
+
+    /**
+     * With the evaluation pipeline the breeding has to stop feeding the evaluators at the deadline, so only the
+     * offsprings already taken by the workers get evaluated afterwards
+     */
+    @Test
+    public void pipelinedSolveWithinDeadline() throws Exception {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        long[] deadline = {Long.MAX_VALUE};
+        AtomicInteger lateEvaluations = new AtomicInteger();
+
+        Config config = new Config();
+        config.setPopulationSize(100);
+        config.setParallelism(2);
+        config.setPipelined(true);
+        config.setFitnessCacheSize(0);
+        // Slow evaluations, so the deadline is reached while a generation is bred
+        config.setRepresentation(new JobShopPreferenceListRep() {
+            @Override
+            public double calculateFitnessAsDouble(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+                if (System.nanoTime() - deadline[0] >= 0)
+                    lateEvaluations.incrementAndGet();
+                Thread.sleep(2);
+                return super.calculateFitnessAsDouble(rep, inProblem, fitnessFunction);
+            }
+        });
+        DataManager.getInstance().createNewDataSeries("Pipelined Solve Test Series", config, new Property() {
+        });
+
+        GAManager manager = new GAManager(problem, config);
+        deadline[0] = System.nanoTime() + 350 * 1_000_000L;
+        Chromosome best = manager.solve(350, null);
+
+        assertTrue("Evaluations after the deadline: " + lateEvaluations.get(),
+                lateEvaluations.get() <= config.getParallelism());
+        assertEquals(best.getFitness(), ((JobShopSolution) best.getCorrespondingSolution()).getMakespan());
+    }
+
+    /**
+     * A hall of fame with a minimum distance holds the chromosomes of a generation as soon as it is evaluated,
+     * and the offsprings evaluated in the pipeline before the deadline are inserted when the run ends
+     */
+    @Test
+    public void hallOfFameWithDistanceUpToDate() throws Exception {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        long[] deadline = {Long.MAX_VALUE};
+        AtomicInteger evaluations = new AtomicInteger();
+
+        Config config = new Config();
+        config.setPopulationSize(60);
+        config.setParallelism(2);
+        config.setPipelined(true);
+        config.setFitnessCacheSize(0);
+        config.setHallOfFameMinDistance(50);
+        // An evaluation of the first bred generation waits for the deadline, so it is reached in the pipeline
+        config.setRepresentation(new JobShopPreferenceListRep() {
+            @Override
+            public double calculateFitnessAsDouble(Chromosome rep, IProblem inProblem, IFitnessFunction fitnessFunction) throws Exception {
+                if (evaluations.incrementAndGet() == config.getPopulationSize() + 10)
+                    while (System.nanoTime() - deadline[0] < 0)
+                        Thread.sleep(5);
+                return super.calculateFitnessAsDouble(rep, inProblem, fitnessFunction);
+            }
+        });
+        DataManager.getInstance().createNewDataSeries("Hall Of Fame Distance Test Series", config, new Property() {
+        });
+
+        GAManager manager = new GAManager(problem, config);
+        manager.createInitialPopulation();
+        manager.evaluateFitnessOfPopulation(manager.getLastGeneration());
+        assertTrue(manager.getHallOfFame().size() > 0);
+        assertFalse(Double.isNaN(manager.getHallOfFame().getHallOfFameAverage()));
+
+        evaluations.set(0);
+        manager = new GAManager(problem, config);
+        deadline[0] = System.nanoTime() + 1000 * 1_000_000L;
+        manager.solve(1000, null);
+        assertEquals(0, manager.getRunState().getGeneration());
+
+        HallOfFame hallOfFame = manager.getHallOfFame();
+        int size = hallOfFame.size();
+        double average = hallOfFame.getHallOfFameAverage();
+        // Nothing is left to insert
+        hallOfFame.insertCandidates();
+        assertEquals(size, hallOfFame.size());
+        assertEquals(average, hallOfFame.getHallOfFameAverage(), 0);
+    }
+
 //    @Test
     public void testSpecificInstance() throws Exception {
         this.randSetUp(0);
@@ -0,0 +1,58 @@
+package garuntimeenv.gacomponents;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GenomeDistanceTest {
+
+    private static Chromosome createChromosome(int[]... genes) {
+        Genome[] genome = new Genome[genes.length];
+        for (int i = 0; i < genes.length; i++)
+            genome[i] = new Genome(genes[i]);
+        return new Chromosome(genome);
+    }
+
+    @Test
+    public void hamming() {
+        Chromosome first = createChromosome(new int[]{0, 1, 2, 3}, new int[]{3, 2, 1, 0});
+        Chromosome second = createChromosome(new int[]{1, 0, 2, 3}, new int[]{3, 2, 1, 0});
+        Chromosome third = createChromosome(new int[]{3, 2, 1, 0}, new int[]{0, 1, 2, 3});
+
+        assertEquals(0, GenomeDistance.HAMMING.distance(first, first, 100));
+        assertEquals(2, GenomeDistance.HAMMING.distance(first, second, 100));
+        assertEquals(8, GenomeDistance.HAMMING.distance(first, third, 100));
+        // The calculation stops after the sub genome reaching the bound
+        assertEquals(4, GenomeDistance.HAMMING.distance(first, third, 3));
+        // Genes above 255 are packed into wider lanes
+        assertEquals(1, GenomeDistance.HAMMING.distance(createChromosome(new int[]{0, 300, 7}),
+                createChromosome(new int[]{0, 301, 7}), 100));
+    }
+
+    @Test
+    public void kendallTau() {
+        Chromosome first = createChromosome(new int[]{0, 1, 2, 3}, new int[]{3, 2, 1, 0});
+        Chromosome second = createChromosome(new int[]{1, 0, 2, 3}, new int[]{3, 2, 1, 0});
+        Chromosome third = createChromosome(new int[]{3, 2, 1, 0}, new int[]{0, 1, 2, 3});
+        // A rotation moves one gene past all others
+        Chromosome rotated = createChromosome(new int[]{1, 2, 3, 0}, new int[]{3, 2, 1, 0});
+
+        assertEquals(0, GenomeDistance.KENDALL_TAU.distance(first, first, 100));
+        assertEquals(1, GenomeDistance.KENDALL_TAU.distance(first, second, 100));
+        assertEquals(12, GenomeDistance.KENDALL_TAU.distance(first, third, 100));
+        assertEquals(3, GenomeDistance.KENDALL_TAU.distance(first, rotated, 100));
+        assertEquals(4, GenomeDistance.HAMMING.distance(first, rotated, 100));
+        assertTrue(GenomeDistance.KENDALL_TAU.distance(first, third, 5) >= 5);
+
+        // Sub genomes longer than 64 genes count the inversions pairwise
+        int[] identity = new int[100];
+        int[] reversed = new int[100];
+        for (int i = 0; i < 100; i++) {
+            identity[i] = i;
+            reversed[i] = 99 - i;
+        }
+        assertEquals(100 * 99 / 2, GenomeDistance.KENDALL_TAU.distance(createChromosome(identity),
+                createChromosome(reversed), Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,85 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.OX;
+import garuntimeenv.gacomponents.geneticoperators.crossover.PMX;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InsertionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InversionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.Mutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.interfaces.CrossoverOperators;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class GenomeTest {
+
+    @Test
+    public void stringAdapterTest() {
+        Genome stringGenome = new Genome(new String[]{"3", "0", "2", "1"});
+        Genome intGenome = new Genome(new int[]{3, 0, 2, 1});
+
+        assertEquals(intGenome, stringGenome);
+        assertEquals(intGenome.hashCode(), stringGenome.hashCode());
+        assertArrayEquals(new String[]{"3", "0", "2", "1"}, intGenome.getString());
+        assertEquals("2", intGenome.getElement(2));
+        assertEquals("[3,0,2,1]", intGenome.toString());
+
+        stringGenome.setElement(0, "1");
+        assertEquals(1, stringGenome.getGene(0));
+    }
+
+    @Test
+    public void stringMutationAdapterTest() {
+        String[] subChromosome = new String[]{"0", "1", "2", "3", "4", "5", "6", "7"};
+
+        String[] mutated = new InversionMutation().applySubMutation(subChromosome);
+
+        // The String adapter mutates in place like the int contract
+        assertSame(subChromosome, mutated);
+        int sum = 0;
+        for (String gene : mutated)
+            sum += Integer.parseInt(gene);
+        assertEquals(28, sum);
+    }
+
+    /**
+     * The fingerprints maintained by the operators have to match the fingerprints calculated from the genes
+     */
+    @Test
+    public void incrementalFingerprint() {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        new Config().setSubGenomeMutationProbability(0.5);
+
+        List<Mutation> mutations = Arrays.asList(new InversionMutation(), new SwapMutation(), new InsertionMutation());
+        List<CrossoverOperators> crossovers = Arrays.asList(new LOX(), new OX(), new PMX());
+
+        Chromosome chromosome = rep.createRandomRep(problem);
+        for (int i = 0; i < 300; i++) {
+            Chromosome offspring = i % 2 == 0 ?
+                    mutations.get(i % 3).applyMutation(chromosome) :
+                    crossovers.get(i % 3).createOffspring(chromosome, rep.createRandomRep(problem));
+
+            for (Genome genome : offspring.getGenome())
+                assertEquals(new Genome(genome.getGenes().clone()).getFingerprint(), genome.getFingerprint());
+            chromosome = offspring;
+        }
+
+        Genome genome = new Genome(new int[]{3, 0, 2, 1});
+        long before = genome.getFingerprint();
+        genome.swapGenes(0, 3);
+        assertNotEquals(before, genome.getFingerprint());
+        genome.swapGenes(0, 3);
+        assertEquals(before, genome.getFingerprint());
+    }
+}
@@ -0,0 +1,186 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class HallOfFameTest {
+
+    private static Chromosome createChromosome(int id, Number fitness) {
+        Chromosome chromosome = new Chromosome(new Genome[]{new Genome(new int[]{id, id + 1, id + 2})});
+        chromosome.setFitness(fitness);
+        return chromosome;
+    }
+
+    /**
+     * The hall of fame has to keep the best distinct chromosomes with their average
+     */
+    @Test
+    public void keepsBestChromosomes() {
+        HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), 10);
+        SplittableRandom random = new SplittableRandom(3);
+        List<Integer> fitnesses = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int fitness = random.nextInt(100000);
+            fitnesses.add(fitness);
+            hallOfFame.addChromosome(createChromosome(i, fitness));
+        }
+        fitnesses.sort(null);
+
+        assertEquals(10, hallOfFame.size());
+        assertEquals(fitnesses.get(9), hallOfFame.getWorstChromosome().getFitness());
+        double sum = 0;
+        for (int i = 0; i < 10; i++)
+            sum += fitnesses.get(i);
+        assertEquals(sum / 10, hallOfFame.getHallOfFameAverage(), 1e-9);
+
+        Set<Chromosome> drawn = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            Chromosome chromosome = hallOfFame.getRandomChromosome(random);
+            assertNotNull(chromosome);
+            assertTrue(chromosome.getFitness().intValue() <= fitnesses.get(9));
+            drawn.add(chromosome);
+        }
+        // Every member can be drawn
+        assertEquals(10, drawn.size());
+    }
+
+    @Test
+    public void rejectsDuplicatesAndRemoves() {
+        HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), 3);
+        assertTrue(hallOfFame.addChromosome(createChromosome(1, 50)));
+        assertFalse(hallOfFame.addChromosome(createChromosome(1, 50)));
+        assertTrue(hallOfFame.addChromosome(createChromosome(2, 40)));
+        assertTrue(hallOfFame.addChromosome(createChromosome(3, 30)));
+        // Not better than the worst member of the full hall of fame
+        assertFalse(hallOfFame.addChromosome(createChromosome(4, 50)));
+
+        long fingerprint = createChromosome(2, 40).getFingerprint();
+        assertTrue(hallOfFame.contains(fingerprint));
+        assertTrue(hallOfFame.removeChromosome(fingerprint));
+        assertFalse(hallOfFame.contains(fingerprint));
+        assertEquals(2, hallOfFame.size());
+        assertEquals(40, hallOfFame.getHallOfFameAverage(), 1e-9);
+        assertEquals(50, hallOfFame.getWorstChromosome().getFitness());
+
+        assertTrue(hallOfFame.addChromosome(createChromosome(5, 10)));
+        assertTrue(hallOfFame.addChromosome(createChromosome(6, 20)));
+        assertEquals(30, hallOfFame.getWorstChromosome().getFitness());
+    }
+
+    /**
+     * The positions of the members have to follow random insertions, evictions and removals
+     */
+    @Test
+    public void positionsFollowRemovals() {
+        HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), 64);
+        SplittableRandom random = new SplittableRandom(13);
+        List<Chromosome> added = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            if (random.nextInt(3) == 0 && !added.isEmpty()) {
+                Chromosome removed = added.get(random.nextInt(added.size()));
+                assertEquals(hallOfFame.contains(removed.getFingerprint()), hallOfFame.removeChromosome(removed.getFingerprint()));
+                assertFalse(hallOfFame.contains(removed.getFingerprint()));
+            } else {
+                Chromosome chromosome = createChromosome(random.nextInt(500), random.nextInt(1000));
+                if (hallOfFame.addChromosome(chromosome))
+                    added.add(chromosome);
+            }
+            if (i % 1000 == 0)
+                hallOfFame.sortMembers();
+        }
+
+        // Removing every member by its fingerprint has to empty the hall of fame with the right average,
+        // an id can be added again after its eviction, so the last addition is the member
+        Collections.reverse(added);
+        double sum = 0;
+        Set<Long> members = new HashSet<>();
+        for (Chromosome chromosome : added)
+            if (hallOfFame.contains(chromosome.getFingerprint()) && members.add(chromosome.getFingerprint()))
+                sum += chromosome.getFitness().doubleValue();
+        assertEquals(members.size(), hallOfFame.size());
+        for (Chromosome chromosome : added) {
+            if (!members.remove(chromosome.getFingerprint()))
+                continue;
+            assertTrue(hallOfFame.removeChromosome(chromosome.getFingerprint()));
+            sum -= chromosome.getFitness().doubleValue();
+            if (!members.isEmpty())
+                assertEquals(sum / members.size(), hallOfFame.getHallOfFameAverage(), 1e-6);
+        }
+        assertEquals(0, hallOfFame.size());
+    }
+
+    /**
+     * Concurrent insertions in any order have to end with the same members and the same draws after sorting
+     */
+    @Test
+    public void concurrentInsertionsIndependentOfOrder() {
+        SplittableRandom random = new SplittableRandom(5);
+        Chromosome[] candidates = new Chromosome[20000];
+        for (int i = 0; i < candidates.length; i++)
+            // Few distinct fitness values, so many members tie
+            candidates[i] = createChromosome(i, 1000 + random.nextInt(500));
+
+        HallOfFame sequential = new HallOfFame(new MakespanFitnessFunction(), 300);
+        for (int i = candidates.length - 1; i >= 0; i--)
+            sequential.addChromosome(candidates[i]);
+        HallOfFame concurrent = new HallOfFame(new MakespanFitnessFunction(), 300);
+        IntStream.range(0, candidates.length).parallel().forEach(i -> concurrent.addChromosome(candidates[i]));
+
+        assertEquals(sequential.size(), concurrent.size());
+        assertEquals(sequential.getHallOfFameAverage(), concurrent.getHallOfFameAverage(), 1e-9);
+        for (Chromosome candidate : candidates)
+            assertEquals(sequential.contains(candidate.getFingerprint()), concurrent.contains(candidate.getFingerprint()));
+
+        sequential.sortMembers();
+        concurrent.sortMembers();
+        SplittableRandom first = new SplittableRandom(9);
+        SplittableRandom second = new SplittableRandom(9);
+        for (int i = 0; i < 1000; i++)
+            assertTrue(sequential.getRandomChromosome(first) == concurrent.getRandomChromosome(second));
+        // Sorting keeps the heap valid
+        assertEquals(sequential.getWorstChromosome(), concurrent.getWorstChromosome());
+        assertTrue(concurrent.removeChromosome(concurrent.getWorstChromosome().getFingerprint()));
+        assertTrue(concurrent.addChromosome(createChromosome(-5, 1)));
+    }
+
+    /**
+     * With a minimum distance a close better chromosome replaces its neighbours and a close worse one is rejected
+     */
+    @Test
+    public void keepsMinimumDistance() {
+        HallOfFame hallOfFame = new HallOfFame(new MakespanFitnessFunction(), 10, GenomeDistance.HAMMING, 3);
+        Chromosome first = createChromosome(new int[]{0, 1, 2, 3, 4, 5}, 100);
+        Chromosome far = createChromosome(new int[]{5, 4, 3, 2, 1, 0}, 90);
+        Chromosome closeWorse = createChromosome(new int[]{1, 0, 2, 3, 4, 5}, 110);
+        Chromosome closeBetter = createChromosome(new int[]{0, 1, 2, 3, 4, 6}, 80);
+
+        assertTrue(hallOfFame.addChromosome(first));
+        assertTrue(hallOfFame.addChromosome(far));
+        assertFalse(hallOfFame.addChromosome(closeWorse));
+        assertTrue(hallOfFame.addChromosome(closeBetter));
+
+        assertEquals(2, hallOfFame.size());
+        assertFalse(hallOfFame.contains(first.getFingerprint()));
+        assertTrue(hallOfFame.contains(closeBetter.getFingerprint()));
+        assertEquals(85, hallOfFame.getHallOfFameAverage(), 1e-9);
+    }
+
+    private static Chromosome createChromosome(int[] genes, Number fitness) {
+        Chromosome chromosome = new Chromosome(new Genome[]{new Genome(genes)});
+        chromosome.setFitness(fitness);
+        return chromosome;
+    }
+}
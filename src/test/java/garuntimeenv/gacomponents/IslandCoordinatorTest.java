@@ -0,0 +1,101 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.interfaces.Property;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class IslandCoordinatorTest {
+
+    /**
+     * The chromosomes have to keep their genes and the type and value of the fitness on the wire
+     */
+    @Test
+    public void wireFormatRoundTrip() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep rep = new JobShopPreferenceListRep();
+        Chromosome[] chromosomes = new Chromosome[3];
+        for (int i = 0; i < chromosomes.length; i++)
+            chromosomes[i] = rep.createRandomRep(problem);
+        chromosomes[0].setFitness(1234);
+        chromosomes[1].setFitness(12.5);
+        chromosomes[2].setFitness(1L << 40);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MigrationProtocol.writeChromosomes(new DataOutputStream(bytes), chromosomes);
+        // Each gene of the 15x15 instance takes one byte
+        assertTrue(bytes.size() < 15 * 16 * chromosomes.length + 40);
+
+        Chromosome[] read = MigrationProtocol.readChromosomes(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(chromosomes.length, read.length);
+        for (int i = 0; i < chromosomes.length; i++) {
+            assertEquals(chromosomes[i].getFitness(), read[i].getFitness());
+            assertEquals(chromosomes[i].getFingerprint(), read[i].getFingerprint());
+            for (int j = 0; j < chromosomes[i].getGenome().length; j++)
+                assertArrayEquals(chromosomes[i].getGenome()[j].getGenes(), read[i].getGenome()[j].getGenes());
+        }
+    }
+
+    /**
+     * Run the coordinator with worker processes on localhost
+     */
+    @Test(timeout = 120000)
+    public void runWorkerProcesses() throws Exception {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        Config config = new Config();
+        config.setPopulationSize(40);
+        config.setIslands(2);
+        config.setMigrationInterval(3);
+        config.setSeed(11L);
+        DataManager.getInstance().createNewDataSeries("Island Coordinator Test Series", config, new Property() {
+        });
+
+        List<Process> workers = new ArrayList<>();
+        try (IslandCoordinator coordinator = new IslandCoordinator(config, 0)) {
+            String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            for (int i = 0; i < config.getIslands(); i++) {
+                workers.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        IslandWorker.class.getName(), "localhost", String.valueOf(coordinator.getPort()), "1")
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+
+            coordinator.run(12);
+
+            assertNotNull(coordinator.getBestChromosome());
+            double[] bestFitness = coordinator.getBestFitness();
+            for (int generation = 1; generation < bestFitness.length; generation++)
+                assertTrue(bestFitness[generation] <= bestFitness[generation - 1]);
+            assertEquals(bestFitness[bestFitness.length - 1],
+                    coordinator.getBestChromosome().getFitness().doubleValue(), 0);
+            assertTrue(bestFitness[bestFitness.length - 1] >= 1232);
+
+            for (Process worker : workers) {
+                assertTrue(worker.waitFor(30, TimeUnit.SECONDS));
+                assertEquals(0, worker.exitValue());
+            }
+        } finally {
+            for (Process worker : workers)
+                worker.destroyForcibly();
+        }
+    }
+}
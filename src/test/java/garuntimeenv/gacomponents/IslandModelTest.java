@@ -0,0 +1,87 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.interfaces.Property;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class IslandModelTest {
+
+    /**
+     * The migrants have to replace the worst chromosomes of the receiving island
+     */
+    @Test
+    public void migrantsReplaceWorstChromosomes() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Config config = createConfig();
+
+        GAManager sender = new GAManager(problem, config, config.getPrevChromosomeSelection().newInstance(), 1);
+        GAManager receiver = new GAManager(problem, config, config.getPrevChromosomeSelection().newInstance(), 2);
+        for (GAManager island : new GAManager[]{sender, receiver}) {
+            island.createInitialPopulation();
+            island.evaluateFitnessOfPopulation(island.getLastGeneration());
+        }
+
+        Chromosome[] emigrants = sender.getEmigrants(3);
+        assertEquals(3, emigrants.length);
+        assertEquals(sender.getBestChromosome().getFitness(), emigrants[0].getFitness());
+
+        receiver.acceptMigrants(emigrants);
+        Set<Long> fingerprints = new HashSet<>();
+        for (Chromosome chromosome : receiver.getLastGeneration().getChromosomes())
+            fingerprints.add(chromosome.getFingerprint());
+        for (Chromosome emigrant : emigrants)
+            assertTrue(fingerprints.contains(emigrant.getFingerprint()));
+        assertTrue(receiver.getBestChromosome().getFitness().doubleValue()
+                <= sender.getBestChromosome().getFitness().doubleValue());
+    }
+
+    /**
+     * The best chromosome of the island model has to be the best of all islands
+     */
+    @Test
+    public void runIslands() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        TestManager.getInstance().setGenerationLimit(20);
+        Config config = createConfig();
+        config.setIslands(3);
+        config.setMigrationInterval(5);
+        config.setMigrationTopology(IslandModel.Topology.RANDOM);
+        DataManager.getInstance().createNewDataSeries("Island Test Series", config, new Property() {
+        });
+
+        IslandModel islandModel = new IslandModel(problem, config);
+        islandModel.startEnvironment();
+
+        assertNotNull(islandModel.getBestChromosome());
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < config.getIslands(); i++) {
+            double[] islandFitness = islandModel.getBestFitness(i);
+            // The best fitness of an island never gets worse
+            for (int generation = 1; generation < islandFitness.length; generation++)
+                assertTrue(islandFitness[generation] <= islandFitness[generation - 1]);
+            best = Math.min(best, islandFitness[islandFitness.length - 1]);
+        }
+        assertEquals(best, islandModel.getBestChromosome().getFitness().doubleValue(), 0);
+        assertTrue(best >= 1232);
+    }
+
+    private static Config createConfig() {
+        Config config = new Config();
+        config.setPopulationSize(40);
+        config.setSeed(7L);
+        return config;
+    }
+}
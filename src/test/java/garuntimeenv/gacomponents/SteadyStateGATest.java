@@ -0,0 +1,131 @@
+package garuntimeenv.gacomponents;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.JobShopSolution;
+import garuntimeenv.interfaces.IProblem;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SteadyStateGATest {
+
+    /**
+     * The concurrent workers have to keep the population size, the members unique and the best member as result
+     */
+    @Test
+    public void concurrentReplacement() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Config config = new Config();
+        config.setPopulationSize(50);
+        config.setParallelism(4);
+        config.setSeed(3L);
+
+        SteadyStateGA steadyState = new SteadyStateGA(problem, config);
+        Chromosome best = steadyState.run(3000);
+
+        assertNotNull(best);
+        // The workers reserve their evaluations, so the budget is met exactly
+        assertEquals(3000, steadyState.getEvaluations());
+        Chromosome[] population = steadyState.getPopulation();
+        assertEquals(50, population.length);
+
+        Set<Long> fingerprints = new HashSet<>();
+        double bestInPopulation = Double.MAX_VALUE;
+        for (Chromosome member : population) {
+            assertNotNull(member);
+            fingerprints.add(member.getFingerprint());
+            bestInPopulation = Math.min(bestInPopulation, member.getFitness().doubleValue());
+        }
+        assertEquals(50, fingerprints.size());
+        assertEquals(bestInPopulation, best.getFitness().doubleValue(), 0);
+        assertEquals(best.getFitness(), ((JobShopSolution) best.getCorrespondingSolution()).getMakespan());
+    }
+
+    /**
+     * With delta evaluation the members keep decoding traces during the run, they are all dropped at its end
+     */
+    @Test
+    public void deltaEvaluationDropsTraces() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Config config = new Config();
+        config.setPopulationSize(50);
+        config.setParallelism(4);
+        config.setSeed(3L);
+        config.setFitnessCacheSize(0);
+        config.setDeltaEvaluation(true);
+
+        SteadyStateGA steadyState = new SteadyStateGA(problem, config);
+        Chromosome best = steadyState.run(3000);
+
+        for (Chromosome member : steadyState.getPopulation())
+            assertNull(member.getDecodingTrace());
+        assertEquals(best.getFitness(), ((JobShopSolution) best.getCorrespondingSolution()).getMakespan());
+    }
+
+    /**
+     * Offsprings that are worse than the worst member or already members are rejected
+     */
+    @Test
+    public void rejectWorseAndDuplicates() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Config config = new Config();
+        config.setPopulationSize(20);
+        config.setParallelism(1);
+
+        SteadyStateGA steadyState = new SteadyStateGA(problem, config);
+        steadyState.run(20);
+        Chromosome member = steadyState.getPopulation()[0];
+
+        assertFalse(steadyState.replaceWorst(member.copy()));
+        Chromosome worse = member.copy();
+        worse.setFitness(Integer.MAX_VALUE);
+        worse.getGenome()[0].swapGenes(0, 1);
+        assertFalse(steadyState.replaceWorst(worse));
+    }
+
+    /**
+     * Equal chromosomes of the initial population are counted, replacing one twin keeps the others members
+     */
+    @Test
+    public void rejectTwinsOfInitialPopulation() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        Chromosome twin = new JobShopPreferenceListRep().createRandomRep(problem, new SplittableRandom(1));
+        Config config = new Config();
+        config.setPopulationSize(20);
+        config.setParallelism(1);
+        // Every random chromosome of the initial population is the same
+        config.setRepresentation(new JobShopPreferenceListRep() {
+            @Override
+            public <T extends IProblem> Chromosome createRandomRep(T inProblem, SplittableRandom random) {
+                return twin.copy();
+            }
+        });
+
+        SteadyStateGA steadyState = new SteadyStateGA(problem, config);
+        steadyState.run(20);
+
+        Chromosome better = twin.copy();
+        better.getGenome()[0].swapGenes(0, 1);
+        better.setFitness(0);
+        assertTrue(steadyState.replaceWorst(better));
+
+        Chromosome betterTwin = twin.copy();
+        betterTwin.setFitness(0);
+        assertFalse(steadyState.replaceWorst(betterTwin));
+    }
+}
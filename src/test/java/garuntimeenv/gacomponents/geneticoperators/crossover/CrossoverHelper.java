@@ -7,6 +7,10 @@ import garuntimeenv.interfaces.CrossoverOperators;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 public class CrossoverHelper {
 
@@ -34,4 +38,28 @@ public class CrossoverHelper {
         System.out.println(offspring);
         return checkSetForElements(elements, offspring);
     }
+
+    /**
+     * A crossover drawing its random decisions from the given stream, like the reference implementations
+     */
+    interface SeededCrossover {
+        Chromosome createOffspring(Chromosome p1, Chromosome p2, SplittableRandom random);
+    }
+
+    /**
+     * Check that the operator creates the same offspring as the reference for the same random streams
+     */
+    public static void assertMatchesReference(CrossoverOperators operator, SeededCrossover reference,
+                                              Chromosome p1, Chromosome p2) {
+        for (long seed = 0; seed < 200; seed++) {
+            Chromosome expected = reference.createOffspring(p1, p2, new SplittableRandom(seed));
+            Chromosome actual = operator.createOffspring(p1, p2, new SplittableRandom(seed));
+
+            assertEquals(expected.getGenome().length, actual.getGenome().length);
+            for (int i = 0; i < expected.getGenome().length; i++) {
+                assertArrayEquals("Seed " + seed, expected.getGenome()[i].getGenes(), actual.getGenome()[i].getGenes());
+                assertEquals(expected.getGenome()[i].getFingerprint(), actual.getGenome()[i].getFingerprint());
+            }
+        }
+    }
 }
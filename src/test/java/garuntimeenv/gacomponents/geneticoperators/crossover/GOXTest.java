@@ -0,0 +1,47 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+public class GOXTest {
+
+    @Test
+    public void GOXTest() {
+        Genome[] g1 = new Genome[1];
+        g1[0] = new Genome(new String[]{"1", "2", "3", "4", "5", "6", "7", "8", "9"});
+        Genome[] g2 = new Genome[1];
+        g2[0] = new Genome(new String[]{"9", "3", "7", "8", "2", "6", "5", "1", "4"});
+        Chromosome p1 = new Chromosome(g1);
+        Chromosome p2 = new Chromosome(g2);
+
+        if (!CrossoverHelper.testCrossover(new GOX(), p1, p2))
+            fail();
+    }
+
+    /**
+     * The substring 2 3 of the donor gets implanted where the 2 is in the receiver
+     */
+    @Test
+    public void implantsSubstring() {
+        assertArrayEquals(new int[]{5, 4, 2, 3, 1, 0},
+                GOX.cross(new int[]{0, 1, 2, 3, 4, 5}, new int[]{5, 4, 3, 2, 1, 0}, 2, 4));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5},
+                GOX.cross(new int[]{0, 1, 2, 3, 4, 5}, new int[]{5, 4, 3, 2, 1, 0}, 0, 6));
+    }
+
+    /**
+     * Test the GOX Crossover with random reps
+     */
+    @Test
+    public void GOXTestRandom() {
+        for (int i = 0; i < 100; i++) {
+            if (!CrossoverHelper.testCrossover(new GOX(), SetupHelper.getJSSPChromosome(1), SetupHelper.getJSSPChromosome(1)))
+                fail();
+        }
+    }
+}
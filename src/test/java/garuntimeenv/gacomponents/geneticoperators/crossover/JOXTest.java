@@ -0,0 +1,46 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+public class JOXTest {
+
+    @Test
+    public void JOXTest() {
+        Genome[] g1 = new Genome[1];
+        g1[0] = new Genome(new String[]{"1", "2", "3", "4", "5", "6", "7", "8", "9"});
+        Genome[] g2 = new Genome[1];
+        g2[0] = new Genome(new String[]{"7", "6", "9", "4", "3", "2", "1", "5", "8"});
+        Chromosome p1 = new Chromosome(g1);
+        Chromosome p2 = new Chromosome(g2);
+
+        if (!CrossoverHelper.testCrossover(new JOX(), p1, p2))
+            fail();
+    }
+
+    /**
+     * The selected jobs 1 and 3 stay at their positions, the others follow the order of the second parent
+     */
+    @Test
+    public void keepsSelectedJobs() {
+        boolean[] selected = {false, true, false, true, false};
+        assertArrayEquals(new int[]{4, 1, 2, 3, 0},
+                JOX.cross(new int[]{0, 1, 2, 3, 4}, new int[]{4, 3, 2, 1, 0}, selected));
+    }
+
+    /**
+     * Test the JOX Crossover with random reps
+     */
+    @Test
+    public void JOXTestRandom() {
+        for (int i = 0; i < 100; i++) {
+            if (!CrossoverHelper.testCrossover(new JOX(), SetupHelper.getJSSPChromosome(1), SetupHelper.getJSSPChromosome(1)))
+                fail();
+        }
+    }
+}
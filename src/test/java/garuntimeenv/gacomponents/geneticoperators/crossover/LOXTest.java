@@ -1,6 +1,7 @@
 package garuntimeenv.gacomponents.geneticoperators.crossover;
 
 import com.google.gson.stream.MalformedJsonException;
+import garuntimeenv.SetupHelper;
 import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
@@ -58,4 +59,19 @@ public class LOXTest {
 
     }
 
+    /**
+     * The kernel on primitive arrays has to create the same offspring as the former implementation
+     */
+    @Test
+    public void matchesReference() {
+        Chromosome p1 = new Chromosome(new Genome[]{new Genome(new String[]{"1", "2", "3", "4", "5", "6", "7", "8", "9"})});
+        Chromosome p2 = new Chromosome(new Genome[]{new Genome(new String[]{"7", "6", "9", "4", "3", "2", "1", "5", "8"})});
+        CrossoverHelper.assertMatchesReference(new LOX(), ReferenceCrossovers::lox, p1, p2);
+
+        for (int i = 0; i < 10; i++) {
+            p1 = SetupHelper.getJSSPChromosome(1);
+            p2 = SetupHelper.getJSSPChromosome(1);
+            CrossoverHelper.assertMatchesReference(new LOX(), ReferenceCrossovers::lox, p1, p2);
+        }
+    }
 }
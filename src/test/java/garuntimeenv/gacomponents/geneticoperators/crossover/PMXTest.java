@@ -1,6 +1,7 @@
 package garuntimeenv.gacomponents.geneticoperators.crossover;
 
 import com.google.gson.stream.MalformedJsonException;
+import garuntimeenv.SetupHelper;
 import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.gacomponents.Genome;
 import garuntimeenv.gacomponents.jobshop.JobShopPreferenceListRep;
@@ -105,5 +106,19 @@ public class PMXTest {
 
     }
 
-
+    /**
+     * The kernel on primitive arrays has to create the same offspring as the former implementation
+     */
+    @Test
+    public void matchesReference() {
+        Chromosome p1 = new Chromosome(new Genome[]{new Genome(new String[]{"8", "4", "7", "3", "6", "2", "5", "1", "9", "0"})});
+        Chromosome p2 = new Chromosome(new Genome[]{new Genome(new String[]{"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"})});
+        CrossoverHelper.assertMatchesReference(new PMX(), ReferenceCrossovers::pmx, p1, p2);
+
+        for (int i = 0; i < 10; i++) {
+            p1 = SetupHelper.getJSSPChromosome(1);
+            p2 = SetupHelper.getJSSPChromosome(1);
+            CrossoverHelper.assertMatchesReference(new PMX(), ReferenceCrossovers::pmx, p1, p2);
+        }
+    }
 }
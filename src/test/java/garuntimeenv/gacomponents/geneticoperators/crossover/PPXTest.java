@@ -0,0 +1,68 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PPXTest {
+
+    @Test
+    public void PPXTest() {
+        Genome[] g1 = new Genome[1];
+        g1[0] = new Genome(new String[]{"1", "2", "3", "4", "5", "6", "7", "8", "9"});
+        Genome[] g2 = new Genome[1];
+        g2[0] = new Genome(new String[]{"7", "6", "9", "4", "3", "2", "1", "5", "8"});
+        Chromosome p1 = new Chromosome(g1);
+        Chromosome p2 = new Chromosome(g2);
+
+        if (!CrossoverHelper.testCrossover(new PPX(), p1, p2))
+            fail();
+    }
+
+    /**
+     * Two jobs in the same order in both parents have to keep this order in the offspring
+     */
+    @Test
+    public void preservesCommonPrecedence() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 20; i++) {
+            Chromosome p1 = SetupHelper.getJSSPChromosome(1);
+            Chromosome p2 = SetupHelper.getJSSPChromosome(1);
+            Chromosome offspring = new PPX().createOffspring(p1, p2, random);
+
+            for (int m = 0; m < offspring.getGenome().length; m++) {
+                int[] first = positions(p1.getGenome()[m].getGenes());
+                int[] second = positions(p2.getGenome()[m].getGenes());
+                int[] child = positions(offspring.getGenome()[m].getGenes());
+                for (int a = 0; a < first.length; a++)
+                    for (int b = 0; b < first.length; b++)
+                        if (first[a] < first[b] && second[a] < second[b])
+                            assertTrue(child[a] < child[b]);
+            }
+        }
+    }
+
+    private static int[] positions(int[] genes) {
+        int[] positions = new int[genes.length];
+        for (int c = 0; c < genes.length; c++)
+            positions[genes[c]] = c;
+        return positions;
+    }
+
+    /**
+     * Test the PPX Crossover with random reps
+     */
+    @Test
+    public void PPXTestRandom() {
+        for (int i = 0; i < 100; i++) {
+            if (!CrossoverHelper.testCrossover(new PPX(), SetupHelper.getJSSPChromosome(1), SetupHelper.getJSSPChromosome(1)))
+                fail();
+        }
+    }
+}
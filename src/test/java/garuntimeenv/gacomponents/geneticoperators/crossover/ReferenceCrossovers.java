@@ -0,0 +1,209 @@
+package garuntimeenv.gacomponents.geneticoperators.crossover;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.utils.Pair;
+import garuntimeenv.utils.Utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * The map and set based crossover operators copied from their former implementations
+ * Used as reference for the crossover kernels working on primitive arrays
+ */
+public class ReferenceCrossovers {
+
+    /**
+     * Linear order crossover
+     */
+    public static Chromosome lox(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        for (int i = 0; i < subgenomeAmount; i++) {
+            Genome parentGenome1 = parent1.getGenome()[i];
+            Genome parentGenome2 = parent2.getGenome()[i];
+
+            int length = parentGenome1.getGenomeSize();
+
+            // Select two random cut points and determine the smaller value
+            int firstPos = random.nextInt(length + 1);
+            int secondPos = random.nextInt(length + 1);
+
+            int smallerValue = Math.min(firstPos, secondPos);
+            int biggerValue = Math.max(firstPos, secondPos);
+
+            // copy the offspring into left and right part of the middle of the cut and remove
+            // the 'holes' in the respective half so to maintain the order
+            // Copy the "removed" part
+
+            LinkedHashMap<Integer, Integer> helperCopy = new LinkedHashMap<>();
+            double middleOfCut = (firstPos + secondPos) / 2.;
+
+            Map<Integer, Integer> parentGenomeMap2 = new HashMap<>();
+            for (int c = 0; c < length; c++) {
+                helperCopy.put(c, parentGenome2.getGene(c));
+                parentGenomeMap2.put(parentGenome2.getGene(c), c);
+            }
+
+            // Create holes
+            for (int c = smallerValue; c < biggerValue; c++) {
+                int posInP2 = parentGenomeMap2.get(parentGenome1.getGene(c));
+                helperCopy.remove(posInP2);
+            }
+
+            Genome subOffspring = new Genome(length);
+
+            int leftCounter = 0;
+            int rightCounter = helperCopy.size() - 1;
+            int leftCaret = 0;
+            int rightCaret = length - 1;
+
+            // Copy into the offspring
+            for (int c = 0; c < length; c++) {
+                // On the left side
+                if (c < smallerValue) {
+                    int element = (Integer) helperCopy.values().toArray()[leftCounter++];
+                    subOffspring.setGene(leftCaret++, element);
+                } else if (c >= biggerValue) {
+                    int element = (Integer) helperCopy.values().toArray()[rightCounter--];
+                    subOffspring.setGene(rightCaret--, element);
+                } else {
+                    subOffspring.setGene(c, parentGenome1.getGene(c));
+                }
+
+            }
+
+            offSpringGenome[i] = subOffspring;
+        }
+        return new Chromosome(offSpringGenome);
+    }
+
+    /**
+     * Partially mapped crossover
+     */
+    public static Chromosome pmx(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        for (int i = 0; i < subgenomeAmount; i++) {
+            Genome parentGenome1 = parent1.getGenome()[i];
+            Genome parentGenome2 = parent2.getGenome()[i];
+
+            // Select two random cut points and determine the smaller value
+            int length = parentGenome1.getGenomeSize();
+            int firstPos = random.nextInt(length);
+            int secondPos = random.nextInt(length);
+
+            int smallerValue = Math.min(firstPos, secondPos);
+            int biggerValue = Math.max(firstPos, secondPos);
+
+            // Create a map of each genome to create better searching results
+            Map<Integer, Integer> parentGenomeMap2 = new HashMap<>();
+            for (int c = 0; c < length; c++) {
+                parentGenomeMap2.put(parentGenome2.getGene(c), c);
+            }
+
+
+            Genome subOffspring = new Genome(length);
+            boolean[] occupied = new boolean[length];
+
+            // Copy the selected part of the first parent into the offspring
+            Map<Integer, Integer> eleInCopiedPart = new HashMap<>();
+
+            for (int c = smallerValue; c <= biggerValue; c++) {
+                int currentElement = parentGenome1.getGene(c);
+                eleInCopiedPart.put(currentElement, c);
+                subOffspring.setGene(c, currentElement);
+                occupied[c] = true;
+            }
+
+            for (int c = smallerValue; c <= biggerValue; c++) {
+                int eleInP2 = parentGenome2.getGene(c);
+                if (!eleInCopiedPart.keySet().contains(eleInP2)) {
+                    int currentIndex = c;
+                    boolean placed = false;
+                    do {
+                        int eleInP1 = parentGenome1.getGene(currentIndex);
+                        int posInP2 = parentGenomeMap2.get(eleInP1);
+                        if (!occupied[posInP2]) {
+                            // If the position isn't occupied put the element from p2 there
+                            subOffspring.setGene(posInP2, eleInP2);
+                            occupied[posInP2] = true;
+                            placed = true;
+                        } else {
+                            // Else it's all ready occupied by a element
+                            // Put it where the occupying element in p2 is
+                            currentIndex = posInP2;
+                        }
+                    } while (!placed);
+                }
+            }
+
+            // Copy the remaining genomes to the offspring
+            for (int c = 0; c < length; c++) {
+                if (!occupied[c])
+                    subOffspring.setGene(c, parentGenome2.getGene(c));
+            }
+
+            offSpringGenome[i] = subOffspring;
+        }
+
+        return new Chromosome(offSpringGenome);
+    }
+
+    /**
+     * Order crossover
+     */
+    public static Chromosome ox(Chromosome parent1, Chromosome parent2, SplittableRandom random) {
+        int subgenomeAmount = parent1.getGenome().length;
+        Genome[] offSpringGenome = new Genome[subgenomeAmount];
+
+        for (int i = 0; i < subgenomeAmount; i++) {
+            // Take a random parent as the origin
+            Pair<Genome, Genome> selectedChromosome = Utils.getRandomObject(parent1.getGenome()[i], parent2.getGenome()[i], random);
+            Genome parentGenome1 = selectedChromosome.getKey();
+            Genome parentGenome2 = selectedChromosome.getValue();
+
+            int length = parentGenome1.getGenomeSize();
+
+            // Select two random cut points and determine the smaller value
+            int firstPos = random.nextInt(length);
+            int secondPos = random.nextInt(length);
+
+            int smallerValue = Math.min(firstPos, secondPos);
+            int biggerValue = Math.max(firstPos, secondPos);
+
+            Set<Integer> notCopy = new HashSet<>();
+            Genome subOffspring = new Genome(length);
+
+            // Copy the selected part between the points from the first parent
+            for (int c = smallerValue; c <= biggerValue; c++) {
+                int element = parentGenome1.getGene(c);
+                notCopy.add(element);
+                subOffspring.setGene(c, element);
+            }
+
+            // Copy the left part
+            for (int c = 0, index = smallerValue == 0 ? biggerValue + 1 : 0; c < length; c++) {
+                int element = parentGenome2.getGene(c);
+                if (!notCopy.contains(element)) {
+                    subOffspring.setGene(index, element);
+                    if (index + 1 >= smallerValue && index <= biggerValue)
+                        index = biggerValue + 1;
+                    else
+                        index++;
+                }
+            }
+
+            offSpringGenome[i] = subOffspring;
+        }
+        return new Chromosome(offSpringGenome);
+    }
+}
@@ -3,6 +3,7 @@ package garuntimeenv.gacomponents.geneticoperators.mutations;
 import com.google.gson.stream.MalformedJsonException;
 import garuntimeenv.SetupHelper;
 import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Config;
 import garuntimeenv.gacomponents.geneticoperators.crossover.CrossoverHelper;
 import garuntimeenv.gacomponents.geneticoperators.crossover.PMXTest;
 import garuntimeenv.utils.MyLogger;
@@ -11,7 +12,11 @@ import org.junit.Test;
 
 import java.io.FileNotFoundException;
 import java.util.Set;
+import java.util.SplittableRandom;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class SwapIMutationTest {
@@ -42,4 +47,28 @@ public class SwapIMutationTest {
         }
     }
 
+    /**
+     * The genomes not drawn for the mutation are shared with the parent, the parent stays unchanged
+     */
+    @Test
+    public void sharesUnchangedGenomes() {
+        Config config = new Config();
+        SplittableRandom random = new SplittableRandom(9);
+        Chromosome parent = SetupHelper.getJSSPChromosome(1);
+        int[][] parentGenes = new int[parent.getGenome().length][];
+        for (int g = 0; g < parentGenes.length; g++)
+            parentGenes[g] = parent.getGenome()[g].getGenes().clone();
+
+        config.setSubGenomeMutationProbability(0);
+        Chromosome mutant = new SwapMutation().applyMutation(parent, random);
+        for (int g = 0; g < parentGenes.length; g++)
+            assertSame(parent.getGenome()[g], mutant.getGenome()[g]);
+
+        config.setSubGenomeMutationProbability(1);
+        mutant = new SwapMutation().applyMutation(parent, random);
+        for (int g = 0; g < parentGenes.length; g++) {
+            assertNotSame(parent.getGenome()[g], mutant.getGenome()[g]);
+            assertArrayEquals(parentGenes[g], parent.getGenome()[g].getGenes());
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LinearRankSelectionTest {
+
+    /**
+     * The draws have to follow the linear ranking probabilities without sorting the population
+     * The statistic is compared to the 99.9% quantile of 49 degrees of freedom.
+     */
+    @Test
+    public void matchesLinearRanking() {
+        int size = 50;
+        int draws = 300_000;
+        Chromosome[] population = SelectionHelper.createPopulation(size, 4);
+        for (double pressure : new double[]{1, 1.5, 2}) {
+            LinearRankSelection selection = new LinearRankSelection(pressure);
+            selection.addNewPopulation(population, new MakespanFitnessFunction());
+
+            double[] probabilities = new double[size];
+            for (int rank = 0; rank < size; rank++) {
+                int fromWorst = size - 1 - rank;
+                probabilities[rank] = (2 - pressure) / size + 2. * fromWorst * (pressure - 1) / (size * (size - 1.));
+            }
+            int[] count = SelectionHelper.countRanks(selection, size, draws, new SplittableRandom(5));
+            double chiSquared = SelectionHelper.chiSquared(count, probabilities, draws);
+            assertTrue("Chi squared " + chiSquared, chiSquared < 85.4);
+            // With the highest pressure the worst chromosome is never selected
+            if (pressure == 2)
+                assertEquals(0, count[size - 1]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPressureAboveTwo() {
+        new LinearRankSelection(2.5);
+    }
+}
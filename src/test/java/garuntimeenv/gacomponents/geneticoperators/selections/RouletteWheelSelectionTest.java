@@ -1,6 +1,7 @@
 package garuntimeenv.gacomponents.geneticoperators.selections;
 
 import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
 import garuntimeenv.gacomponents.Chromosome;
 import garuntimeenv.gacomponents.Config;
 import garuntimeenv.gacomponents.GAManager;
@@ -9,13 +10,15 @@ import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Test;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 public class RouletteWheelSelectionTest {
 
     RouletteWheelSelection propRandSelect = new RouletteWheelSelection();
@@ -39,7 +42,7 @@ public class RouletteWheelSelectionTest {
         propRandSelect.addNewPopulation(testPop.getChromosomes(), new MakespanFitnessFunction());
 
         System.out.println(
-                FieldUtils.readField(propRandSelect, "cumulativeSums", true)
+                Arrays.toString((double[]) FieldUtils.readField(propRandSelect, "weights", true))
         );
 
         System.out.println(
@@ -74,22 +77,87 @@ public class RouletteWheelSelectionTest {
         System.out.println(Arrays.toString(fractions2));
     }
 
+    /**
+     * The alias table has to draw each chromosome with the probability of the former cumulative sums
+     */
     @Test
-    public void testBisect() throws IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        RouletteWheelSelection testPropRandSelect = new RouletteWheelSelection();
+    public void matchesCumulativeSumDistribution() throws IllegalAccessException {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        Config config = new Config();
+        new GAManager(null, config);
+        int popAmount = 50;
+        Population testPop = SetupHelper.getEvalulatedJSSPPopulation(popAmount, 1);
+        RouletteWheelSelection selection = new RouletteWheelSelection();
+        selection.addNewPopulation(testPop.getChromosomes(), new MakespanFitnessFunction());
+
+        double bestFitness = (double) FieldUtils.readStaticField(RouletteWheelSelection.class, "bestFitness", true);
+        double[] expected = cumulativeSumProbabilities(testPop.getChromosomes(), bestFitness, 0.01,
+                config.getSelectionAggressive());
+        AliasTable aliasTable = (AliasTable) FieldUtils.readField(selection, "aliasTable", true);
+        for (int i = 0; i < popAmount; i++)
+            assertEquals(expected[i], aliasTable.probability(i), 1e-12);
 
-//        FieldUtils.writeField(testPropRandSelect, "cumulativeSums", Arrays.asList(
-//                306., 426., 848., 1165., 1403., 1851., 2204., 2204., 2461., 2921.
-//        ), true);
-        FieldUtils.writeField(testPropRandSelect, "cumulativeSums", Arrays.asList(
-                1., 2.
-        ), true);
+        // Chi squared test of the drawn chromosomes, 99.9% quantile for 49 degrees of freedom
+        List<Chromosome> chromosomes = Arrays.asList(testPop.getChromosomes());
+        SplittableRandom random = new SplittableRandom(3);
+        int draws = 200_000;
+        int[] count = new int[popAmount];
+        for (int i = 0; i < draws; i++)
+            count[chromosomes.indexOf(selection.getNextChromosome(random))]++;
+        double chiSquared = 0;
+        int degreesOfFreedom = -1;
+        for (int i = 0; i < popAmount; i++) {
+            if (expected[i] == 0) {
+                assertEquals(0, count[i]);
+                continue;
+            }
+            chiSquared += Math.pow(count[i] - expected[i] * draws, 2) / (expected[i] * draws);
+            degreesOfFreedom++;
+        }
+        assertTrue(degreesOfFreedom > 40);
+        assertTrue("Chi squared " + chiSquared, chiSquared < 85.4);
+    }
 
-        Method m = testPropRandSelect.getClass().getDeclaredMethod("bisect", double.class);
-        m.setAccessible(true);
+    /**
+     * Chromosomes with equal fitness or without positive weight have to be drawn uniformly or never
+     */
+    @Test
+    public void aliasTableEdgeCases() {
+        AliasTable aliasTable = new AliasTable();
+        aliasTable.build(new double[]{0, 0, 0, 0}, 4);
+        for (int i = 0; i < 4; i++)
+            assertEquals(0.25, aliasTable.probability(i), 0);
+        assertEquals(3, aliasTable.draw(Math.nextDown(1.)));
+
+        aliasTable.build(new double[]{0, 3, -1, 1, Double.NaN}, 4);
+        assertEquals(0, aliasTable.probability(0), 0);
+        assertEquals(0.75, aliasTable.probability(1), 1e-15);
+        assertEquals(0, aliasTable.probability(2), 0);
+        assertEquals(0.25, aliasTable.probability(3), 1e-15);
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 1000; i++) {
+            int index = aliasTable.draw(random.nextDouble());
+            assertTrue(index == 1 || index == 3);
+        }
+    }
 
-        int index = (int) m.invoke(testPropRandSelect, 2);
-        System.out.println(index);
+    /**
+     * Selection probabilities of the former cumulative sum implementation
+     */
+    private static double[] cumulativeSumProbabilities(Chromosome[] chromosomes, double bestFitness,
+                                                       double steepness, double aggression) {
+        double limitValue = Arrays.stream(chromosomes).mapToDouble(c -> c.getFitness().doubleValue()).max().orElse(0) - bestFitness;
+        double midPoint = (Arrays.stream(chromosomes).mapToDouble(c -> c.getFitness().doubleValue()).average().orElse(1) - bestFitness) / limitValue;
+        double[] cumulativeSums = new double[chromosomes.length];
+        for (int i = 0; i < chromosomes.length; i++) {
+            double representativeValue = limitValue - (chromosomes[i].getFitness().doubleValue() - bestFitness);
+            double modifier = 2 / (1 + Math.exp(-steepness * (representativeValue - (limitValue * (midPoint + aggression)))));
+            cumulativeSums[i] = (i > 0 ? cumulativeSums[i - 1] : 0) + representativeValue * modifier;
+        }
+        double[] probabilities = new double[chromosomes.length];
+        for (int i = 0; i < chromosomes.length; i++)
+            probabilities[i] = (cumulativeSums[i] - (i > 0 ? cumulativeSums[i - 1] : 0)) / cumulativeSums[chromosomes.length - 1];
+        return probabilities;
     }
 
 }
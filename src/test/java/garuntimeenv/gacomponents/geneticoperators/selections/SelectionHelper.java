@@ -0,0 +1,54 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.interfaces.Selection;
+
+import java.util.SplittableRandom;
+
+public class SelectionHelper {
+
+    /**
+     * Create chromosomes with the distinct fitness values 1000 + 10 * rank in a shuffled order
+     * The only gene of each chromosome is its rank from the best (0) to the worst (size - 1).
+     */
+    public static Chromosome[] createPopulation(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++)
+            ranks[i] = i;
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        Chromosome[] chromosomes = new Chromosome[size];
+        for (int i = 0; i < size; i++) {
+            chromosomes[i] = new Chromosome(new Genome[]{new Genome(new int[]{ranks[i]})});
+            chromosomes[i].setFitness(1000 + 10 * ranks[i]);
+        }
+        return chromosomes;
+    }
+
+    /**
+     * Count how often each rank from the best gets drawn
+     */
+    public static int[] countRanks(Selection selection, int size, int draws, SplittableRandom random) {
+        int[] count = new int[size];
+        for (int i = 0; i < draws; i++)
+            count[selection.getNextChromosome(random).getGenome()[0].getGenes()[0]]++;
+        return count;
+    }
+
+    /**
+     * Chi squared statistic of the counted draws against the expected probabilities
+     */
+    public static double chiSquared(int[] count, double[] probabilities, int draws) {
+        double chiSquared = 0;
+        for (int i = 0; i < count.length; i++)
+            if (probabilities[i] > 0)
+                chiSquared += Math.pow(count[i] - probabilities[i] * draws, 2) / (probabilities[i] * draws);
+        return chiSquared;
+    }
+}
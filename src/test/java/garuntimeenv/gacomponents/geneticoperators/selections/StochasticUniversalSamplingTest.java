@@ -0,0 +1,83 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StochasticUniversalSamplingTest {
+
+    /**
+     * In each round of n draws every chromosome is drawn the floor or ceiling of its expected number of times
+     */
+    @Test
+    public void drawsExpectedCountsPerRound() {
+        int size = 30;
+        Chromosome[] population = SelectionHelper.createPopulation(size, 6);
+        // The weights are the distances to the worst fitness
+        double[] expected = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++)
+            total += expected[rank] = 10 * (size - 1 - rank);
+        for (int rank = 0; rank < size; rank++)
+            expected[rank] *= size / total;
+
+        StochasticUniversalSampling selection = new StochasticUniversalSampling();
+        for (int generation = 0; generation < 5; generation++) {
+            selection.addNewPopulation(population, new MakespanFitnessFunction());
+            SplittableRandom random = new SplittableRandom(generation);
+            for (int round = 0; round < 3; round++) {
+                int[] count = SelectionHelper.countRanks(selection, size, size, random);
+                for (int rank = 0; rank < size; rank++)
+                    assertTrue(count[rank] >= Math.floor(expected[rank] - 1e-9) &&
+                            count[rank] <= Math.ceil(expected[rank] + 1e-9));
+            }
+        }
+    }
+
+    /**
+     * Concurrent draws take distinct pointers, so a round drawn in parallel keeps the expected counts
+     */
+    @Test
+    public void concurrentDraws() {
+        int size = 1000;
+        Chromosome[] population = SelectionHelper.createPopulation(size, 7);
+        population[3].setFitness(Integer.MAX_VALUE);
+        StochasticUniversalSampling selection = new StochasticUniversalSampling();
+        selection.addNewPopulation(population, new MakespanFitnessFunction());
+
+        int[] counts = new int[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            int rank = selection.getNextChromosome(new SplittableRandom(i)).getGenome()[0].getGenes()[0];
+            synchronized (counts) {
+                counts[rank]++;
+            }
+        });
+        assertEquals(size, IntStream.of(counts).sum());
+        // The chromosome that couldn't be decoded is never drawn
+        assertEquals(0, counts[population[3].getGenome()[0].getGenes()[0]]);
+        // The best chromosome has about twice the average weight
+        assertTrue(counts[0] >= 1 && counts[0] <= 3);
+    }
+
+    /**
+     * The same population and random streams draw the same chromosomes
+     */
+    @Test
+    public void reproducible() {
+        Chromosome[] population = SelectionHelper.createPopulation(25, 8);
+        int[][] counts = new int[2][];
+        for (int run = 0; run < 2; run++) {
+            StochasticUniversalSampling selection = new StochasticUniversalSampling();
+            selection.addNewPopulation(population, new MakespanFitnessFunction());
+            counts[run] = SelectionHelper.countRanks(selection, 25, 60, new SplittableRandom(9));
+        }
+        assertArrayEquals(counts[0], counts[1]);
+    }
+}
@@ -0,0 +1,51 @@
+package garuntimeenv.gacomponents.geneticoperators.selections;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TournamentSelectionTest {
+
+    /**
+     * The best of k draws has rank r from the worst with the probability ((r + 1)^k - r^k) / n^k
+     * The statistic is compared to the 99.9% quantile of 19 degrees of freedom.
+     */
+    @Test
+    public void matchesTournamentDistribution() {
+        int size = 20;
+        int draws = 200_000;
+        Chromosome[] population = SelectionHelper.createPopulation(size, 1);
+        for (int tournamentSize : new int[]{1, 2, 4}) {
+            TournamentSelection selection = new TournamentSelection(tournamentSize);
+            selection.addNewPopulation(population, new MakespanFitnessFunction());
+
+            double[] probabilities = new double[size];
+            for (int rank = 0; rank < size; rank++) {
+                int fromWorst = size - 1 - rank;
+                probabilities[rank] = (Math.pow(fromWorst + 1, tournamentSize) - Math.pow(fromWorst, tournamentSize)) /
+                        Math.pow(size, tournamentSize);
+            }
+            int[] count = SelectionHelper.countRanks(selection, size, draws, new SplittableRandom(tournamentSize));
+            double chiSquared = SelectionHelper.chiSquared(count, probabilities, draws);
+            assertTrue("Chi squared " + chiSquared, chiSquared < 43.8);
+        }
+    }
+
+    /**
+     * Chromosomes that couldn't be decoded only win against each other
+     */
+    @Test
+    public void failedChromosomesLose() {
+        Chromosome[] population = SelectionHelper.createPopulation(10, 2);
+        for (int i = 1; i < population.length; i++)
+            population[i].setFitness(Integer.MAX_VALUE);
+        TournamentSelection selection = new TournamentSelection(population.length * 10);
+        selection.addNewPopulation(population, new MakespanFitnessFunction());
+        assertEquals(population[0], selection.getNextChromosome(new SplittableRandom(3)));
+    }
+}
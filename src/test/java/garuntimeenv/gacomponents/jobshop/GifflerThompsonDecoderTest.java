@@ -0,0 +1,115 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GifflerThompsonDecoderTest {
+
+    private final JobShopGifflerThompsonRep rep = new JobShopGifflerThompsonRep();
+    private final MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+    /**
+     * The decoded schedules have to be feasible and active on the bundled instances
+     */
+    @Test
+    public void decodesActiveSchedules() throws Exception {
+        for (int instance : new int[]{0, 1}) {
+            JobShopProblem problem = SetupHelper.getJobShopProblem(instance);
+            SplittableRandom random = new SplittableRandom(instance);
+            LOX lox = new LOX();
+
+            Chromosome parent = rep.createRandomRep(problem, random);
+            for (int i = 0; i < 200; i++) {
+                // Random chromosomes and offspring of the crossover
+                Chromosome chromosome = i % 2 == 0
+                        ? rep.createRandomRep(problem, random)
+                        : lox.createOffspring(parent, rep.createRandomRep(problem, random), random);
+                JobShopSolution solution = (JobShopSolution) rep.createSolutionFromChromosome(chromosome, problem);
+
+                assertFeasible(solution);
+                assertActive(solution);
+                parent = chromosome;
+            }
+        }
+    }
+
+    /**
+     * The makespan only evaluation has to match the makespan of the decoded schedule
+     */
+    @Test
+    public void makespanMatchesSolution() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 200; i++) {
+            Chromosome chromosome = rep.createRandomRep(problem, random);
+            JobShopSolution solution = (JobShopSolution) rep.createSolutionFromChromosome(chromosome, problem);
+
+            assertEquals(fitnessFunction.calculateFitness(solution).doubleValue(),
+                    rep.calculateFitnessAsDouble(chromosome, problem, fitnessFunction), 0);
+            assertEquals(solution.getMakespan(), rep.calculateFitness(chromosome, problem, fitnessFunction).intValue());
+        }
+    }
+
+    /**
+     * Every operation is scheduled once, after its predecessor and without overlapping on its machine
+     */
+    static void assertFeasible(JobShopSolution solution) {
+        JobShopModel model = solution.getModel();
+        int[] start = solution.getOperationStart();
+        int[] duration = model.getOperationDuration();
+        int[] predecessor = model.getPredecessor();
+
+        boolean[] scheduled = new boolean[model.getNrOperations()];
+        int makespan = 0;
+        int[][] machineSequence = solution.getMachineSequence();
+        for (int m = 0; m < machineSequence.length; m++) {
+            int machineEnd = 0;
+            for (int op : machineSequence[m]) {
+                assertEquals(m, model.getOperationMachine()[op]);
+                assertFalse(scheduled[op]);
+                assertTrue(start[op] >= machineEnd);
+                scheduled[op] = true;
+                machineEnd = start[op] + duration[op];
+            }
+            makespan = Math.max(makespan, machineEnd);
+        }
+        for (int op = 0; op < scheduled.length; op++) {
+            assertTrue(scheduled[op]);
+            if (predecessor[op] != -1)
+                assertTrue(start[op] >= start[predecessor[op]] + duration[predecessor[op]]);
+        }
+        assertEquals(makespan, solution.getMakespan());
+    }
+
+    /**
+     * No operation fits into an idle gap of its machine before its beginning
+     */
+    private static void assertActive(JobShopSolution solution) {
+        JobShopModel model = solution.getModel();
+        int[] start = solution.getOperationStart();
+        int[] duration = model.getOperationDuration();
+        int[] predecessor = model.getPredecessor();
+
+        for (int[] sequence : solution.getMachineSequence()) {
+            for (int k = 0; k < sequence.length; k++) {
+                int op = sequence[k];
+                int ready = predecessor[op] == -1 ? 0 : start[predecessor[op]] + duration[predecessor[op]];
+                int gapStart = 0;
+                for (int g = 0; g < k; g++) {
+                    int gapEnd = start[sequence[g]];
+                    assertTrue("Operation " + op + " fits before " + sequence[g],
+                            Math.max(gapStart, ready) + duration[op] > gapEnd);
+                    gapStart = gapEnd + duration[sequence[g]];
+                }
+            }
+        }
+    }
+}
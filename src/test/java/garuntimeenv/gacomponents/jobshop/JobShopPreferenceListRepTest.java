@@ -3,7 +3,16 @@ package garuntimeenv.gacomponents.jobshop;
 import com.google.gson.stream.MalformedJsonException;
 import garuntimeenv.SetupHelper;
 import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Config;
 import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.geneticoperators.crossover.LOX;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InsertionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.InversionMutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.Mutation;
+import garuntimeenv.gacomponents.geneticoperators.mutations.SwapMutation;
+import garuntimeenv.gacomponents.jobshop.util.Job;
+import garuntimeenv.gacomponents.jobshop.util.Machine;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
 import garuntimeenv.interfaces.IProblem;
 import garuntimeenv.runtimeexceptions.DataTypeNotSupportedException;
 import garuntimeenv.utils.MyLogger;
@@ -11,6 +20,17 @@ import garuntimeenv.utils.ProblemLoader;
 import org.junit.Test;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class JobShopPreferenceListRepTest {
 
@@ -35,6 +55,172 @@ public class JobShopPreferenceListRepTest {
         }
     }
 
+    /**
+     * The decoder working on the scratch arrays has to create the same schedules as the machine based decoding
+     */
+    @Test
+    public void decoderMatchesReference() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep prefListRep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+        LOX lox = new LOX();
+
+        Chromosome parent = prefListRep.createRandomRep(problem);
+        for (int i = 0; i < 200; i++) {
+            Chromosome chromosome = lox.createOffspring(parent, prefListRep.createRandomRep(problem));
+
+            JobShopSolution expected = ReferenceDecoder.decode(chromosome, (JobShopProblem) problem.clone());
+            JobShopSolution decoded = (JobShopSolution) prefListRep.createSolutionFromChromosome(chromosome, (IProblem) problem.clone());
+
+            assertEquals(ReferenceDecoder.scheduleString(expected), ReferenceDecoder.scheduleString(decoded));
+            assertEquals(fitnessFunction.calculateFitness(expected), fitnessFunction.calculateFitness(decoded));
+            parent = chromosome;
+        }
+    }
+
+    /**
+     * The shared problem is only read while decoding, so parallel decodings without cloning it
+     * have to create the same schedules as the reference decoding on a clone
+     */
+    @Test
+    public void decodeSharedProblemInParallel() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep prefListRep = new JobShopPreferenceListRep();
+        assertTrue(problem.isStateless());
+        assertSame(problem, problem.getDecodingInstance());
+
+        List<Chromosome> chromosomes = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            chromosomes.add(prefListRep.createRandomRep(problem));
+
+        List<JobShopSolution> decoded = chromosomes.parallelStream().map(chromosome -> {
+            try {
+                return (JobShopSolution) prefListRep.createSolutionFromChromosome(chromosome, problem);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }).collect(Collectors.toList());
+
+        for (int i = 0; i < chromosomes.size(); i++) {
+            JobShopSolution expected = ReferenceDecoder.decode(chromosomes.get(i), (JobShopProblem) problem.clone());
+            assertEquals(ReferenceDecoder.scheduleString(expected), ReferenceDecoder.scheduleString(decoded.get(i)));
+            assertEquals(expected.getMakespan(), decoded.get(i).getMakespan());
+        }
+    }
+
+    /**
+     * The makespan only evaluation has to match the fitness of the decoded schedule,
+     * which is only built when it is requested
+     */
+    @Test
+    public void evaluateWithoutSolution() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep prefListRep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+
+        for (int i = 0; i < 50; i++) {
+            Chromosome chromosome = prefListRep.createRandomRep(problem);
+            double fitness = chromosome.evaluate(prefListRep, problem, fitnessFunction);
+
+            JobShopSolution expected = ReferenceDecoder.decode(chromosome, (JobShopProblem) problem.clone());
+            assertEquals(fitnessFunction.calculateFitness(expected).doubleValue(), fitness, 0);
+
+            JobShopSolution solution = (JobShopSolution) chromosome.getCorrespondingSolution();
+            assertEquals(ReferenceDecoder.scheduleString(expected), ReferenceDecoder.scheduleString(solution));
+            assertSame(solution, chromosome.getCorrespondingSolution());
+        }
+    }
+
+    /**
+     * Mutants resume the decoding from the trace of their parent, the schedules have to be the same as the ones
+     * of the reference decoding. Each mutant is the parent of the next one, so resumed traces get resumed again.
+     * Mutants of parents without a trace are decoded completely.
+     */
+    @Test
+    public void mutantsResumeFromParent() throws Exception {
+        JobShopProblem problem = SetupHelper.getJobShopProblem(1);
+        JobShopPreferenceListRep prefListRep = new JobShopPreferenceListRep();
+        MakespanFitnessFunction fitnessFunction = new MakespanFitnessFunction();
+        new Config().setSubGenomeMutationProbability(0.1);
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (Mutation mutation : new Mutation[]{new SwapMutation(), new InsertionMutation(), new InversionMutation()}) {
+            Chromosome parent = prefListRep.createRandomRep(problem);
+            parent.evaluate(prefListRep, problem, fitnessFunction);
+            // The trace is only kept if the evaluation requested it
+            assertNull(parent.getDecodingTrace());
+            for (int i = 0; i < 200; i++) {
+                Chromosome mutant = mutation.applyMutation(parent, random);
+                assertSame(parent, mutant.getMutationParent());
+
+                JobShopSolution expected = ReferenceDecoder.decode(mutant, (JobShopProblem) problem.clone());
+                JobShopSolution decoded = (JobShopSolution) prefListRep.createSolutionFromChromosome(mutant, problem);
+                assertEquals(ReferenceDecoder.scheduleString(expected), ReferenceDecoder.scheduleString(decoded));
+                assertNull(mutant.getDecodingTrace());
+
+                mutant.requestDecodingTrace();
+                assertEquals(expected.getMakespan(), mutant.evaluate(prefListRep, problem, fitnessFunction), 0);
+                assertNull(mutant.getMutationParent());
+                assertFalse(mutant.isDecodingTraceRequested());
+                assertNotNull(mutant.getDecodingTrace());
+                // Every other mutant drops its trace, so its own mutant is decoded completely
+                if (i % 2 == 1)
+                    mutant.setDecodingTrace(null);
+                parent = mutant;
+            }
+        }
+    }
+
+    /**
+     * An operation whose earliest beginning equals the start of a scheduled operation can't use the gap in front of
+     * it, even if the gap is longer than its duration, and has to be put behind that operation instead of on top of it.
+     * Machine 1 holds job 1 at [0, 1) and job 0 at [3, 5), job 2 becomes ready for it at 3 with a duration of 1.
+     */
+    @Test
+    public void noOverlapAtEarliestBeginning() {
+        Integer[][] processingTime = {{3, 2, 1}, {1, 1, 1}, {3, 1, 1}};
+        Integer[][] machineSequence = {{1, 2, 3}, {2, 1, 3}, {3, 2, 1}};
+        JobShopModel model = new JobShopModel(3, processingTime, machineSequence);
+
+        Chromosome chromosome = new Chromosome(new Genome[]{
+                new Genome(new int[]{0, 1, 2}), new Genome(new int[]{1, 0, 2}), new Genome(new int[]{2, 0, 1})});
+        JobShopSolution decoded = PreferenceListDecoder.decode(chromosome, model);
+        GifflerThompsonDecoderTest.assertFeasible(decoded);
+        assertEquals(3, decoded.getOperationStart()[model.getOperation(0, 1)]);
+        assertEquals(5, decoded.getOperationStart()[model.getOperation(2, 1)]);
+
+        // The same insertions on the machines of the object model
+        Job[] jobs = new Job[processingTime.length];
+        for (int j = 0; j < jobs.length; j++) {
+            jobs[j] = new Job(j);
+            Operation[] operations = new Operation[processingTime[j].length];
+            for (int o = 0; o < operations.length; o++)
+                operations[o] = new Operation(jobs[j], o, processingTime[j][o], machineSequence[j][o] - 1);
+            jobs[j].setOperations(operations);
+        }
+        Machine[] machines = {new Machine(0), new Machine(1), new Machine(2)};
+        int[][] insertions = {{0, 0}, {1, 0}, {2, 0}, {0, 1}, {2, 1}, {1, 1}, {0, 2}, {1, 2}, {2, 2}};
+        for (int[] insertion : insertions) {
+            Operation op = jobs[insertion[0]].getOperations().get(insertion[1]);
+            machines[op.getMachine()].insertOperationFirstFitting(op);
+        }
+
+        int[][] sequence = new int[machines.length][];
+        int[] operationStart = new int[model.getNrOperations()];
+        for (int m = 0; m < machines.length; m++) {
+            List<Operation> operations = machines[m].getOperations();
+            sequence[m] = new int[operations.size()];
+            for (int k = 0; k < operations.size(); k++) {
+                Operation op = operations.get(k);
+                sequence[m][k] = model.getOperation(op.getJob().getId(), m);
+                operationStart[sequence[m][k]] = op.getBeginning();
+            }
+        }
+        int makespan = new JobShopSolution(machines).getMakespan();
+        GifflerThompsonDecoderTest.assertFeasible(new JobShopSolution(model, sequence, operationStart, makespan));
+        assertEquals(5, jobs[2].getOperations().get(1).getBeginning());
+    }
+
     @Test
     public void testCreateRandomSolution() {
         JobShopProblem problem = SetupHelper.getJobShopProblem(1);
@@ -0,0 +1,109 @@
+package garuntimeenv.gacomponents.jobshop;
+
+import garuntimeenv.gacomponents.Chromosome;
+import garuntimeenv.gacomponents.Genome;
+import garuntimeenv.gacomponents.jobshop.util.Job;
+import garuntimeenv.gacomponents.jobshop.util.Machine;
+import garuntimeenv.gacomponents.jobshop.util.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The list and machine based decoding of the preference list representation
+ * Used as reference for the decoders working on primitive arrays
+ */
+public class ReferenceDecoder {
+
+    public static JobShopSolution decode(Chromosome rep, JobShopProblem problem) {
+        JobShopSolution solution = new JobShopSolution(problem.getNr_machines());
+
+        List<Integer>[] chromosome = new ArrayList[rep.getGenome().length];
+        for (int i = 0; i < chromosome.length; i++) {
+            chromosome[i] = new ArrayList<>();
+            for (int gene : rep.getGenome()[i].getGenes())
+                chromosome[i].add(gene);
+        }
+
+        int tempCounter = 0;
+        boolean allScheduled;
+        do {
+            int skipPosition = tempCounter / problem.getNr_machines();
+            allScheduled = true;
+            List<Operation> scheduledOperation = new ArrayList<>();
+            for (int i = 0; i < chromosome.length; i++) {
+                if (chromosome[i].isEmpty() || skipPosition >= chromosome[i].size())
+                    continue;
+                Job currentJob = problem.getJobById(chromosome[i].get(skipPosition));
+                Operation toBeScheduledOperation = currentJob.getOperationOfMachine(i);
+                if (toBeScheduledOperation.getPriorOperation() != null &&
+                        !toBeScheduledOperation.getPriorOperation().isScheduled()) {
+                    tempCounter++;
+                    allScheduled = false;
+                    continue;
+                }
+                insertFirstFittingLinear(solution.getMachine(i).getOperations(), toBeScheduledOperation);
+                scheduledOperation.add(toBeScheduledOperation);
+                chromosome[i].remove(skipPosition);
+                tempCounter = 0;
+                if (!chromosome[i].isEmpty())
+                    allScheduled = false;
+            }
+            for (Operation op : scheduledOperation)
+                op.setScheduled(true);
+        } while (!allScheduled);
+
+        return solution;
+    }
+
+    /**
+     * The linear gap search over the operation list of a machine as it was done before the machine timeline
+     *
+     * @param operations The operations of the machine ordered by their beginning
+     * @param op         The operation to be inserted
+     */
+    public static void insertFirstFittingLinear(List<Operation> operations, Operation op) {
+        int beginning = 0;
+        int position = 0;
+        int earliestPossibleBeginning = op.getPriorOperation() == null ?
+                0 : op.getPriorOperation().getBeginning() + op.getPriorOperation().getDuration();
+
+        for (Operation inListOp : operations) {
+            if (inListOp.getBeginning() == beginning || earliestPossibleBeginning >= inListOp.getBeginning()) {
+                beginning = inListOp.getBeginning() + inListOp.getDuration();
+                position += 1;
+                continue;
+            }
+
+            int tempBeginning = beginning;
+            if (earliestPossibleBeginning > beginning && earliestPossibleBeginning < inListOp.getBeginning())
+                tempBeginning = earliestPossibleBeginning;
+
+            if (op.getDuration() < inListOp.getBeginning() - tempBeginning)
+                break;
+
+            beginning = inListOp.getBeginning() + inListOp.getDuration();
+            position += 1;
+        }
+
+        op.setBeginning(Math.max(beginning, earliestPossibleBeginning));
+        operations.add(position, op);
+    }
+
+    /**
+     * Create a string of the schedule containing job, order and beginning of each operation
+     *
+     * @param solution The schedule
+     * @return The string representing the schedule
+     */
+    public static String scheduleString(JobShopSolution solution) {
+        StringBuilder schedule = new StringBuilder();
+        for (Machine machine : solution.getMachines()) {
+            for (Operation op : machine.getOperations())
+                schedule.append(op.getJob().getId()).append('_').append(op.getOrder())
+                        .append('@').append(op.getBeginning()).append(' ');
+            schedule.append('\n');
+        }
+        return schedule.toString();
+    }
+}
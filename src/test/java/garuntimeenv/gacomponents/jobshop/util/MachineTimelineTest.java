@@ -0,0 +1,125 @@
+package garuntimeenv.gacomponents.jobshop.util;
+
+import garuntimeenv.gacomponents.jobshop.ReferenceDecoder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MachineTimelineTest {
+
+    /**
+     * The indexed gap search has to insert at the same position and time as the linear scan.
+     * The small time ranges produce many operations starting exactly at the earliest possible beginning.
+     */
+    @Test
+    public void matchesLinearScan() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            int maxTime = 1 + random.nextInt(run < 100 ? 20 : 2000);
+            int maxDuration = 1 + random.nextInt(run < 100 ? 5 : 100);
+            MachineTimeline timeline = new MachineTimeline(1);
+            List<int[]> reference = new ArrayList<>();
+
+            for (int i = 0; i < 300; i++) {
+                int duration = random.nextInt(maxDuration) + 1;
+                int earliest = random.nextInt(maxTime);
+
+                int expectedPosition = insertLinear(reference, i, duration, earliest);
+                int position = timeline.insertFirstFitting(i, duration, earliest);
+
+                assertEquals(expectedPosition, position);
+                assertEquals(reference.get(position)[1], timeline.getStart(position));
+            }
+
+            int[] ids = new int[timeline.size()];
+            timeline.copyIds(ids);
+            assertArrayEquals(reference.stream().mapToInt(entry -> entry[0]).toArray(), ids);
+            for (int k = 0; k < reference.size(); k++) {
+                assertEquals(reference.get(k)[1], timeline.getStart(k));
+                assertEquals(reference.get(k)[2], timeline.getEnd(k));
+            }
+        }
+    }
+
+    /**
+     * A cleared timeline has to behave like a new one
+     */
+    @Test
+    public void clearAndReuse() {
+        MachineTimeline timeline = new MachineTimeline();
+        timeline.insertFirstFitting(0, 5, 10);
+        timeline.insertFirstFitting(1, 3, 0);
+        timeline.clear();
+        assertEquals(0, timeline.size());
+
+        assertEquals(0, timeline.insertFirstFitting(2, 4, 3));
+        assertEquals(3, timeline.getStart(0));
+        assertEquals(0, timeline.insertFirstFitting(3, 2, 0));
+        assertEquals(0, timeline.getStart(0));
+        assertEquals(2, timeline.getId(1));
+    }
+
+    /**
+     * The machine has to schedule its operations like the linear scan over the operation list
+     */
+    @Test
+    public void machineMatchesLinearScan() {
+        Random random = new Random(7);
+        Machine machine = new Machine(0);
+        List<Operation> reference = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            int priorEnd = random.nextInt(300);
+            int duration = random.nextInt(20) + 1;
+            Operation op = createOperation(i, priorEnd, duration);
+            Operation referenceOp = createOperation(i, priorEnd, duration);
+
+            machine.insertOperationFirstFitting(op);
+            ReferenceDecoder.insertFirstFittingLinear(reference, referenceOp);
+            assertEquals(referenceOp.getBeginning(), op.getBeginning());
+        }
+        for (int k = 0; k < reference.size(); k++)
+            assertEquals(reference.get(k).getBeginning(), machine.getOperations().get(k).getBeginning());
+    }
+
+    /**
+     * Create the second operation of a job whose first operation ends at {@code priorEnd}
+     */
+    private static Operation createOperation(int jobId, int priorEnd, int duration) {
+        Job job = new Job(jobId);
+        Operation prior = new Operation(job, 0, priorEnd, 1, 0);
+        Operation op = new Operation(job, 1, duration, 0);
+        job.setOperations(new Operation[]{prior, op});
+        return op;
+    }
+
+    /**
+     * Linear scan over entries of id, start and end, copied from the former machine implementation
+     */
+    private static int insertLinear(List<int[]> timeline, int id, int duration, int earliestPossibleBeginning) {
+        int beginning = 0;
+        int position = 0;
+        for (int[] entry : timeline) {
+            if (entry[1] == beginning || earliestPossibleBeginning >= entry[1]) {
+                beginning = entry[2];
+                position++;
+                continue;
+            }
+            int tempBeginning = beginning;
+            if (earliestPossibleBeginning > beginning && earliestPossibleBeginning < entry[1])
+                tempBeginning = earliestPossibleBeginning;
+            if (duration < entry[1] - tempBeginning)
+                break;
+            beginning = entry[2];
+            position++;
+        }
+        int start = Math.max(beginning, earliestPossibleBeginning);
+        timeline.add(position, new int[]{id, start, start + duration});
+        return position;
+    }
+}
@@ -0,0 +1,93 @@
+package garuntimeenv.gacomponents.termination;
+
+import garuntimeenv.SetupHelper;
+import garuntimeenv.envcomponents.EnvConfig;
+import garuntimeenv.envcomponents.TestManager;
+import garuntimeenv.envcomponents.datalog.DataManager;
+import garuntimeenv.envcomponents.datalog.DataSeries;
+import garuntimeenv.gacomponents.Config;
+import garuntimeenv.gacomponents.GAManager;
+import garuntimeenv.gacomponents.jobshop.JobShopProblem;
+import garuntimeenv.gacomponents.jobshop.MakespanFitnessFunction;
+import garuntimeenv.interfaces.Property;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TerminationCriteriaTest {
+
+    @Test
+    public void stagnation() {
+        RunState state = new RunState(new MakespanFitnessFunction());
+        Stagnation stagnation = new Stagnation(3);
+        stagnation.reset();
+
+        int[] bestFitness = {20, 18, 18, 18, 17, 17, 17, 17};
+        String[] reasons = new String[bestFitness.length];
+        for (int generation = 0; generation < bestFitness.length; generation++) {
+            state.update(generation, bestFitness[generation], 10);
+            reasons[generation] = stagnation.checkTermination(state);
+        }
+        for (int generation = 0; generation < 7; generation++)
+            assertNull(reasons[generation]);
+        assertNotNull(reasons[7]);
+    }
+
+    @Test
+    public void budgetsAndBounds() {
+        SetupHelper.getJobShopProblem(1);   // Loads the lower bound 1232
+        RunState state = new RunState(new MakespanFitnessFunction());
+        OptimumReached optimum = new OptimumReached();
+        TargetGap gap = new TargetGap(0.1);
+        EvaluationBudget evaluations = new EvaluationBudget(250);
+        optimum.reset();
+        gap.reset();
+
+        // Nothing is evaluated yet
+        assertTrue(Double.isNaN(state.getBestFitness()));
+        assertNull(optimum.checkTermination(state));
+        assertNull(gap.checkTermination(state));
+
+        state.update(0, 1400, 200);
+        assertNull(optimum.checkTermination(state));
+        assertNull(gap.checkTermination(state));
+        assertNull(evaluations.checkTermination(state));
+
+        state.update(1, 1350, 200);
+        assertNull(optimum.checkTermination(state));
+        assertNotNull(gap.checkTermination(state));
+        assertNotNull(evaluations.checkTermination(state));
+
+        state.update(2, 1232, 200);
+        assertEquals("Optimum reached: 1232 in generation 2", optimum.checkTermination(state));
+
+        assertNull(new WallClockBudget(60000).checkTermination(state));
+        assertNotNull(new WallClockBudget(0).checkTermination(state));
+    }
+
+    /**
+     * The 3x3 instance reaches its lower bound within a few generations, the run has to stop there
+     */
+    @Test
+    public void runStopsAtOptimum() {
+        EnvConfig.getInstance().setVisualEnabled(false);
+        JobShopProblem problem = SetupHelper.getJobShopProblem(0);
+        TestManager.getInstance().setGenerationLimit(500);
+        Config config = new Config();
+        config.setPopulationSize(30);
+        config.addTerminationCriterion(new OptimumReached());
+        DataSeries series = DataManager.getInstance().createNewDataSeries("Termination Test Series", config,
+                new Property() {
+                });
+
+        GAManager manager = new GAManager(problem, config);
+        manager.startEnvironment();
+
+        assertEquals(11, manager.getBestChromosome().getFitness().intValue());
+        assertTrue(manager.getRunState().getGeneration() < 499);
+        assertTrue(series.getTerminationReason().startsWith("Optimum reached"));
+    }
+}